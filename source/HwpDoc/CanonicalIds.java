@@ -0,0 +1,59 @@
+/* Copyright (C) 2023 ebandal
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>
+ */
+/* 본 제품은 한글과컴퓨터의 ᄒᆞᆫ글 문서 파일(.hwp) 공개 문서를 참고하여 개발하였습니다.
+ * 개방형 워드프로세서 마크업 언어(OWPML) 문서 구조 KS X 6101:2018 문서를 참고하였습니다.
+ * 작성자 : 반희수 ebandal@gmail.com  
+ * 작성일 : 2022.10
+ */
+package HwpDoc;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/*
+ * DocInfo 의 같은 종류 record 들 중 byte 가 똑같은 것을 묶는다. 각 index 에 대해 처음 나온 같은 record 의 index 를 기억한다.
+ * record 내용은 parse 하는 동안만 key 로 들고 있고, done() 뒤에는 index 표만 남는다.
+ */
+final class CanonicalIds {
+    private HashMap<ByteBuffer, Integer> seen = new HashMap<>();
+    private int[] ids = new int[16];
+    private int count;
+    
+    /*
+     * 다음 record 를 더하고, 같은 내용이 이미 있었으면 그 index 를, 처음이면 -1 을 돌려준다.
+     */
+    int add(byte[] buf, int off, int size) {
+        Integer first = seen.putIfAbsent(ByteBuffer.wrap(buf, off, size).slice(), count);
+        if (count == ids.length) {
+            ids = Arrays.copyOf(ids, count*2);
+        }
+        ids[count] = first==null ? count : first;
+        count++;
+        return first==null ? -1 : first;
+    }
+    
+    /*
+     * index 와 내용이 같은 첫 record 의 index. 묶지 않은 record(HWPX 등) 는 자기 index 를 돌려준다.
+     */
+    int get(int index) {
+        return index >= 0 && index < count ? ids[index] : index;
+    }
+    
+    void done() {
+        seen = new HashMap<>();
+    }
+}
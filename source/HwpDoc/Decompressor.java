@@ -0,0 +1,158 @@
+/* Copyright (C) 2023 ebandal
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>
+ */
+/* 본 제품은 한글과컴퓨터의 ᄒᆞᆫ글 문서 파일(.hwp) 공개 문서를 참고하여 개발하였습니다.
+ * 개방형 워드프로세서 마크업 언어(OWPML) 문서 구조 KS X 6101:2018 문서를 참고하였습니다.
+ * 작성자 : 반희수 ebandal@gmail.com  
+ * 작성일 : 2022.10
+ */
+package HwpDoc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/*
+ * hwp, hwpx 의 압축(raw deflate)을 푼다.
+ * Inflater 는 native memory 를 쓰므로 pool 에 두고 재사용하며, pool 에 들어가지 못한 것은 바로 end() 한다.
+ */
+public class Decompressor {
+    private static final int POOL_SIZE = 8;
+    private static final int BUFFER_SIZE = 65536;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    
+    private static final ArrayBlockingQueue<Inflater> pool = new ArrayBlockingQueue<Inflater>(POOL_SIZE);
+    
+    private Decompressor() {
+    }
+    
+    private static Inflater acquire() {
+        Inflater inflater = pool.poll();
+        return inflater==null ? new Inflater(true) : inflater;
+    }
+    
+    private static void release(Inflater inflater) {
+        inflater.reset();
+        if (!pool.offer(inflater)) {
+            inflater.end();
+        }
+    }
+    
+    /*
+     * 압축을 푼 크기(sizeHint)를 알면 그 크기로 할당해서 복사 없이 돌려준다. 모르면 0 이하를 넘긴다.
+     */
+    public static byte[] unzip(byte[] input, int inLen, long sizeHint) throws IOException, DataFormatException {
+        Inflater decompressor = acquire();
+        try {
+            decompressor.setInput(input, 0, inLen);
+            byte[] output = new byte[initialSize(sizeHint, inLen)];
+            byte[] one = new byte[1];
+            int outLen = 0;
+            while (!decompressor.finished()) {
+                int count;
+                if (outLen < output.length) {
+                    count = decompressor.inflate(output, outLen, output.length-outLen);
+                } else {
+                    // 예상한 크기를 다 채웠으면, 더 풀 것이 있을 때만 늘린다.
+                    count = decompressor.inflate(one);
+                    if (count > 0) {
+                        output = grow(output);
+                        output[outLen] = one[0];
+                    }
+                }
+                if (count == 0 && !decompressor.finished() && (decompressor.needsInput() || decompressor.needsDictionary())) {
+                    throw new IOException("can't decompress data");
+                }
+                outLen += count;
+            }
+            return outLen==output.length ? output : Arrays.copyOf(output, outLen);
+        } finally {
+            release(decompressor);
+        }
+    }
+    
+    public static byte[] unzip(InputStream input, long sizeHint) throws IOException {
+        try (InputStream is = openStream(input)) {
+            byte[] output = new byte[initialSize(sizeHint, 0)];
+            int outLen = 0;
+            while (true) {
+                if (outLen == output.length) {
+                    // 예상한 크기를 다 채웠으면, 더 풀 것이 있을 때만 늘린다.
+                    int b = is.read();
+                    if (b < 0) break;
+                    output = grow(output);
+                    output[outLen++] = (byte)b;
+                }
+                int readLen = is.read(output, outLen, output.length-outLen);
+                if (readLen < 0) break;
+                outLen += readLen;
+            }
+            return outLen==output.length ? output : Arrays.copyOf(output, outLen);
+        }
+    }
+    
+    public static void unzip(InputStream input, OutputStream output) throws IOException {
+        try (InputStream is = openStream(input)) {
+            is.transferTo(output);
+        }
+    }
+    
+    /*
+     * 압축을 풀면서 읽는 stream. close() 하면 Inflater 를 pool 로 돌려주고 input 도 닫는다.
+     */
+    public static InputStream openStream(InputStream input) {
+        return new PooledInflaterInputStream(input, acquire());
+    }
+    
+    private static int initialSize(long sizeHint, int inLen) {
+        if (sizeHint > 0) {
+            return (int)Math.min(sizeHint, MAX_ARRAY_SIZE);
+        }
+        // 크기를 모르면 압축된 크기의 4배로 시작한다.
+        return (int)Math.min(Math.max((long)inLen*4, 8192), MAX_ARRAY_SIZE);
+    }
+    
+    private static byte[] grow(byte[] buf) throws IOException {
+        if (buf.length >= MAX_ARRAY_SIZE) {
+            throw new IOException("decompressed data is too large");
+        }
+        return Arrays.copyOf(buf, (int)Math.min((long)buf.length*2, MAX_ARRAY_SIZE));
+    }
+    
+    private static class PooledInflaterInputStream extends InflaterInputStream {
+        private boolean closed;
+        
+        PooledInflaterInputStream(InputStream input, Inflater inflater) {
+            super(input, inflater, BUFFER_SIZE);
+        }
+        
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                try {
+                    super.close();
+                } finally {
+                    release(inf);
+                }
+            }
+        }
+    }
+}
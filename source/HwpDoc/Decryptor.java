@@ -0,0 +1,217 @@
+/* Copyright (C) 2023 ebandal
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>
+ */
+/* 본 제품은 한글과컴퓨터의 ᄒᆞᆫ글 문서 파일(.hwp) 공개 문서를 참고하여 개발하였습니다.
+ * 개방형 워드프로세서 마크업 언어(OWPML) 문서 구조 KS X 6101:2018 문서를 참고하였습니다.
+ * 작성자 : 반희수 ebandal@gmail.com  
+ * 작성일 : 2022.10
+ */
+package HwpDoc;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+
+import HwpDoc.Exception.HwpParseException;
+import HwpDoc.HwpElement.HwpTag;
+import HwpDoc.HwpElement.RecordCursor;
+
+/*
+ * 배포용 문서의 ViewText 를 복호화한다. 문서 하나에 하나씩 만든다.
+ * 난수 seed 는 section 마다 따로 가지고, Cipher 는 재사용하므로 여러 section 을 동시에 복호화할 수 있다.
+ */
+class Decryptor {
+    private static final int BLOCK_SIZE = 16;
+    private static final int BUFFER_SIZE = 65536;
+    
+    private final ConcurrentLinkedQueue<Cipher> ciphers = new ConcurrentLinkedQueue<Cipher>();
+    
+    /*
+     * DISTRIBUTE_DOC_DATA record 를 읽어 key 를 구하고, 나머지를 읽으면서 복호화하는 stream 을 돌려준다.
+     * close() 하면 input 도 닫는다.
+     */
+    InputStream openStream(InputStream input) throws HwpParseException, IOException {
+        byte[] buf = input.readNBytes(4+256);
+        if (buf.length < 8) {
+            throw new HwpParseException();
+        }
+        RecordCursor cursor = new RecordCursor(buf).nextHeader();
+        int offset = cursor.position();
+        int size = cursor.size();
+        
+        if (cursor.tag()!=HwpTag.HWPTAG_DISTRIBUTE_DOC_DATA) {
+            throw new HwpParseException();
+        }
+        if (size != 256 || buf.length < offset+256) {
+            throw new HwpParseException();
+        }
+        
+        byte[] docData = new byte[256];
+        System.arraycopy(buf, offset, docData, 0, 256);
+        
+        int seed = RecordCursor.getInt(docData, 0);
+        int hashoffset = (seed & 0x0f)+4;
+        
+        // 한글문서파일형식_배포용문서_revision1.2.hwp
+        // MS Visual C의 랜덤함수 srand(), rand()를 사용
+        // 1. srand() 초기화 (Seed 사용)
+        // 2. rand()함수의 결과 값을 이용하여 배열을 채운다. 단, rand()함수가 호출되는 순번에 따라 그 사용 방식이 달라진다.홀수번째 : 배열에 채워지는 값짝수번째 : 배열에 채워지는 횟수
+        // 3. 홀수번째 rand() & 0xFF의 값을 A라 하고, 짝수번째 (rand() & 0x0F + 1)의 결과를 B라 할 때배열에 A값을 B번 횟수만큼 삽입한다.예를 들어 A가 ‘a’이고, B가 3일 경우에 배열에 ‘a’를 3번 삽입한다.
+        // 4. 배열크기가 256이 될 때까지 3항을 반복한다.
+        Rand rand = new Rand(seed);
+        for (int i=0; i < 256; ) {
+            byte a = (byte) (rand.rand() & 0x000000FF);
+            int cnt = (rand.rand() & 0x0000000F) + 1;
+            for (int j=0; j<cnt && i<256; j++,i++) {
+                docData[i] ^= a;
+            }
+        }
+        
+        Cipher cipher = acquire();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(docData, hashoffset, 16, "AES"));
+        } catch (GeneralSecurityException e) {
+            throw new HwpParseException(e);
+        }
+        return new DecryptInputStream(input, cipher);
+    }
+    
+    private Cipher acquire() throws HwpParseException {
+        Cipher cipher = ciphers.poll();
+        if (cipher == null) {
+            try {
+                cipher = Cipher.getInstance("AES/ECB/NoPadding");
+            } catch (GeneralSecurityException e) {
+                throw new HwpParseException(e);
+            }
+        }
+        return cipher;
+    }
+    
+    private void release(Cipher cipher) {
+        ciphers.offer(cipher);
+    }
+    
+    // MS Visual C 의 srand(), rand()
+    private static class Rand {
+        private int random_seed;
+        
+        Rand(int seed) {
+            random_seed = seed;
+        }
+        
+        int rand() {
+            random_seed = (random_seed * 214013 + 2531011) & 0xFFFFFFFF;
+            return ((random_seed >> 16) & 0x7FFF);
+        }
+    }
+    
+    /*
+     * BUFFER_SIZE 만큼씩 읽어서 복호화한다. AES/ECB 이므로 block 단위로 따로 풀 수 있다.
+     */
+    private class DecryptInputStream extends FilterInputStream {
+        private Cipher cipher;
+        private byte[] inBuf = new byte[BUFFER_SIZE];
+        private byte[] outBuf = new byte[BUFFER_SIZE];
+        private int outPos;
+        private int outLen;
+        private boolean eof;
+        
+        DecryptInputStream(InputStream input, Cipher cipher) {
+            super(input);
+            this.cipher = cipher;
+        }
+        
+        private boolean fill() throws IOException {
+            while (outPos == outLen) {
+                if (eof || cipher == null) {
+                    return false;
+                }
+                int readLen = in.readNBytes(inBuf, 0, inBuf.length);
+                if (readLen < inBuf.length) {
+                    eof = true;
+                }
+                if (readLen % BLOCK_SIZE != 0) {
+                    throw new IOException("encrypted data is not a multiple of block size");
+                }
+                try {
+                    outLen = cipher.update(inBuf, 0, readLen, outBuf, 0);
+                } catch (ShortBufferException e) {
+                    throw new IOException(e);
+                }
+                outPos = 0;
+            }
+            return true;
+        }
+        
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return outBuf[outPos++] & 0xFF;
+        }
+        
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int readLen = Math.min(len, outLen-outPos);
+            System.arraycopy(outBuf, outPos, b, off, readLen);
+            outPos += readLen;
+            return readLen;
+        }
+        
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = 0;
+            while (skipped < n && fill()) {
+                int skipLen = (int)Math.min(n-skipped, outLen-outPos);
+                outPos += skipLen;
+                skipped += skipLen;
+            }
+            return skipped;
+        }
+        
+        @Override
+        public int available() {
+            return outLen-outPos;
+        }
+        
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            if (cipher != null) {
+                release(cipher);
+                cipher = null;
+            }
+            super.close();
+        }
+    }
+}
@@ -20,13 +20,12 @@
  */
 package HwpDoc;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -37,6 +36,7 @@ import org.w3c.dom.NodeList;
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
 import HwpDoc.HwpElement.HwpRecord;
+import HwpDoc.HwpElement.HwpRecordTypes;
 import HwpDoc.HwpElement.HwpRecord_BinData;
 import HwpDoc.HwpElement.HwpRecord_BorderFill;
 import HwpDoc.HwpElement.HwpRecord_Bullet;
@@ -49,6 +49,7 @@ import HwpDoc.HwpElement.HwpRecord_ParaShape;
 import HwpDoc.HwpElement.HwpRecord_Style;
 import HwpDoc.HwpElement.HwpRecord_TabDef;
 import HwpDoc.HwpElement.HwpTag;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class HwpDocInfo {
 	private static final Logger log = Logger.getLogger(HwpDocInfo.class.getName());
@@ -67,6 +68,20 @@ public class HwpDocInfo {
 	public List<HwpRecord> styleList;
 	public List<HwpRecord> tabDefList;
 	public CompatDoc       compatibleDoc;
+	private ParseTracer    tracer;		// null 이면 record 를 기록하지 않는다.
+	private ParseMode      mode = ParseMode.FULL;	// TEXT_ONLY 이면 BinData 를 등록하지 않는다.
+	// 내용이 같은 모양 record 는 처음 나온 객체를 같이 쓴다. 글자 모양은 그 ID 를 canonical ID 로 돌려준다.
+	private CanonicalIds   borderFillIds   = new CanonicalIds();
+	private CanonicalIds   charShapeIds    = new CanonicalIds();
+	private CanonicalIds   paraShapeIds    = new CanonicalIds();
+	// 변환하면서 ID 로 바로 찾는 표. parse()/read() 가 끝날 때 목록에서 만든다.
+	private HwpRecord_BorderFill[] borderFills  = new HwpRecord_BorderFill[0];
+	private HwpRecord_CharShape[]  charShapes   = new HwpRecord_CharShape[0];
+	private HwpRecord_Numbering[]  numberings   = new HwpRecord_Numbering[0];
+	private HwpRecord_Bullet[]     bullets      = new HwpRecord_Bullet[0];
+	private HwpRecord_ParaShape[]  paraShapes   = new HwpRecord_ParaShape[0];
+	private HwpRecord_Style[]      styles       = new HwpRecord_Style[0];
+	private HwpRecord_TabDef[]     tabDefs      = new HwpRecord_TabDef[0];
 	
     public HwpDocInfo(HanType hanType) {
         recordList      = new ArrayList<HwpRecord>();
@@ -93,24 +108,28 @@ public class HwpDocInfo {
         this.parentHwp = parent;
     }
 	
+	void setTracer(ParseTracer tracer) {
+		this.tracer = tracer;
+	}
+	
+	void setParseMode(ParseMode mode) {
+		this.mode = mode;
+	}
+	
 	boolean parse(byte[] buf, int version) throws HwpParseException {
-		int off = 0;
-		while(off < buf.length) {
-			int header = buf[off+3]<<24&0xFF000000 | buf[off+2]<<16&0xFF0000 | buf[off+1]<<8&0xFF00 | buf[off]&0xFF;
-			int tagNum = header&0x3FF;				// 10 bits (0 - 9 bit)
-			int level = (header&0xFFC00)>>>10;		// 10 bits (10-19 bit)
-			int size =  (header&0xFFF00000)>>>20;	// 12 bits (20-31 bit)
-			
-			if (size==0xFFF) {
-				size = buf[off+7]<<24&0xFF000000 | buf[off+6]<<16&0xFF0000 | buf[off+5]<<8&0xFF00 | buf[off+4]&0xFF;
-				off += 8;
-			} else {
-				off += 4;
-			}
+		RecordCursor cursor = new RecordCursor(buf);
+		while(cursor.hasRemaining()) {
+			cursor.nextHeader();
+			int tagNum = cursor.tagNum();
+			int level = cursor.level();
+			int size = cursor.size();
+			int off = cursor.position();
 			
 			HwpRecord record = null;
 			HwpTag tag = HwpTag.from(tagNum);
-			log.fine(IntStream.rangeClosed(0, level).mapToObj(i -> String.valueOf(i)).collect(Collectors.joining())+"[TAG]="+tag.toString()+" ("+size+")");
+			if (tracer != null) {
+				tracer.record("DocInfo", level, tagNum, size);
+			}
 			switch(tag) {
 			case HWPTAG_DOCUMENT_PROPERTIES:
 				record = new HwpRecord_DocumentProperties(this, tagNum, level, size, buf, off, version);
@@ -121,6 +140,9 @@ public class HwpDocInfo {
 				recordList.add(record);
 				break;
 			case HWPTAG_BIN_DATA:
+			    if (mode == ParseMode.TEXT_ONLY) {
+			        break;
+			    }
 			    HwpRecord_BinData binRecord = new HwpRecord_BinData(this, tagNum, level, size, buf, off, version);
 				binDataList.put(binRecord.itemId, binRecord);
 				break;
@@ -129,12 +151,18 @@ public class HwpDocInfo {
 				faceNameList.add(record);
 				break;
 			case HWPTAG_BORDER_FILL:
-				record = new HwpRecord_BorderFill(this, tagNum, level, size, buf, off, version);
-				borderFillList.add(record);
+				{
+					int same = borderFillIds.add(buf, off, size);
+					record = same < 0 ? new HwpRecord_BorderFill(this, tagNum, level, size, buf, off, version) : borderFillList.get(same);
+					borderFillList.add(record);
+				}
 				break;
 			case HWPTAG_CHAR_SHAPE:
-				record = new HwpRecord_CharShape(this, tagNum, level, size, buf, off, version);
-				charShapeList.add(record);
+				{
+					int same = charShapeIds.add(buf, off, size);
+					record = same < 0 ? new HwpRecord_CharShape(this, tagNum, level, size, buf, off, version) : charShapeList.get(same);
+					charShapeList.add(record);
+				}
 				break;
 			case HWPTAG_TAB_DEF:
 				record = new HwpRecord_TabDef(this, tagNum, level, size, buf, off, version);
@@ -149,15 +177,18 @@ public class HwpDocInfo {
 				bulletList.add(record);
 				break;
 			case HWPTAG_PARA_SHAPE:
-				record = new HwpRecord_ParaShape(this, tagNum, level, size, buf, off, version);
-				paraShapeList.add(record);
+				{
+					int same = paraShapeIds.add(buf, off, size);
+					record = same < 0 ? new HwpRecord_ParaShape(this, tagNum, level, size, buf, off, version) : paraShapeList.get(same);
+					paraShapeList.add(record);
+				}
 				break;
 			case HWPTAG_STYLE:
 				record = new HwpRecord_Style(this, tagNum, level, size, buf, off, version);
 				styleList.add(record);
 				break;
             case HWPTAG_COMPATIBLE_DOCUMENT:
-                compatibleDoc = CompatDoc.from(buf[off+3]<<24&0xFF000000 | buf[off+2]<<16&0x00FF0000 | buf[off+1]<<8&0x0000FF00 | buf[off]&0x000000FF);
+                compatibleDoc = CompatDoc.from(RecordCursor.getInt(buf, off));
                 break;
             case HWPTAG_LAYOUT_COMPATIBILITY:
                 break;
@@ -171,8 +202,12 @@ public class HwpDocInfo {
 				break;
 			default:
 			}
-			off += size;
+			cursor.skip(size);
 		}
+		borderFillIds.done();
+		charShapeIds.done();
+		paraShapeIds.done();
+		bindTables();
 		
 		return true;
 	}
@@ -195,6 +230,9 @@ public class HwpDocInfo {
                         Node childNode = children.item(j);
                         switch(childNode.getNodeName()) {
                         case "opf:item":
+                            if (mode == ParseMode.TEXT_ONLY) {
+                                break;
+                            }
                             record = new HwpRecord_BinData(childNode, version);
                             binDataList.put(record.itemId, record);
                             break;
@@ -242,6 +280,7 @@ public class HwpDocInfo {
             }
             
         }
+        bindTables();
         
         return true;
     }
@@ -394,6 +433,64 @@ public class HwpDocInfo {
     					});
     }
 
+    private void bindTables() {
+        borderFills = toTable(borderFillList, HwpRecord_BorderFill.class);
+        charShapes  = toTable(charShapeList, HwpRecord_CharShape.class);
+        numberings  = toTable(numberingList, HwpRecord_Numbering.class);
+        bullets     = toTable(bulletList, HwpRecord_Bullet.class);
+        paraShapes  = toTable(paraShapeList, HwpRecord_ParaShape.class);
+        styles      = toTable(styleList, HwpRecord_Style.class);
+        tabDefs     = toTable(tabDefList, HwpRecord_TabDef.class);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T extends HwpRecord> T[] toTable(List<HwpRecord> list, Class<T> type) {
+        T[] table = (T[]) Array.newInstance(type, list.size());
+        for (int i=0; i < table.length; i++) {
+            table[i] = type.cast(list.get(i));
+        }
+        return table;
+    }
+    
+    /*
+     * 아래 getter 는 목록의 index 로 찾는다. 범위를 벗어나면 null.
+     * 테두리/배경, 글머리표처럼 문서에서 1부터 세는 ID 는 부르는 쪽에서 1을 뺀다.
+     */
+    public HwpRecord_BorderFill getBorderFill(int index) {
+        return index >= 0 && index < borderFills.length ? borderFills[index] : null;
+    }
+    
+    public HwpRecord_CharShape getCharShape(int index) {
+        return index >= 0 && index < charShapes.length ? charShapes[index] : null;
+    }
+    
+    public HwpRecord_Numbering getNumbering(int index) {
+        return index >= 0 && index < numberings.length ? numberings[index] : null;
+    }
+    
+    public HwpRecord_Bullet getBullet(int index) {
+        return index >= 0 && index < bullets.length ? bullets[index] : null;
+    }
+    
+    public HwpRecord_ParaShape getParaShape(int index) {
+        return index >= 0 && index < paraShapes.length ? paraShapes[index] : null;
+    }
+    
+    public HwpRecord_Style getStyle(int index) {
+        return index >= 0 && index < styles.length ? styles[index] : null;
+    }
+    
+    public HwpRecord_TabDef getTabDef(int index) {
+        return index >= 0 && index < tabDefs.length ? tabDefs[index] : null;
+    }
+    
+    /*
+     * id 와 내용이 같은 첫 글자 모양의 ID. 같은 ID 면 같은 객체이므로 변환 결과를 이 ID 로 재사용할 수 있다.
+     */
+    public int getCharShapeCanonicalId(int id) {
+        return charShapeIds.get(id);
+    }
+    
     public HwpFile getParentHwp() {
         return parentHwp;
     }
@@ -408,12 +505,9 @@ public class HwpDocInfo {
         private CompatDoc(int num) { 
             this.num = num;
         }
+        private static final HwpRecordTypes.Lookup<CompatDoc> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
         public static CompatDoc from(int num) {
-            for (CompatDoc type: values()) {
-                if (type.num == num)
-                    return type;
-            }
-            return null;
+            return table.get(num, null);
         }
 	}
 
@@ -20,8 +20,62 @@
  */
 package HwpDoc.HwpElement;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
 public class HwpRecordTypes {
 
+    /*
+     * from() 에서 매번 values() 를 복사하여 찾지 않도록, 번호를 index 로 하는 table 을 만든다.
+     * 같은 번호가 여러개이면 먼저 선언된 것을 사용한다. 번호가 띄엄띄엄 있는 경우(PIT_SET 등)는 Map 을 사용한다.
+     */
+    public static class Lookup<E> {
+        private static final int MAX_TABLE_SIZE = 1024;
+        private final E[] table;
+        private final Map<Integer, E> map;
+        private final int min;
+        
+        public Lookup(E[] values, ToIntFunction<E> key) {
+            int min = 0, max = -1;
+            for (int i=0; i<values.length; i++) {
+                int num = key.applyAsInt(values[i]);
+                min = i==0 ? num : Math.min(min, num);
+                max = i==0 ? num : Math.max(max, num);
+            }
+            this.min = min;
+            if (max-min < MAX_TABLE_SIZE) {
+                table = Arrays.copyOf(values, max-min+1);
+                Arrays.fill(table, null);
+                map = null;
+                for (E value: values) {
+                    int index = key.applyAsInt(value)-min;
+                    if (table[index]==null) {
+                        table[index] = value;
+                    }
+                }
+            } else {
+                table = null;
+                map = new HashMap<Integer, E>();
+                for (E value: values) {
+                    map.putIfAbsent(key.applyAsInt(value), value);
+                }
+            }
+        }
+        
+        public E get(int num, E defaultValue) {
+            if (map != null) {
+                return map.getOrDefault(num, defaultValue);
+            }
+            int index = num-min;
+            if (index < 0 || index >= table.length || table[index]==null) {
+                return defaultValue;
+            }
+            return table[index];
+        }
+    }
+
     // 밑줄
     public static enum LineStyle1 {
         SOLID               (0),    // 실선
@@ -46,12 +100,9 @@ public class HwpRecordTypes {
         private LineStyle1(int num) { 
             this.num = num;
         }
+        private static final Lookup<LineStyle1> table = new Lookup<>(values(), shape -> shape.num);
         public static LineStyle1 from(int num) {
-            for (LineStyle1 shape: values()) {
-                if (shape.num == num)
-                    return shape;
-            }
-            return SOLID;
+            return table.get(num, SOLID);
         }
     }
 
@@ -74,12 +125,9 @@ public class HwpRecordTypes {
         private LineStyle2(int num) { 
             this.num = num;
         }
+        private static final Lookup<LineStyle2> table = new Lookup<>(values(), shape -> shape.num);
         public static LineStyle2 from(int num) {
-            for (LineStyle2 shape: values()) {
-                if (shape.num == num)
-                    return shape;
-            }
-            return NONE;
+            return table.get(num, NONE);
         }
     }
 
@@ -104,12 +152,9 @@ public class HwpRecordTypes {
         private NumberShape1(int num) { 
             this.num = num;
         }
+        private static final Lookup<NumberShape1> table = new Lookup<>(values(), shape -> shape.num);
         public static NumberShape1 from(int num) {
-            for (NumberShape1 shape: values()) {
-                if (shape.num == num)
-                    return shape;
-            }
-            return DIGIT;
+            return table.get(num, DIGIT);
         }
     }
     public static enum NumberShape2 {
@@ -137,12 +182,9 @@ public class HwpRecordTypes {
         private NumberShape2(int num) { 
             this.num = num;
         }
+        private static final Lookup<NumberShape2> table = new Lookup<>(values(), shape -> shape.num);
         public static NumberShape2 from(int num) {
-            for (NumberShape2 shape: values()) {
-                if (shape.num == num)
-                    return shape;
-            }
-            return DIGIT;
+            return table.get(num, DIGIT);
         }
     }
 
@@ -202,12 +244,9 @@ public class HwpRecordTypes {
         private LineArrowSize(int num) { 
             this.num = num;
         }
+        private static final Lookup<LineArrowSize> table = new Lookup<>(values(), shape -> shape.num);
         public static LineArrowSize from(int num) {
-            for (LineArrowSize shape: values()) {
-                if (shape.num == num)
-                    return shape;
-            }
-            return MEDIUM_MEDIUM;
+            return table.get(num, MEDIUM_MEDIUM);
         }
     }
 
@@ -59,7 +59,7 @@ public class HwpRecord_BinData extends HwpRecord {
         }
 
         int offset = off;
-        short typeBits = (short) (buf[offset + 1] << 8 & 0xFF00 | buf[offset] & 0x00FF);
+        short typeBits = RecordCursor.getShort(buf, offset);
         offset += 2;
         type = Type.from(typeBits & 0x0F);
         compressed = Compressed.from(typeBits & 0x30);
@@ -67,14 +67,14 @@ public class HwpRecord_BinData extends HwpRecord {
 
         int pathLen1 = 0, pathLen2 = 0;
         if (type == Type.LINK) {
-            pathLen1 = (buf[offset + 1] << 8 & 0xFF00 | buf[offset] & 0x00FF) * 2;
+            pathLen1 = RecordCursor.getUShort(buf, offset) * 2;
             offset += 2;
             if (pathLen1 > 0) {
                 aPath = new String(buf, offset, pathLen1, StandardCharsets.UTF_16LE);
                 offset += pathLen1;
                 log.finest("                                                  " + aPath + "(AbsoluteLink)");
             }
-            pathLen2 = (buf[offset + 1] << 8 & 0xFF00 | buf[offset] & 0x00FF) * 2;
+            pathLen2 = RecordCursor.getUShort(buf, offset) * 2;
             offset += 2;
             if (pathLen2 > 0) {
                 // rPath = new String(buf, offset, pathLen2, StandardCharsets.UTF_16LE);
@@ -83,14 +83,14 @@ public class HwpRecord_BinData extends HwpRecord {
             }
         }
         if (type == Type.EMBEDDING || type == Type.STORAGE) {
-            binDataID = (short) (buf[offset + 1] << 8 & 0xFF00 | buf[offset] & 0x00FF);
+            binDataID = RecordCursor.getShort(buf, offset);
             offset += 2;
             // aPath =
             // docInfo.getParentHwp().getBinData().get(binDataID-1).getDirectoryEntryName().trim();
             itemId = String.valueOf(binDataID);
         }
         if (type == Type.EMBEDDING || type == Type.STORAGE) {
-            int extLen = (buf[offset + 1] << 8 & 0xFF00 | buf[offset] & 0x00FF) * 2;
+            int extLen = RecordCursor.getUShort(buf, offset) * 2;
             offset += 2;
             if (extLen > 0) {
                 format = new String(buf, offset, extLen, StandardCharsets.UTF_16LE);
@@ -150,12 +150,9 @@ public class HwpRecord_BinData extends HwpRecord {
             this.type = type;
         }
 
+        private static final HwpRecordTypes.Lookup<Type> table = new HwpRecordTypes.Lookup<>(values(), typeNum -> typeNum.type);
         public static Type from(int type) {
-            for (Type typeNum : values()) {
-                if (typeNum.type == type)
-                    return typeNum;
-            }
-            return null;
+            return table.get(type, null);
         }
     }
 
@@ -170,12 +167,9 @@ public class HwpRecord_BinData extends HwpRecord {
             this.comp = comp;
         }
 
+        private static final HwpRecordTypes.Lookup<Compressed> table = new HwpRecordTypes.Lookup<>(values(), compNum -> compNum.comp);
         public static Compressed from(int comp) {
-            for (Compressed compNum : values()) {
-                if (compNum.comp == comp)
-                    return compNum;
-            }
-            return null;
+            return table.get(comp, null);
         }
     }
 
@@ -191,12 +185,9 @@ public class HwpRecord_BinData extends HwpRecord {
             this.state = state;
         }
 
+        private static final HwpRecordTypes.Lookup<State> table = new HwpRecordTypes.Lookup<>(values(), stateNum -> stateNum.state);
         public static State from(int state) {
-            for (State stateNum : values()) {
-                if (stateNum.state == state)
-                    return stateNum;
-            }
-            return null;
+            return table.get(state, null);
         }
     }
 
@@ -68,7 +68,7 @@ public class HwpRecord_BorderFill extends HwpRecord {
 		this.parent = docInfo;
 
 		int offset = off;
-		short typeBits 			= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		short typeBits 			= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		threeD	 				= (typeBits&0x01)==0x01?true:false;
 		shadow		 			= (typeBits&0x02)==0x02?true:false;
@@ -84,23 +84,23 @@ public class HwpRecord_BorderFill extends HwpRecord {
 		// 실제 hwp 문서를 파싱하면서 판단하기에  1byte,1byte,4byte 4회 반복이 맞는 것 같다고 보임. 
 		left.style		= LineStyle2.from(buf[offset++]);
 		left.width 		= buf[offset++];
-        left.color      = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;    // 0x00rrggbb
+        left.color      = RecordCursor.getColor(buf, offset);    // 0x00rrggbb
 		offset += 4;
 		right.style		= LineStyle2.from(buf[offset++]);
 		right.width 	= buf[offset++];
-        right.color     = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        right.color     = RecordCursor.getColor(buf, offset);
 		offset += 4;
 		top.style		= LineStyle2.from(buf[offset++]);
 		top.width 		= buf[offset++];
-        top.color       = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        top.color       = RecordCursor.getColor(buf, offset);
 		offset += 4;
 		bottom.style		= LineStyle2.from(buf[offset++]);
 		bottom.width 	= buf[offset++];
-        bottom.color    = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        bottom.color    = RecordCursor.getColor(buf, offset);
 		offset += 4;
 		diagonal.style	= LineStyle2.from(buf[offset++]);
 		diagonal.width 	= buf[offset++];
-        diagonal.color  = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        diagonal.color  = RecordCursor.getColor(buf, offset);
 		offset += 4;
 		
 		fill = new Fill(buf, offset, size-(offset-off));
@@ -514,15 +514,15 @@ public class HwpRecord_BorderFill extends HwpRecord {
 		public Fill(byte[] buf, int off, int size) throws HwpParseException {
 			int offset = off;
 			
-			fillType 		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+			fillType 		= RecordCursor.getInt(buf, offset);
 			offset += 4;
 
 			if ((fillType&0x01)==0x01) {
-                faceColor       = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+                faceColor       = RecordCursor.getColor(buf, offset);
 				offset += 4;
-                hatchColor      = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+                hatchColor      = RecordCursor.getColor(buf, offset);
 				offset += 4;
-				int nPattern 	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+				int nPattern 	= RecordCursor.getInt(buf, offset);
 				offset += 4;
 				hatchStyle		= ColorFillPattern.from(nPattern);
 			}
@@ -530,15 +530,15 @@ public class HwpRecord_BorderFill extends HwpRecord {
 				byte typeNum 	= buf[offset++];
 				gradType		= GradFillType.from(typeNum);
 				
-				angle	 		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+				angle	 		= RecordCursor.getInt(buf, offset);
 				offset += 4;
-				centerX 		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+				centerX 		= RecordCursor.getInt(buf, offset);
 				offset += 4;
-				centerY 		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+				centerY 		= RecordCursor.getInt(buf, offset);
 				offset += 4;
-				step	 		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+				step	 		= RecordCursor.getInt(buf, offset);
 				offset += 4;
-				colorNum 		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+				colorNum 		= RecordCursor.getInt(buf, offset);
 				offset += 4;
 				if (colorNum > 0) {
 				    colors = new int[colorNum];
@@ -548,7 +548,7 @@ public class HwpRecord_BorderFill extends HwpRecord {
 	                }
 				}
 				for (int i=0; i<colorNum; i++) {
-                    colors[i]    = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+                    colors[i]    = RecordCursor.getColor(buf, offset);
 				    offset += 4;
 				}
 			}
@@ -559,12 +559,12 @@ public class HwpRecord_BorderFill extends HwpRecord {
 				bright 			= buf[offset++];
 				contrast 		= buf[offset++];
 				effect		 	= buf[offset++];
-				short binItem	= (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+				short binItem	= RecordCursor.getShort(buf, offset);
 				offset += 2;
 				binItemID		= String.valueOf(binItem-1);
 			}
 			
-			int	moreSize	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+			int	moreSize	= RecordCursor.getInt(buf, offset);
 			offset += 4;
 			if (moreSize>0) {
 				stepCenter	= buf[offset++];
@@ -641,12 +641,9 @@ public class HwpRecord_BorderFill extends HwpRecord {
 	    	this.fill = fill;
 	    }
 
+	    private static final HwpRecordTypes.Lookup<ImageFillType> table = new HwpRecordTypes.Lookup<>(values(), typeNum -> typeNum.fill);
 	    public static ImageFillType from(int fill) {
-	    	for (ImageFillType typeNum: values()) {
-	    		if (typeNum.fill == fill)
-	    			return typeNum;
-	    	}
-	    	return null;
+	    	return table.get(fill, null);
 	    }
 	}
 	
@@ -663,12 +660,9 @@ public class HwpRecord_BorderFill extends HwpRecord {
 	    	this.fill = fill;
 	    }
 
+	    private static final HwpRecordTypes.Lookup<GradFillType> table = new HwpRecordTypes.Lookup<>(values(), typeNum -> typeNum.fill);
 	    public static GradFillType from(int gradation) {
-	    	for (GradFillType typeNum: values()) {
-	    		if (typeNum.fill == gradation)
-	    			return typeNum;
-	    	}
-	    	return null;
+	    	return table.get(gradation, null);
 	    }
 	}
 
@@ -687,12 +681,9 @@ public class HwpRecord_BorderFill extends HwpRecord {
 	    	this.fill = fill;
 	    }
 
+	    private static final HwpRecordTypes.Lookup<ColorFillPattern> table = new HwpRecordTypes.Lookup<>(values(), typeNum -> typeNum.fill);
 	    public static ColorFillPattern from(int fill) {
-	    	for (ColorFillPattern typeNum: values()) {
-	    		if (typeNum.fill == fill)
-	    			return typeNum;
-	    	}
-	    	return null;
+	    	return table.get(fill, null);
 	    }		
 	}
 }
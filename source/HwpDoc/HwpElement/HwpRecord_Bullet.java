@@ -57,24 +57,24 @@ public class HwpRecord_Bullet extends HwpRecord {
 
 		int offset = off;
 		
-		int typeBits	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		int typeBits	= RecordCursor.getInt(buf, offset);
 		offset += 4;
 		headerInfo.align	  	= (byte) ((typeBits)&0x03);
 		headerInfo.useInstWidth		= (typeBits&0x40)==0x40?true:false;
 		headerInfo.autoIndent		= (typeBits&0x80)==0x80?true:false;
 		headerInfo.textOffsetType	= (byte) ((typeBits>>>4)&0x01);
 		
-		headerInfo.widthAdjust		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		headerInfo.widthAdjust		= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		headerInfo.textOffset		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		headerInfo.textOffset		= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		headerInfo.charShape		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		headerInfo.charShape		= RecordCursor.getInt(buf, offset);
 		offset += 4;
 		bulletChar					= ByteBuffer.wrap(buf, offset, 2).order(ByteOrder.LITTLE_ENDIAN).getChar();
 		offset += 2;
 		
 		if (size-(offset-off) > 0) {
-    		bulletImage					= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+    		bulletImage					= RecordCursor.getInt(buf, offset);
     		offset += 4;
 		}
         if (size-(offset-off) > 0) {
@@ -87,7 +87,7 @@ public class HwpRecord_Bullet extends HwpRecord {
             imageEffect 				= buf[offset++];
         }
         if (size-(offset-off) > 0) {
-            binItemRefID 				= String.valueOf(buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+            binItemRefID 				= String.valueOf(RecordCursor.getUShort(buf, offset));
             offset += 2;
         }
 		// size가 23byte일 경우, 아래 2byte는 읽지 않도록 한다. 문서도 정확하지 않으니 이게 맞는 것인지는 알 수 없다.
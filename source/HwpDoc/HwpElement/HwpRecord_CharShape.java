@@ -80,7 +80,7 @@ public class HwpRecord_CharShape extends HwpRecord {
 
 		int offset = off;
 		for (int i=0; i < Lang.MAX.num; i++) {
-			short fontID 	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+			short fontID 	= RecordCursor.getShort(buf, offset);
 			fontName[i] 	= ((HwpRecord_FaceName)parent.faceNameList.get(fontID)).faceName;
 			offset += 2;
 		}
@@ -98,9 +98,9 @@ public class HwpRecord_CharShape extends HwpRecord {
 		}
 		
 		
-		height			= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		height			= RecordCursor.getInt(buf, offset);
 		offset += 4;
-		int attrBits	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		int attrBits	= RecordCursor.getInt(buf, offset);
 		offset += 4;
 
 		// Attributes
@@ -123,20 +123,20 @@ public class HwpRecord_CharShape extends HwpRecord {
 		
 		shadowOffsetX	= buf[offset++];
         shadowOffsetY   = buf[offset++];
-        textColor       = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        textColor       = RecordCursor.getColor(buf, offset);
 		offset += 4;
-        underlineColor  = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        underlineColor  = RecordCursor.getColor(buf, offset);
 		offset += 4;
-        shadeColor      = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        shadeColor      = RecordCursor.getColor(buf, offset);
 		offset += 4;
-        shadowColor     = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        shadowColor     = RecordCursor.getColor(buf, offset);
 		offset += 4;
 		if (offset-off < size) {
-		    borderFillIDRef	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		    borderFillIDRef	= RecordCursor.getShort(buf, offset);
 			offset += 2;
 		}
 		if (version > 5030 && offset-off < size) {
-            strikeOutColor  = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+            strikeOutColor  = RecordCursor.getColor(buf, offset);
 			offset += 4;
 		}
 		
@@ -496,12 +496,9 @@ public class HwpRecord_CharShape extends HwpRecord {
 	    private Lang(int num) { 
 	    	this.num = num;
 	    }
+	    private static final HwpRecordTypes.Lookup<Lang> table = new HwpRecordTypes.Lookup<>(values(), langNum -> langNum.num);
 	    public static Lang from(int num) {
-	    	for (Lang langNum: values()) {
-	    		if (langNum.num == num)
-	    			return langNum;
-	    	}
-	    	return HANGUL;
+	    	return table.get(num, HANGUL);
 	    }
 	}
 
@@ -515,12 +512,9 @@ public class HwpRecord_CharShape extends HwpRecord {
 	    private Underline(int num) { 
 	    	this.num = num;
 	    }
+	    private static final HwpRecordTypes.Lookup<Underline> table = new HwpRecordTypes.Lookup<>(values(), underline -> underline.num);
 	    public static Underline from(int num) {
-	    	for (Underline underline: values()) {
-	    		if (underline.num == num)
-	    			return underline;
-	    	}
-	    	return NONE;
+	    	return table.get(num, NONE);
 	    }
 	}
 
@@ -537,12 +531,9 @@ public class HwpRecord_CharShape extends HwpRecord {
 	    private Outline(int num) { 
 	    	this.num = num;
 	    }
+	    private static final HwpRecordTypes.Lookup<Outline> table = new HwpRecordTypes.Lookup<>(values(), outline -> outline.num);
 	    public static Outline from(int num) {
-	    	for (Outline outline: values()) {
-	    		if (outline.num == num)
-	    			return outline;
-	    	}
-	    	return NONE;
+	    	return table.get(num, NONE);
 	    }
 	}
 	
@@ -555,12 +546,9 @@ public class HwpRecord_CharShape extends HwpRecord {
 	    private Shadow(int num) { 
 	    	this.num = num;
 	    }
+	    private static final HwpRecordTypes.Lookup<Shadow> table = new HwpRecordTypes.Lookup<>(values(), shadow -> shadow.num);
 	    public static Shadow from(int num) {
-	    	for (Shadow shadow: values()) {
-	    		if (shadow.num == num)
-	    			return shadow;
-	    	}
-	    	return NONE;
+	    	return table.get(num, NONE);
 	    }
 	}
 
@@ -577,12 +565,9 @@ public class HwpRecord_CharShape extends HwpRecord {
 	    private Accent(int num) { 
 	    	this.num = num;
 	    }
+	    private static final HwpRecordTypes.Lookup<Accent> table = new HwpRecordTypes.Lookup<>(values(), accent -> accent.num);
 	    public static Accent from(int num) {
-	    	for (Accent accent: values()) {
-	    		if (accent.num == num)
-	    			return accent;
-	    	}
-	    	return NONE;
+	    	return table.get(num, NONE);
 	    }
 	}
 	
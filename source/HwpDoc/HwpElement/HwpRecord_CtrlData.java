@@ -26,6 +26,7 @@ import java.util.logging.Logger;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.paragraph.Ctrl;
+import HwpDoc.paragraph.CtrlId;
 
 public class HwpRecord_CtrlData extends HwpRecord {
 	private static final Logger log = Logger.getLogger(HwpRecord_CtrlData.class.getName());
@@ -44,18 +45,18 @@ public class HwpRecord_CtrlData extends HwpRecord {
 		paramSets = new ArrayList<ParameterSet>();
 		while(offset < size) {
 			ParameterSet  paramSet = new ParameterSet();
-			paramSet.paramSetId = (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+			paramSet.paramSetId = RecordCursor.getShort(buf, offset);
 			offset += 2;
-			paramSet.nItems		= (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+			paramSet.nItems		= RecordCursor.getShort(buf, offset);
 			offset += 2;
 			if (paramSet.nItems > 0) {
 				paramSet.items 	= new ArrayList<ParameterItem>();
 				for (int i=0; i< paramSet.nItems; i++) {
 					
 					ParameterItem item = new ParameterItem();
-					item.itemId	= (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+					item.itemId	= RecordCursor.getShort(buf, offset);
 					offset += 2;
-					int itemType = buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+					int itemType = RecordCursor.getUShort(buf, offset);
 					offset += 2;
 					item.itemType = ParamItemType.from(itemType);
 				}
@@ -66,22 +67,22 @@ public class HwpRecord_CtrlData extends HwpRecord {
     	if (log.isLoggable(Level.FINE)) {
     		log.fine("                                                  ctrlID="+ctrl.ctrlId);
     	}
-		// ctrlId를 거꾸로 읽어 비교한다.
-		switch(ctrl.ctrlId) {
-		case "klc%":	// FIELD_CLICKHERE
-		case "dces":	// 구역정의
-		case "mrof":	// 양식개체
-		case "pngp":	// 쪽 번호 위치
-		case "klh%":	// hyperlink
-		case "frx%":	// FIELD_CROSSREF
-		case "knu%":	// FIELD_UNKNOWN
-		case "etd%":	// FIELD_DATE
-		case "tdd%":	// FIELD_DOCDATE
-		case "tap%":	// FIELD_PATH
-		case "kmb%":	// FIELD_BOOKMARK
-		case "gmm%":	// FIELD_MAILMERGE
-		case "umf%":	// FIELD_FORMULA
-		case "mkob":	// ???
+		// ctrlId를 int 로 묶어 비교한다.
+		switch(ctrl.ctrlIdNum) {
+		case CtrlId.FIELD_CLICKHERE:	// FIELD_CLICKHERE
+		case CtrlId.SECTION_DEF:	// 구역정의
+		case CtrlId.FORM:	// 양식개체
+		case CtrlId.PAGE_NUM_POS:	// 쪽 번호 위치
+		case CtrlId.FIELD_HYPERLINK:	// hyperlink
+		case CtrlId.FIELD_CROSSREF:	// FIELD_CROSSREF
+		case CtrlId.FIELD_UNKNOWN:	// FIELD_UNKNOWN
+		case CtrlId.FIELD_DATE:	// FIELD_DATE
+		case CtrlId.FIELD_DOCDATE:	// FIELD_DOCDATE
+		case CtrlId.FIELD_PATH:	// FIELD_PATH
+		case CtrlId.FIELD_BOOKMARK:	// FIELD_BOOKMARK
+		case CtrlId.FIELD_MAILMERGE:	// FIELD_MAILMERGE
+		case CtrlId.FIELD_FORMULA:	// FIELD_FORMULA
+		case CtrlId.BOOKMARK:	// ???
         	if (log.isLoggable(Level.FINE)) {
         		log.fine(ctrl.ctrlId+"("+size+")를 해석할 수 없음. Just skipping...");
         	}
@@ -124,12 +125,9 @@ public class HwpRecord_CtrlData extends HwpRecord {
 	    private ParamItemType(int num) { 
 	    	this.num = num;
 	    }
+	    private static final HwpRecordTypes.Lookup<ParamItemType> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
 	    public static ParamItemType from(int num) {
-	    	for (ParamItemType type: values()) {
-	    		if (type.num == num)
-	    			return type;
-	    	}
-	    	return null;
+	    	return table.get(num, null);
 	    }
 	}
 	
@@ -21,10 +21,12 @@
 package HwpDoc.HwpElement;
 
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.paragraph.Ctrl;
+import HwpDoc.paragraph.CtrlId;
 import HwpDoc.paragraph.Ctrl_AutoNumber;
 import HwpDoc.paragraph.Ctrl_Click;
 import HwpDoc.paragraph.Ctrl_ColumnDef;
@@ -53,64 +55,67 @@ public class HwpRecord_CtrlHeader extends HwpRecord {
 		int offset = off;
 		// hwp포맷에는  역순으로 ctrlId를 구성한다. 여기서는 순방향으로 구성한다.
 		String ctrlId = new String(buf, offset, 4, StandardCharsets.US_ASCII);
+		int ctrlIdNum = RecordCursor.getInt(buf, offset);
 		offset += 4;
 		Ctrl ctrl = null;
 		
-		log.fine("                                                  ctrlID="+ctrlId);
-		// ctrlId를 거꾸로 읽어 비교한다.
-		switch(ctrlId) {
-		case "dces":	// 구역 정의
+		if (log.isLoggable(Level.FINE)) {
+			log.fine("                                                  ctrlID="+ctrlId);
+		}
+		// ctrlId를 int 로 묶어 비교한다.
+		switch(ctrlIdNum) {
+		case CtrlId.SECTION_DEF:	// 구역 정의
 			ctrl = new Ctrl_SectionDef(ctrlId, size-(offset-off), buf, offset, version);
 			offset += ctrl.getSize();
 			break;
-		case "dloc":
+		case CtrlId.COLUMN_DEF:
 			ctrl = new Ctrl_ColumnDef(ctrlId, size-(offset-off), buf, offset, version);
 			offset += ctrl.getSize();
 			break;
-		case "daeh":	// 머리말
+		case CtrlId.HEADER:	// 머리말
 			ctrl = new Ctrl_HeadFoot(ctrlId, size-(offset-off), buf, offset, version, true);
 			offset += ctrl.getSize();
 			break;
-		case "toof":	// 꼬리말
+		case CtrlId.FOOTER:	// 꼬리말
 			ctrl = new Ctrl_HeadFoot(ctrlId, size-(offset-off), buf, offset, version, false);
 			offset += ctrl.getSize();
 			break;
-		case "  nf":	// 각주
-		case "  ne":	// 미주
+		case CtrlId.FOOTNOTE:	// 각주
+		case CtrlId.ENDNOTE:	// 미주
 			ctrl = new Ctrl_Note(ctrlId, size-(offset-off), buf, offset, version);
 			offset += ctrl.getSize();
 			break;
-		case " lbt":	// table
+		case CtrlId.TABLE:	// table
 			ctrl = new Ctrl_Table(ctrlId, size-(offset-off), buf, offset, version);
 			offset += ctrl.getSize();
 			break;
-		case "onta":	// 자동 번호
+		case CtrlId.AUTO_NUMBER:	// 자동 번호
 			ctrl = new Ctrl_AutoNumber(ctrlId, size-(offset-off), buf, offset, version);
 			offset += ctrl.getSize();
 			break;
-		case "onwn":	// 새 번호 지정
+		case CtrlId.NEW_NUMBER:	// 새 번호 지정
 			ctrl = new Ctrl_NewNumber(ctrlId, size-(offset-off), buf, offset, version);
 			offset += ctrl.getSize();
 			break;
-		case " osg":	// GeneralShapeObject
+		case CtrlId.GEN_SHAPE:	// GeneralShapeObject
 			ctrl = new Ctrl_GeneralShape(ctrlId, size-(offset-off), buf, offset, version);
 			offset += ctrl.getSize();
 			break;
-		case "deqe":
+		case CtrlId.EQEDIT:
 			ctrl = new Ctrl_EqEdit(ctrlId, size-(offset-off), buf, offset, version);
 			offset += ctrl.getSize();
 			break;
-		case "dhgp":	// 감추기
+		case CtrlId.PAGE_HIDE:	// 감추기
 			{
 				int tmpSize = size-(offset-off);
 				ctrl = new Ctrl(ctrlId) {	public int getSize() { return tmpSize; }	};
-				ctrl.ctrlId = ctrlId;
+				ctrl.setCtrlId(ctrlId);
 				offset += ctrl.getSize();
 				ctrl.fullfilled = true;
 			}
 			log.fine("Known ctrlID="+ctrlId+", but is not implemented. Just skipping...");
 			break;
-		case "cot%":	// table of content
+		case CtrlId.FIELD_TABLEOFCONTENT:	// table of content
 			{
 				// 내용을 UTF_16LE로 읽었을때 아래 내용 같음.
 				// ¥TableOfContents:set:140:ContentsMake:uint:17 ContentsStyles:wstring:0: ContentsLevel:int:5 ContentsAutoTabRight:int:0 ContentsLeader:int:3 ContentsHyperlink:bool:1  
@@ -119,46 +124,46 @@ public class HwpRecord_CtrlHeader extends HwpRecord {
 				// String text = new String(buf, offset, tmpSize-13, StandardCharsets.UTF_16LE);
 				// log.finest("TableOfContent:"+text);
 				ctrl = new Ctrl(ctrlId) {	public int getSize() { return tmpSize; }	};
-				ctrl.ctrlId = ctrlId;
+				ctrl.setCtrlId(ctrlId);
 				offset += ctrl.getSize();
 				ctrl.fullfilled = true;
 			}
 			break;
-		case "klc%":	// FIELD_CLICKHERE
+		case CtrlId.FIELD_CLICKHERE:	// FIELD_CLICKHERE
 			ctrl = new Ctrl_Click(ctrlId, size-(offset-off), buf, offset, version);
 			offset += ctrl.getSize();
 			ctrl.fullfilled = true;
 			break;
-		case "mrof":	// 양식개체
+		case CtrlId.FORM:	// 양식개체
 			ctrl = new Ctrl_Form(ctrlId, size-(offset-off), buf, offset, version);
 			offset += ctrl.getSize();
             ctrl.fullfilled = true;
 			break;
-		case "pngp":	// 쪽 번호 위치
+		case CtrlId.PAGE_NUM_POS:	// 쪽 번호 위치
 			ctrl = new Ctrl_PageNumPos(ctrlId, size-(offset-off), buf, offset, version);
 			offset += ctrl.getSize();
             ctrl.fullfilled = true;
 			break;
-		case "klh%":	// hyperlink
-		case "frx%":	// FIELD_CROSSREF
-		case "knu%":	// FIELD_UNKNOWN
-		case "etd%":	// FIELD_DATE
-		case "tdd%":	// FIELD_DOCDATE
-		case "tap%":	// FIELD_PATH
-		case "kmb%":	// FIELD_BOOKMARK
-		case "gmm%":	// FIELD_MAILMERGE
-		case "umf%":	// FIELD_FORMULA
-		case "mxdi":	// ???
-		case "mkob":	// ???
-		case "spct":	// ???
-		case "tmct":	// ???
-		case "tcgp":	// ???
-		case "tudt":	// ???
+		case CtrlId.FIELD_HYPERLINK:	// hyperlink
+		case CtrlId.FIELD_CROSSREF:	// FIELD_CROSSREF
+		case CtrlId.FIELD_UNKNOWN:	// FIELD_UNKNOWN
+		case CtrlId.FIELD_DATE:	// FIELD_DATE
+		case CtrlId.FIELD_DOCDATE:	// FIELD_DOCDATE
+		case CtrlId.FIELD_PATH:	// FIELD_PATH
+		case CtrlId.FIELD_BOOKMARK:	// FIELD_BOOKMARK
+		case CtrlId.FIELD_MAILMERGE:	// FIELD_MAILMERGE
+		case CtrlId.FIELD_FORMULA:	// FIELD_FORMULA
+		case CtrlId.INDEX_MARK:	// ???
+		case CtrlId.BOOKMARK:	// ???
+		case CtrlId.OVERLAP_CHAR:	// ???
+		case CtrlId.HIDDEN_COMMENT:	// ???
+		case CtrlId.PAGE_NUM_CTRL:	// ???
+		case CtrlId.DUTMAL:	// ???
 		default:
 			{
 				int tmpSize = size-(offset-off);
 				ctrl = new Ctrl(ctrlId) {	public int getSize() { return tmpSize; }	};
-				ctrl.ctrlId = ctrlId;
+				ctrl.setCtrlId(ctrlId);
 				offset += ctrl.getSize();
 	            ctrl.fullfilled = true;
 			}
@@ -50,25 +50,25 @@ public class HwpRecord_DocumentProperties extends HwpRecord {
 		this.parent = docInfo;
 		int offset = off;
 		
-		sectionSize		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		sectionSize		= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		pageStartNo		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		pageStartNo		= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		footNoteStartNo	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		footNoteStartNo	= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		endNoteStartNo	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		endNoteStartNo	= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		figureStartNo	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		figureStartNo	= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		tableStartNo	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		tableStartNo	= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		eqStartNo		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		eqStartNo		= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		listID			= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		listID			= RecordCursor.getInt(buf, offset);
 		offset += 4;
-		paraID			= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		paraID			= RecordCursor.getInt(buf, offset);
 		offset += 4;
-		charUnitLocInPara= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		charUnitLocInPara= RecordCursor.getInt(buf, offset);
 		offset += 4;
 		
 		if (offset-off!=26) {
@@ -69,7 +69,7 @@ public class HwpRecord_FaceName extends HwpRecord {
 		offset += 1;
 		
 		int faceNameLen = 0;
-		faceNameLen = (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2;
+		faceNameLen = RecordCursor.getUShort(buf, offset)*2;
 		offset += 2;
 		if (faceNameLen > 0) {
 			faceName = new String(buf, offset, faceNameLen, StandardCharsets.UTF_16LE);
@@ -78,7 +78,7 @@ public class HwpRecord_FaceName extends HwpRecord {
 		if (substExists) {
 		    substType = AltType.from(buf[offset++]&0x0F);
 			
-			faceNameLen = (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2;
+			faceNameLen = RecordCursor.getUShort(buf, offset)*2;
 			offset += 2;
 			if (faceNameLen > 0) {
 			    substFace = new String(buf, offset, faceNameLen, StandardCharsets.UTF_16LE);
@@ -100,7 +100,7 @@ public class HwpRecord_FaceName extends HwpRecord {
 		}
 		
 		if (basicFaceExists) {
-			faceNameLen = (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2;
+			faceNameLen = RecordCursor.getUShort(buf, offset)*2;
 			offset += 2;
 			if (faceNameLen > 0) {
 				basicFaceName = new String(buf, offset, faceNameLen, StandardCharsets.UTF_16LE);
@@ -242,12 +242,9 @@ public class HwpRecord_FaceName extends HwpRecord {
 	    	this.alt = alt;
 	    }
 
+	    private static final HwpRecordTypes.Lookup<AltType> table = new HwpRecordTypes.Lookup<>(values(), altNum -> altNum.alt);
 	    public static AltType from(int alt) {
-	    	for (AltType altNum: values()) {
-	    		if (altNum.alt == alt)
-	    			return altNum;
-	    	}
-	    	return null;
+	    	return table.get(alt, null);
 	    }
 	}
 }
@@ -42,7 +42,7 @@ public class HwpRecord_FormObject extends HwpRecord {
         offset += 4;	// tbp+
         offset += 4;	// 문자열 길이?
         
-        short strLen	 = (short) ((buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2);
+        short strLen	 = (short) (RecordCursor.getUShort(buf, offset)*2);
         offset += 2;
         if (strLen > 0) {
             formStr = new String(buf, offset, strLen, StandardCharsets.UTF_16LE);
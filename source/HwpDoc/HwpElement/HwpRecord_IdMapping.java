@@ -45,7 +45,7 @@ public class HwpRecord_IdMapping extends HwpRecord {
 		
 		int offset = off;
 		for (int i=0; i<(size/4); i++) {
-			int count = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+			int count = RecordCursor.getInt(buf, offset);
 			idMappingNum.add(count);
 			offset += 4;
 			
@@ -109,12 +109,9 @@ public class HwpRecord_IdMapping extends HwpRecord {
 	    	this.index = index;
 	    }
 
+	    private static final HwpRecordTypes.Lookup<Index> table = new HwpRecordTypes.Lookup<>(values(), indexNum -> indexNum.index);
 	    public static Index from(int index) {
-	    	for (Index indexNum: values()) {
-	    		if (indexNum.index == index)
-	    			return indexNum;
-	    	}
-	    	return null;
+	    	return table.get(index, null);
 	    }
 	}
 }
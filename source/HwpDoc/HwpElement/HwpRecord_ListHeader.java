@@ -35,7 +35,7 @@ public class HwpRecord_ListHeader extends HwpRecord {
 	public static int getCount(int tagNum, int level, int size, byte[] buf, int off, int version) throws HwpParseException {
 		int offset = off;
 		
-		short nParas 		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		short nParas 		= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		
 		log.fine("                                                  "+"문단갯수="+nParas);
@@ -46,7 +46,7 @@ public class HwpRecord_ListHeader extends HwpRecord {
 		int offset = off;
 		
 		offset += 2;
-		int attr 	 	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		int attr 	 	= RecordCursor.getInt(buf, offset);
 		offset += 4;
 		VertAlign verAlign	= VertAlign.from(attr>>21&0x03);
 		
@@ -53,7 +53,7 @@ public class HwpRecord_Numbering extends HwpRecord {
         for (int i=0; i < 7; i++) {
             numbering[i] = new Numbering();
 
-            int typeBits                = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            int typeBits                = RecordCursor.getInt(buf, offset);
             offset += 4;
 
             numbering[i].align          = (byte) ((typeBits)&0x03);
@@ -61,27 +61,27 @@ public class HwpRecord_Numbering extends HwpRecord {
             numbering[i].autoIndent     = (typeBits&0x80)==0x80?true:false;
             numbering[i].textOffsetType = (byte) ((typeBits>>>4)&0x01);
 
-            numbering[i].widthAdjust    = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            numbering[i].widthAdjust    = RecordCursor.getShort(buf, offset);
             offset += 2;
-            numbering[i].textOffset     = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            numbering[i].textOffset     = RecordCursor.getShort(buf, offset);
             offset += 2;
-            numbering[i].charShape      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            numbering[i].charShape      = RecordCursor.getInt(buf, offset);
             offset += 4;
 
-            short len = (short) ((buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2);
+            short len = (short) (RecordCursor.getUShort(buf, offset)*2);
             offset += 2;
             numbering[i].numFormat      = new String(buf, offset, len, StandardCharsets.UTF_16LE);
             offset += len;
         }
 
         // <numbering>의 "start" 속성에 대응
-        start 	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        start 	= RecordCursor.getShort(buf, offset);
         offset += 2;
 
         if (version > 5025 && offset-off < size) {
             // 하위 <paraHead>태그의 "start" 속성에 대응
             for (int i=0; i < 7; i++) {
-                numbering[i].startNumber = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+                numbering[i].startNumber = RecordCursor.getInt(buf, offset);
                 offset += 4;
             }
         }
@@ -95,7 +95,7 @@ public class HwpRecord_Numbering extends HwpRecord {
                 offset += 4;
 
                 // 내용을 알수 없으나, 글자수를 포함한것으로 보임.
-                short len = (short) ((buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2);
+                short len = (short) (RecordCursor.getUShort(buf, offset)*2);
                 offset += 2;
 
                 // 글자수*2 만큼 건너뜀
@@ -103,7 +103,7 @@ public class HwpRecord_Numbering extends HwpRecord {
             }
 
             for (int i=0; i < 3; i++) {
-                extLevelStart[i] = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+                extLevelStart[i] = RecordCursor.getInt(buf, offset);
                 offset += 4;
             }
         }
@@ -43,11 +43,11 @@ public class HwpRecord_ParaRangeTag extends HwpRecord {
         
         while(size-(offset-off) >= 12) {
             RangeTag rangeTag = new RangeTag();
-            rangeTag.startPos 	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            rangeTag.startPos 	= RecordCursor.getInt(buf, offset);
             offset += 4;
-            rangeTag.endPos 	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            rangeTag.endPos 	= RecordCursor.getInt(buf, offset);
             offset += 4;
-            rangeTag.tag 		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            rangeTag.tag 		= RecordCursor.getInt(buf, offset);
             offset += 4;
             para.rangeTags.add(rangeTag);
         }
@@ -86,7 +86,7 @@ public class HwpRecord_ParaShape extends HwpRecord {
 		this.parent = docInfo;
 		
 		int offset = off;
-		int typeBits 		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		int typeBits 		= RecordCursor.getInt(buf, offset);
 		offset += 4;
 		align				= HorizontalAlign.from(typeBits>>>2 & 0x07);
 		breakLatinWord	 	= (byte) (typeBits>>>5 & 0x03);
@@ -104,40 +104,40 @@ public class HwpRecord_ParaShape extends HwpRecord {
 		ignoreMargin		= (typeBits&0x1000000)==0x1000000?true:false;
 		paraTailShape		= (typeBits&0x2000000)==0x2000000?true:false;
 		
-		marginLeft 			= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		marginLeft 			= RecordCursor.getInt(buf, offset);
 		offset += 4;
-		marginRight			= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		marginRight			= RecordCursor.getInt(buf, offset);
 		offset += 4;
-		indent 				= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		indent 				= RecordCursor.getInt(buf, offset);
 		offset += 4;
-		marginPrev 			= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		marginPrev 			= RecordCursor.getInt(buf, offset);
 		offset += 4;
-		marginNext	 		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		marginNext	 		= RecordCursor.getInt(buf, offset);
 		offset += 4;
 		if (version<5025) {
 		    lineSpacingType = (byte) (typeBits & 0x03);
-			lineSpacing 	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+			lineSpacing 	= RecordCursor.getInt(buf, offset);
 			offset += 4;
 		} else {
 			offset += 4;
 		}
-		tabDef				= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		tabDef				= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		headingIdRef		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		headingIdRef		= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		borderFill			= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		borderFill			= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		offsetLeft			= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		offsetLeft			= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		offsetRight			= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		offsetRight			= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		offsetTop			= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		offsetTop			= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		offsetBottom		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		offsetBottom		= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		
 		if (version>=5017) {
-			int attrBits		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+			int attrBits		= RecordCursor.getInt(buf, offset);
 			offset += 4;
 			lineWrap			= (byte) (attrBits & 0x03);
 			autoSpaceEAsianEng	=(typeBits&0x10)==0x10?true:false;
@@ -147,10 +147,10 @@ public class HwpRecord_ParaShape extends HwpRecord {
 		}
 		
 		if (version>=5025) {
-			int attrBits		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+			int attrBits		= RecordCursor.getInt(buf, offset);
 			offset += 4;
 			lineSpacingType 	= (byte) (attrBits&0x0F);
-			lineSpacing			= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+			lineSpacing			= RecordCursor.getInt(buf, offset);
 			offset += 4;
 		} else {
 			offset += 8;
@@ -498,12 +498,9 @@ public class HwpRecord_ParaShape extends HwpRecord {
 	    	this.num = num;
 	    }
 
+	    private static final HwpRecordTypes.Lookup<HeadingType> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
 	    public static HeadingType from(int num) {
-	    	for (HeadingType type: values()) {
-	    		if (type.num == num)
-	    			return type;
-	    	}
-	    	return null;
+	    	return table.get(num, null);
 	    }
 	}
     
@@ -521,12 +518,9 @@ public class HwpRecord_ParaShape extends HwpRecord {
             this.num = num;
         }
 
+        private static final HwpRecordTypes.Lookup<HorizontalAlign> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
         public static HorizontalAlign from(int num) {
-            for (HorizontalAlign type: values()) {
-                if (type.num == num)
-                    return type;
-            }
-            return JUSTIFY;
+            return table.get(num, JUSTIFY);
         }
     }
     
@@ -542,12 +536,9 @@ public class HwpRecord_ParaShape extends HwpRecord {
             this.num = num;
         }
 
+        private static final HwpRecordTypes.Lookup<VerticalAlign> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
         public static VerticalAlign from(int num) {
-            for (VerticalAlign type: values()) {
-                if (type.num == num)
-                    return type;
-            }
-            return BASELINE;
+            return table.get(num, BASELINE);
         }
     }
     
@@ -26,12 +26,12 @@ import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.paragraph.Ctrl;
+import HwpDoc.paragraph.CtrlId;
 import HwpDoc.paragraph.Ctrl_AutoNumber;
 import HwpDoc.paragraph.Ctrl_Character;
 import HwpDoc.paragraph.Ctrl_Character.CtrlCharType;
@@ -45,44 +45,51 @@ import HwpDoc.paragraph.Ctrl_PageNumPos;
 import HwpDoc.paragraph.Ctrl_SectionDef;
 import HwpDoc.paragraph.Ctrl_Table;
 import HwpDoc.paragraph.ParaText;
+import HwpDoc.paragraph.TextBuffer;
 
 public class HwpRecord_ParaText extends HwpRecord {
 	private static final Logger log = Logger.getLogger(HwpRecord_ParaText.class.getName());
-    private static final String PATTERN_STRING = "[\\u0000\\u000a\\u000d\\u0018-\\u001f]|[\\u0001\\u0002-\\u0009\\u000b-\\u000c\\u000e-\\u0017].{6}[\\u0001\\u0002-\\u0009\\u000b-\\u000c\\u000e-\\u0017]";
-    private static final String PATTERN_8BYTES = "[\\u0001\\u0002-\\u0009\\u000b-\\u000c\\u000e-\\u0017].{6}[\\u0001\\u0002-\\u0009\\u000b-\\u000c\\u000e-\\u0017]";
-    public static Pattern pattern = Pattern.compile(PATTERN_STRING);
 
 	HwpRecord_ParaText(int tagNum, int level, int size) {
 		super(tagNum, level, size);
 	}
 	
 	public static List<Ctrl> parse(int tagNum, int level, int size, byte[] buf, int off, int version) throws HwpParseException {
+		return parse(tagNum, level, size, buf, off, version, new TextBuffer(size/2));
+	}
+	
+	/*
+	 * 글자는 text 뒤에 이어 붙이고, ParaText 는 그 위치만 가리킨다.
+	 */
+	public static List<Ctrl> parse(int tagNum, int level, int size, byte[] buf, int off, int version, TextBuffer text) throws HwpParseException {
 		int offset = off;
 		
 		ArrayList<Ctrl> paras = new ArrayList<>();
-		
-		String text = new String(buf, offset, size, StandardCharsets.UTF_16LE);
+		int len = size/2;		// UTF-16LE 글자 수
 		offset += size;
 
-        Matcher m = pattern.matcher(text);
-        
-        log.finer("paraText Length="+ text.length());
+        if (log.isLoggable(Level.FINER)) {
+            log.finer("paraText Length="+ (size+1)/2);
+        }
         int prevIndex = 0;
+        int index = 0;
         
-        while(m.find()) {
-            if (m.start()>prevIndex) {
+        while(index < len) {
+            int ctrlLen = controlLength(buf, off, len, index);
+            if (ctrlLen==0) {
+                index++;
+                continue;
+            }
+            if (index>prevIndex) {
                 // write text
-                int startIndex = prevIndex;
-                
-                String content = text.substring(startIndex, m.start());
-                paras.add(new ParaText("____", content, startIndex));
+                int start = text.append(buf, off+prevIndex*2, (index-prevIndex)*2);
+                paras.add(new ParaText("____", text, start, text.length()-start, prevIndex));
             }
             
-            if (m.start()+1==m.end()) {
+            int controlChar = RecordCursor.getUShort(buf, off+index*2);
+            if (ctrlLen==1) {
                 // 문자컨드롤
-                byte controlByte = m.group().getBytes(StandardCharsets.UTF_16LE)[0];
-                
-                switch(controlByte) {
+                switch(controlChar) {
                 case 0x0a:      // 10 한 줄 끝 (line break);
                     paras.add(new Ctrl_Character("   _", CtrlCharType.LINE_BREAK));
                     break;
@@ -98,18 +105,21 @@ public class HwpRecord_ParaText extends HwpRecord {
                     break;
                 }
                 
-            } else if (m.start()+8==m.end()) {
+            } else {
                 // 인라인 컨트롤, 확장컨트롤
-                byte controlByte = m.group().getBytes(StandardCharsets.UTF_16LE)[0];
-                String info = new String(m.group().getBytes(StandardCharsets.UTF_16LE), 2, 12, StandardCharsets.US_ASCII).replaceAll("[\\x00-\\x20]+$", "");
+                String info = ctrlId(buf, off+(index+1)*2);
+                int infoId = RecordCursor.getInt(buf, off+(index+1)*2);
 
-                switch(controlByte) {
+                switch(controlChar) {
                 case 0x04:  // 필드 끝
                     break;
                 case 0x08:  // title mark
                     break;
                 case 0x09:  // 탭
-                    paras.add(new ParaText("____", "\t", 0));
+                    {   // control 의 첫 글자(0x09)가 탭 글자이다.
+                        int start = text.append(buf, off+index*2, 2);
+                        paras.add(new ParaText("____", text, start, 1, 0));
+                    }
                     break;
                 case 0x10:  // 머리말/꼬리말
                     paras.add(new Ctrl_HeadFoot(info));
@@ -119,13 +129,13 @@ public class HwpRecord_ParaText extends HwpRecord {
                     break;
                 case 0x15:  // 페이지 컨트롤(감추기, 새번호로 시작 등)
                     {
-                        switch(info) {
-                        case "dhgp":    // 감추기
+                        switch(infoId) {
+                        case CtrlId.PAGE_HIDE:    // 감추기
                             break;
-                        case "pngp":    // 쪽 번호 위치
+                        case CtrlId.PAGE_NUM_POS:    // 쪽 번호 위치
                             paras.add(new Ctrl_PageNumPos(info));
                             break;
-                        case "onwn":    // 새 번호 지정
+                        case CtrlId.NEW_NUMBER:    // 새 번호 지정
                             paras.add(new Ctrl_NewNumber(info));
                             break;
                         }
@@ -133,11 +143,11 @@ public class HwpRecord_ParaText extends HwpRecord {
                     break;
                 case 0x02:  // 구역정의/단정의
                     {
-                        switch(info) {
-                        case "dces":
+                        switch(infoId) {
+                        case CtrlId.SECTION_DEF:
                             paras.add(new Ctrl_SectionDef(info));
                             break;
-                        case "dloc":
+                        case CtrlId.COLUMN_DEF:
                             paras.add(new Ctrl_ColumnDef(info));
                             break;
                         }
@@ -155,17 +165,17 @@ public class HwpRecord_ParaText extends HwpRecord {
                     break;
                 case 0x0b:  // 그리기 개체/표
                     {
-                        switch(info) {
-                        case " osg":
+                        switch(infoId) {
+                        case CtrlId.GEN_SHAPE:
                             paras.add(new Ctrl_GeneralShape(info));
                             break;
-                        case " lbt":
+                        case CtrlId.TABLE:
                             paras.add(new Ctrl_Table(info));
                             break;
-                        case "deqe":
+                        case CtrlId.EQEDIT:
                             paras.add(new Ctrl_EqEdit(info));
                             break;
-                        case "mrof":
+                        case CtrlId.FORM:
                             break;
                         }
                     }
@@ -174,18 +184,19 @@ public class HwpRecord_ParaText extends HwpRecord {
                     break;
                 }
             }
-            prevIndex = m.end();
+            index += ctrlLen;
+            prevIndex = index;
         }
         
-        if (prevIndex<text.length()) {
-            // write final text
-            int startIndex = prevIndex;
-            String content = text.substring(startIndex);
-            paras.add(new ParaText("____", content, startIndex));
+        if (prevIndex*2<size) {
+            // write final text. 홀수 크기면 마지막 byte 는 예전처럼 U+FFFD 로 남는다.
+            int start = text.append(buf, off+prevIndex*2, size-prevIndex*2);
+            paras.add(new ParaText("____", text, start, text.length()-start, prevIndex));
         }
 		        
-		String readable = toReadableString(text);
-		log.fine("                                                  "+readable);
+		if (log.isLoggable(Level.FINE)) {
+			log.fine("                                                  "+toReadableString(new String(buf, off, size, StandardCharsets.UTF_16LE)));
+		}
 
 		if (offset-off-size != 0) {
 			log.fine("[TAG]=" + tagNum + ", size=" + size + ", but currentSize=" + (offset-off));
@@ -195,14 +206,57 @@ public class HwpRecord_ParaText extends HwpRecord {
 		return paras;
 	}
 	
+    /*
+     * index 번째 글자가 control 이면 차지하는 글자 수를 돌려준다. 글자이면 0.
+     *   문자 control (0, 10, 13, 24-31) 은 1글자.
+     *   인라인/확장 control (1-9, 11-12, 14-23) 은 같은 종류의 글자로 끝나는 8글자. 중간에 줄바꿈 문자가 있으면 글자로 본다.
+     */
+    public static int controlLength(byte[] buf, int off, int len, int index) {
+        int c = RecordCursor.getUShort(buf, off+index*2);
+        if (c > 0x1f) {
+            return 0;
+        }
+        if (c==0x00 || c==0x0a || c==0x0d || c>=0x18) {
+            return 1;
+        }
+        if (index+7 >= len || !isExtendControl(RecordCursor.getUShort(buf, off+(index+7)*2))) {
+            return 0;
+        }
+        for (int i=index+1; i<index+7; i++) {
+            switch(RecordCursor.getUShort(buf, off+i*2)) {
+            case 0x0a:
+            case 0x0d:
+            case 0x85:
+            case 0x2028:
+            case 0x2029:
+                return 0;
+            }
+        }
+        return 8;
+    }
+    
+    private static boolean isExtendControl(int c) {
+        return c>=0x01 && c<=0x17 && c!=0x0a && c!=0x0d;
+    }
+    
+    // control 문자 다음 4 bytes 가 ctrlId 이다. 뒤쪽 공백은 버린다.
+    private static String ctrlId(byte[] buf, int off) {
+        int len = 4;
+        while (len>0 && (buf[off+len-1]&0xFF)<=0x20) {
+            len--;
+        }
+        return new String(buf, off, len, StandardCharsets.US_ASCII);
+    }
+    
 	public static String getText(int tagNum, int level, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         
         String text = new String(buf, offset, size, StandardCharsets.UTF_16LE);
         offset += size;
 
-        String readable = toReadableString(text);
-        log.fine("                                                  "+readable);
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  "+toReadableString(text));
+        }
 
         if (offset-off-size != 0) {
             log.fine("[TAG]=" + tagNum + ", size=" + size + ", but currentSize=" + (offset-off));
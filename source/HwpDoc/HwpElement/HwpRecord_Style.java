@@ -51,13 +51,13 @@ public class HwpRecord_Style extends HwpRecord {
 		this.parent = docInfo;
 
 		int offset = off;
-		int styleNameLen1 = (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2;
+		int styleNameLen1 = RecordCursor.getUShort(buf, offset)*2;
 		offset += 2;
 		if (styleNameLen1 > 0) {
 			name 		= new String(buf, offset, styleNameLen1, StandardCharsets.UTF_16LE);
 			offset += styleNameLen1;
 		}
-		int styleNameLen2 = (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2;
+		int styleNameLen2 = RecordCursor.getUShort(buf, offset)*2;
 		offset += 2;
 		if (styleNameLen2 > 0) {
 			engName 	= new String(buf, offset, styleNameLen2, StandardCharsets.UTF_16LE);
@@ -66,11 +66,11 @@ public class HwpRecord_Style extends HwpRecord {
 		type 			= (byte) (buf[offset++]&0x00FF);
 		nextStyle		= (byte) (buf[offset++]&0x00FF);
 		
-		langId 			= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		langId 			= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		paraShape	 	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		paraShape	 	= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		charShape	 	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		charShape	 	= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		
 		log.fine("                                                  "
@@ -49,9 +49,9 @@ public class HwpRecord_TabDef extends HwpRecord {
         this.parent = docInfo;
 
         int offset = off;
-        attr = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        attr = RecordCursor.getInt(buf, offset);
         offset += 4;
-        count = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        count = RecordCursor.getInt(buf, offset);
         offset += 4;
 
         if (size-(offset-off)!=count*8) {
@@ -70,7 +70,7 @@ public class HwpRecord_TabDef extends HwpRecord {
             // paraProps.setPropertyValue("ParaTabStops", tss);
 
             Tab tab = new Tab();
-            tab.pos		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            tab.pos		= RecordCursor.getInt(buf, offset);
             offset += 4;
             tab.type 	= Tab.Type.from(buf[offset++]);
             tab.leader	= LineStyle2.from(buf[offset++]);
@@ -191,12 +191,9 @@ public class HwpRecord_TabDef extends HwpRecord {
                 this.type = type;
             }
 
+            private static final HwpRecordTypes.Lookup<Type> table = new HwpRecordTypes.Lookup<>(values(), typeNum -> typeNum.type);
             public static Type from(int type) {
-                for (Type typeNum: values()) {
-                    if (typeNum.type == type)
-                        return typeNum;
-                }
-                return null;
+                return table.get(type, null);
             }
         }
         
@@ -86,11 +86,8 @@ public enum HwpTag {
     	this.tagNum = tag.tagNum;
     }
     
+    private static final HwpRecordTypes.Lookup<HwpTag> table = new HwpRecordTypes.Lookup<>(values(), tag -> tag.tagNum);
     public static HwpTag from(int tagNum) {
-    	for (HwpTag tag: values()) {
-    		if (tag.tagNum == tagNum)
-    			return tag;
-    	}
-    	return null;
+    	return table.get(tagNum, null);
     }
 }
@@ -0,0 +1,139 @@
+/* Copyright (C) 2023 ebandal
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>
+ */
+/* 본 제품은 한글과컴퓨터의 ᄒᆞᆫ글 문서 파일(.hwp) 공개 문서를 참고하여 개발하였습니다.
+ * 개방형 워드프로세서 마크업 언어(OWPML) 문서 구조 KS X 6101:2018 문서를 참고하였습니다.
+ * 작성자 : 반희수 ebandal@gmail.com  
+ * 작성일 : 2022.10
+ */
+package HwpDoc.HwpElement;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+ * HWP record 를 little-endian 으로 읽는다.
+ * 
+ * 인스턴스는 record stream 하나를 ByteBuffer 로 감싸고, record header 를 읽을 때마다 새로 만들지 않고 재사용한다.
+ * header 를 읽은 값은 다음 header 를 읽기 전까지만 유효하므로, 재귀 호출 전에 지역변수로 옮겨 두어야 한다.
+ * (buf, off) 를 받는 기존 record parser 들은 static 메소드를 사용한다.
+ */
+public final class RecordCursor {
+    private static final VarHandle INT16 = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT32 = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    
+    private final ByteBuffer bb;
+    private int tagNum;
+    private int level;
+    private int size;
+    private int headerLength;
+    
+    public RecordCursor(byte[] buf) {
+        this(buf, 0, buf.length);
+    }
+    
+    public RecordCursor(byte[] buf, int off, int len) {
+        bb = ByteBuffer.wrap(buf, off, len).order(ByteOrder.LITTLE_ENDIAN);
+    }
+    
+    public int position() {
+        return bb.position();
+    }
+    
+    public RecordCursor position(int pos) {
+        bb.position(pos);
+        return this;
+    }
+    
+    public RecordCursor skip(int len) {
+        bb.position(bb.position()+len);
+        return this;
+    }
+    
+    public boolean hasRemaining() {
+        return bb.hasRemaining();
+    }
+    
+    public int remaining() {
+        return bb.remaining();
+    }
+    
+    /*
+     * off 위치의 record header 를 읽는다. position 은 바꾸지 않는다.
+     * tag(10 bits) | level(10 bits) | size(12 bits), size 가 0xFFF 이면 뒤의 4 bytes 가 크기.
+     */
+    public RecordCursor header(int off) {
+        int header = bb.getInt(off);
+        tagNum = header&0x3FF;                  // 10 bits (0 - 9 bit)
+        level = (header&0xFFC00)>>>10;          // 10 bits (10-19 bit)
+        size = (header&0xFFF00000)>>>20;        // 12 bits (20-31 bit)
+        if (size==0xFFF) {
+            size = bb.getInt(off+4);
+            headerLength = 8;
+        } else {
+            headerLength = 4;
+        }
+        return this;
+    }
+    
+    /*
+     * 현재 position 의 record header 를 읽고, position 을 record body 로 옮긴다.
+     */
+    public RecordCursor nextHeader() {
+        header(bb.position());
+        return skip(headerLength);
+    }
+    
+    public int tagNum() {
+        return tagNum;
+    }
+    
+    public HwpTag tag() {
+        return HwpTag.from(tagNum);
+    }
+    
+    public int level() {
+        return level;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public int headerLength() {
+        return headerLength;
+    }
+    
+    public static short getShort(byte[] buf, int off) {
+        return (short) INT16.get(buf, off);
+    }
+    
+    public static int getUShort(byte[] buf, int off) {
+        return (short) INT16.get(buf, off) & 0xFFFF;
+    }
+    
+    public static int getInt(byte[] buf, int off) {
+        return (int) INT32.get(buf, off);
+    }
+    
+    /*
+     * COLORREF 는 R,G,B,A 순서로 저장되어 있다. 0xAARRGGBB 로 돌려준다.
+     */
+    public static int getColor(byte[] buf, int off) {
+        return Integer.rotateRight(Integer.reverseBytes(getInt(buf, off)), 8);
+    }
+}
@@ -20,36 +20,35 @@
  */
 package HwpDoc;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
-
-import javax.crypto.BadPaddingException;
-import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
-import javax.crypto.spec.SecretKeySpec;
+import java.util.zip.ZipException;
 
 import HwpDoc.HwpElement.HwpRecord_BinData.Compressed;
 import HwpDoc.Exception.CompoundDetectException;
 import HwpDoc.Exception.CompoundParseException;
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
-import HwpDoc.HwpElement.HwpTag;
 import HwpDoc.OLEdoc.CompoundFile;
 import HwpDoc.OLEdoc.DirectoryEntry;
 import HwpDoc.paragraph.HwpParagraph;
@@ -64,6 +63,10 @@ public class HwpFile {
     public	HwpDocInfo 	docInfo;
     public	List<HwpSection> bodyText;
     public	List<HwpSection> viewText;
+    private	Executor sectionExecutor;		// null 이면 section 들을 순서대로 읽는다.
+    private	boolean lazySections;			// true 이면 section 의 문단 위치만 기록하고, 문단은 꺼낼 때 parse 한다.
+    private	ParseTracer tracer;				// null 이면 record 를 기록하지 않는다.
+    private	ParseMode parseMode = ParseMode.FULL;
     
     // Let's have member that are needed for showing in LibreOffice
     public	List<DirectoryEntry> directoryBinData;
@@ -80,7 +83,12 @@ public class HwpFile {
     }
 
     public HwpFile(File file) throws FileNotFoundException {
-        oleFile = new CompoundFile(file);
+        this(file, false);
+    }
+
+    // memoryMapped 이면 파일을 mapping 해서 읽는다. mapping 은 close() 뒤에도 GC 될 때까지 남는다.
+    public HwpFile(File file, boolean memoryMapped) throws FileNotFoundException {
+        oleFile = new CompoundFile(file, memoryMapped);
         this.filename = file.toString();
         fileHeader = new HwpFileHeader();
         docInfo = new HwpDocInfo(this);
@@ -88,6 +96,25 @@ public class HwpFile {
         viewText = new ArrayList<HwpSection>();
     }
 
+    // 메모리에 있는 문서. filename 은 구성요소를 저장할 때 폴더명으로만 사용한다.
+    public HwpFile(ByteBuffer buffer, String filename) {
+        oleFile = new CompoundFile(buffer);
+        this.filename = filename;
+        fileHeader = new HwpFileHeader();
+        docInfo = new HwpDocInfo(this);
+        bodyText = new ArrayList<HwpSection>();
+        viewText = new ArrayList<HwpSection>();
+    }
+
+    public HwpFile(SeekableByteChannel channel, String filename) {
+        oleFile = new CompoundFile(channel);
+        this.filename = filename;
+        fileHeader = new HwpFileHeader();
+        docInfo = new HwpDocInfo(this);
+        bodyText = new ArrayList<HwpSection>();
+        viewText = new ArrayList<HwpSection>();
+    }
+
     public List<HwpSection> getSections() {
         if (fileHeader.bDistributable) {
             return viewText;
@@ -100,6 +127,62 @@ public class HwpFile {
         return oleFile;
     }
     
+    /*
+     * BodyText/ViewText 의 section 들을 ForkJoinPool.commonPool() 에서 동시에 읽는다.
+     */
+    public void setParallel(boolean parallel) {
+        this.sectionExecutor = parallel ? ForkJoinPool.commonPool() : null;
+    }
+    
+    /*
+     * section 들을 동시에 읽을 executor 를 지정한다. null 이면 순서대로 읽는다.
+     */
+    public void setSectionExecutor(Executor executor) {
+        this.sectionExecutor = executor;
+    }
+    
+    /*
+     * BodyText/ViewText 의 문단을 open() 때 모두 객체로 만들지 않는다. open() 전에 지정하는 선택 사항이고,
+     * 변환(WriterContext)은 문단을 모두 만들어서 쓰므로 켜지 않는다.
+     * HwpSection.paragraphs() 는 section stream 을 다시 열어 문단 하나씩 풀면서 parse 하므로, close() 전에 읽어야 한다.
+     * HwpSection.getParagraph() 는 처음 부를 때 그 section 을 모두 풀어서 들고 있다.
+     */
+    public void setLazySections(boolean lazy) {
+        this.lazySections = lazy;
+    }
+    
+    /*
+     * TEXT_ONLY 이면 문단과 글자, 표의 셀 문단, 글상자만 만든다. open() 전에 지정한다.
+     * 그리기 개체의 속성, BinData, LINE_SEG, RANGE_TAG 는 읽지 않으므로 변환에는 쓰지 않는다.
+     */
+    public void setParseMode(ParseMode mode) {
+        this.parseMode = mode;
+    }
+    
+    public ParseMode getParseMode() {
+        return parseMode;
+    }
+    
+    /*
+     * DocInfo, BodyText/ViewText 의 record 를 하나씩 tracer 에 남긴다. open() 전에 지정한다.
+     * 지정하지 않아도 HwpSection logger 가 FINE 이면 예전처럼 log 에 남긴다.
+     */
+    public void setParseTracer(ParseTracer tracer) {
+        this.tracer = tracer;
+    }
+    
+    public ParseTracer getParseTracer() {
+        return tracer;
+    }
+    
+    private ParseTracer activeTracer() {
+        if (tracer != null) {
+            return tracer;
+        }
+        Logger sectionLog = Logger.getLogger(HwpSection.class.getName());
+        return sectionLog.isLoggable(Level.FINE) ? ParseTracer.toLogger(sectionLog, Level.FINE) : null;
+    }
+    
     public boolean detect() throws HwpDetectException, IOException {
         // read CompoundFile structure
         try {
@@ -148,6 +231,47 @@ public class HwpFile {
         }
     }
     
+    /*
+     * open() 대신 쓴다. 문단/control 객체를 만들지 않고 DocInfo 와 BodyText(배포용 문서는 ViewText) 의 record 를
+     * visitor 에 차례로 넘긴다. section 은 순서대로, 압축을 풀면서 record 단위로 읽는다.
+     */
+    public void accept(HwpRecordVisitor visitor) throws HwpDetectException, CompoundDetectException, IOException, HwpParseException {
+        if (fileHeader.signature==null || fileHeader.version==null) {
+            detect();
+        }
+        if (fileHeader.bPasswordEncrypted) {
+            throw new HwpParseException();
+        }
+        
+        visitor.startDocInfo();
+        try (InputStream is = openRecordStream(getComponentEntry("DocInfo"), null)) {
+            new HwpRecordWalker(visitor, true).walk(is);
+        }
+        visitor.endDocInfo();
+        
+        String storage = fileHeader.bDistributable ? "ViewText" : "BodyText";
+        Decryptor decryptor = fileHeader.bDistributable ? new Decryptor() : null;
+        for (DirectoryEntry section: oleFile.getChildEntries(storage)) {
+            String name = storage + "/" + section.getDirectoryEntryName().trim();
+            visitor.startSection(name);
+            try (InputStream is = openRecordStream(section, decryptor)) {
+                new HwpRecordWalker(visitor, false).walk(is);
+            }
+            visitor.endSection(name);
+        }
+    }
+    
+    private InputStream openRecordStream(DirectoryEntry entry, Decryptor decryptor) throws HwpParseException, IOException {
+        InputStream is = oleFile.openStream(entry);
+        if (decryptor != null) {
+            is = decryptor.openStream(is);
+        }
+        if (fileHeader.bCompressed) {
+            is = Decompressor.openStream(is);
+        }
+        return is;
+    }
+    
     public void saveHwpComponent() throws IOException {
         Compressed compressed = fileHeader.bCompressed?Compressed.COMPRESS:Compressed.NO_COMPRESS;
         
@@ -173,34 +297,26 @@ public class HwpFile {
                 }
                 saveChildEntries(childPath, entry.getDirectoryEntryName().trim(), compressed);
             } else {
-                byte[] buf = oleFile.read(entry);
                 try (FileOutputStream fos = new FileOutputStream(Paths.get(basePath.toString(), entry.getDirectoryEntryName().trim()).toFile())) {
                     if (compressed == Compressed.COMPRESS || (compressed==Compressed.FOLLOW_STORAGE && fileHeader.bCompressed)) {
-                        fos.write(unzip(oleFile.read(entry)));
+                        unzip(entry, fos);
                     } else {
-                        fos.write(oleFile.read(entry));
+                        oleFile.openStream(entry).transferTo(fos);
                     }
-                } catch (DataFormatException e) {
+                } catch (ZipException e) {
                     e.printStackTrace();
                 }
             }
         }
     }
 
-    private DirectoryEntry searchChildEntry(Path basePath, DirectoryEntry baseEntry, String entryName) throws IOException {
-        List<DirectoryEntry> entries = oleFile.getChildEntries(baseEntry);
-        for (DirectoryEntry entry: entries) {
-            if (entry.getObjectType()==0x01) {
-                Path childPath = Paths.get(basePath.toString(), entry.getDirectoryEntryName().trim());
-                // Files.createDirectory(childPath);
-                return searchChildEntry(childPath, entry, entryName);
-            } else {
-                if (entry.getDirectoryEntryName().trim().equals(entryName)) {
-                    return entry;
-                }
-            }
+    private DirectoryEntry searchChildEntry(String entryName) {
+        // BinData 아래에 있는 것이 대부분이므로 경로로 먼저 찾는다.
+        DirectoryEntry entry = oleFile.getEntryByPath("BinData/" + entryName);
+        if (entry == null) {
+            entry = oleFile.getEntry(entryName);
         }
-        return null;
+        return (entry!=null && entry.getObjectType()==0x02) ? entry : null;
     }
     
     public String saveChildEntry(Path rootPath, String entryName, Compressed compressed) throws IOException {
@@ -216,35 +332,19 @@ public class HwpFile {
         } else {
             basePath = Paths.get(rootPath.toString(), shortFilename);
         }
-        DirectoryEntry targetEntry = null;
-        
-        List<DirectoryEntry> entries = oleFile.getChildEntries("Root Entry");
-        for (DirectoryEntry entry: entries) {
-            if (entry.getObjectType()==0x01) {
-                Path childPath = Paths.get(rootPath.toString(), shortFilename, entry.getDirectoryEntryName().trim());
-                basePath = childPath;
-                if (!childPath.toFile().exists()) {
-                    Files.createDirectory(childPath);
-                }
-                targetEntry = searchChildEntry(childPath, entry, entryName);
-                if (targetEntry!=null)	break;
-            } else {
-                if (entry.getDirectoryEntryName().trim().equals(entryName)) {
-                    targetEntry = entry;
-                    break;
-                }
-            }
-        }
+        DirectoryEntry targetEntry = searchChildEntry(entryName);
         if (targetEntry != null) {
-            outputFile = Paths.get(basePath.toString(), targetEntry.getDirectoryEntryName().trim()).toFile();
+            Path entryPath = Paths.get(basePath.toString(), targetEntry.getEntryPath().split("/"));
+            Files.createDirectories(entryPath.getParent());
+            outputFile = entryPath.toFile();
             if (outputFile.exists()==false) {
                 try (FileOutputStream fos = new FileOutputStream(outputFile)) {
                     if (compressed == Compressed.COMPRESS || (compressed==Compressed.FOLLOW_STORAGE && fileHeader.bCompressed)) {
-                        fos.write(unzip(oleFile.read(targetEntry)));
+                        unzip(targetEntry, fos);
                     } else {
-                        fos.write(oleFile.read(targetEntry));
+                        oleFile.openStream(targetEntry).transferTo(fos);
                     }
-                } catch (DataFormatException e) {
+                } catch (ZipException e) {
                     e.printStackTrace();
                 }
             }
@@ -255,30 +355,13 @@ public class HwpFile {
     
     public byte[] getChildBytes(String entryName, Compressed compressed) throws IOException {
         byte[] retBytes = null;
-        String patternStr = ".*"+Pattern.quote(File.separator)+"([^"+Pattern.quote(File.separator)+"]+)$";
-        String shortFilename = filename.replaceAll(patternStr, "$1");	// ".*\\\\([^\\\\]+)$"		// 불필요코드이나 현재는 유지
-        shortFilename = shortFilename.replaceAll("(.*)\\.hwp$", "$1");								// 불필요코드이나 현재는 유지
-        log.finer("HwpFilePath="+filename + ", FileName="+shortFilename);
-        DirectoryEntry targetEntry = null;
-        
-        List<DirectoryEntry> entries = oleFile.getChildEntries("Root Entry");
-        for (DirectoryEntry entry: entries) {
-            if (entry.getObjectType()==0x01) {
-                Path childPath = Paths.get(shortFilename, entry.getDirectoryEntryName().trim());	// 불필요코드이나 현재는 유지.
-                targetEntry = searchChildEntry(childPath, entry, entryName);
-                if (targetEntry!=null)	break;
-            } else {
-                if (entry.getDirectoryEntryName().trim().equals(entryName)) {
-                    targetEntry = entry;
-                    break;
-                }
-            }
-        }
+        DirectoryEntry targetEntry = searchChildEntry(entryName);
         if (targetEntry != null) {
             if (compressed == Compressed.COMPRESS || (compressed==Compressed.FOLLOW_STORAGE && fileHeader.bCompressed)) {
                 try {
-                    retBytes = unzip(oleFile.read(targetEntry));
-                } catch (IOException | DataFormatException e) {
+                    // 그림, OLE 는 거의 압축되지 않으므로 압축된 크기로 시작하고, 모자라면 늘린다.
+                    retBytes = unzip(targetEntry, targetEntry.getStreamSize());
+                } catch (IOException e) {
                     e.printStackTrace();
                 }
             } else {
@@ -289,79 +372,20 @@ public class HwpFile {
         return retBytes;
     }
     
-	private byte[] unzip(byte[] input) throws IOException, DataFormatException {
-        Inflater decompressor = new Inflater(true);
-        decompressor.setInput(input, 0, input.length);
-        
-        byte[] retBytes = null;
-        try (ByteArrayOutputStream bos = new ByteArrayOutputStream(input.length)) {
-            // Decompress the data
-            byte[] buf = new byte[8096];
-            while (!decompressor.finished()) {
-                int count = decompressor.inflate(buf);
-                if (count > 0) {
-                    bos.write(buf, 0, count);
-                } else {
-                    throw new IOException("can't decompress data");
-                }
-            }
-            bos.close();
-            retBytes = bos.toByteArray();
-        }
-        return retBytes;
+    private byte[] unzip(DirectoryEntry entry, long sizeHint) throws IOException {
+        return Decompressor.unzip(oleFile.openStream(entry), sizeHint);
     }
-	
-    private byte[] decrypt(byte[] buf) throws HwpParseException {
-        int offset 	= 0;
-        int header 	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0xFF0000 | buf[offset+1]<<8&0xFF00 | buf[offset]&0xFF;
-        int tagNum 	= header&0x3FF;				// 10 bits (0 - 9 bit)
-        int level 	= (header&0xFFC00)>>>10;	// 10 bits (10-19 bit)
-        int size 	= (header&0xFFF00000)>>>20;	// 12 bits (20-31 bit)
-        offset += 4;
-        
-        HwpTag tag = HwpTag.from(tagNum);
-        if (tag!=HwpTag.HWPTAG_DISTRIBUTE_DOC_DATA) {
-            throw new HwpParseException();
-        }
-        if (size != 256) {
-            throw new HwpParseException();
-        }
-        
-        byte[] docData = new byte[256];
-        System.arraycopy(buf, offset, docData, 0, 256);
-        offset += 256;
-        
-        int seed = docData[3]<<24&0xFF000000 | docData[2]<<16&0xFF0000 | docData[1]<<8&0xFF00 | docData[0]&0xFF;
-        int hashoffset = (seed & 0x0f)+4;
-        
-        // 한글문서파일형식_배포용문서_revision1.2.hwp
-        // MS Visual C의 랜덤함수 srand(), rand()를 사용
-        // 1. srand() 초기화 (Seed 사용)
-        // 2. rand()함수의 결과 값을 이용하여 배열을 채운다. 단, rand()함수가 호출되는 순번에 따라 그 사용 방식이 달라진다.홀수번째 : 배열에 채워지는 값짝수번째 : 배열에 채워지는 횟수
-        // 3. 홀수번째 rand() & 0xFF의 값을 A라 하고, 짝수번째 (rand() & 0x0F + 1)의 결과를 B라 할 때배열에 A값을 B번 횟수만큼 삽입한다.예를 들어 A가 ‘a’이고, B가 3일 경우에 배열에 ‘a’를 3번 삽입한다.
-        // 4. 배열크기가 256이 될 때까지 3항을 반복한다.
-        Rand.srand(seed);
-        for (int i=0; i < 256; ) {
-            byte a = (byte) (Rand.rand() & 0x000000FF);
-            int cnt = (Rand.rand() & 0x0000000F) + 1;
-            for (int j=0; j<cnt && i<256; j++,i++) {
-                docData[i] ^= a;
-            }
-        }
-        
-        byte[] output = null;
-        try {
-            SecretKeySpec skey = new SecretKeySpec(docData, hashoffset, 16, "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
-            cipher.init(Cipher.DECRYPT_MODE, skey);
-            output = cipher.doFinal(buf, offset, buf.length-offset);
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | IllegalBlockSizeException | BadPaddingException e) {
-            e.printStackTrace();
-        }
-        
-        return output;
+    
+    // hwp 는 압축을 푼 크기를 저장하지 않으므로, DocInfo 같은 record stream 은 압축된 크기의 4배를 예상 크기로 쓴다.
+    private static long recordSizeHint(DirectoryEntry entry) {
+        return entry.getStreamSize()*4;
     }
     
+    // sector chain 을 따라 읽으면서 바로 압축을 푼다. 압축된 stream 전체를 byte[]로 읽지 않는다.
+    private void unzip(DirectoryEntry entry, OutputStream output) throws IOException {
+        Decompressor.unzip(oleFile.openStream(entry), output);
+    }
+	
     public boolean getFileHeader() throws CompoundDetectException, HwpDetectException {
         return fileHeader.parse(getComponent("FileHeader"));
     }
@@ -371,46 +395,135 @@ public class HwpFile {
     }
     
     public boolean getDocInfo(int version) throws CompoundDetectException, IOException, DataFormatException, HwpParseException, NotImplementedException {
-        if (fileHeader.bCompressed)
-            return docInfo.parse(unzip(getComponent("DocInfo")), version);
-        else 
+        docInfo.setTracer(activeTracer());
+        docInfo.setParseMode(parseMode);
+        if (fileHeader.bCompressed) {
+            DirectoryEntry entry = getComponentEntry("DocInfo");
+            return docInfo.parse(unzip(entry, recordSizeHint(entry)), version);
+        } else {
             return docInfo.parse(getComponent("DocInfo"), version);
+        }
     }
     
     private boolean getBodyText(int version) throws HwpParseException, IOException, DataFormatException {
         List<DirectoryEntry> sections = oleFile.getChildEntries("BodyText");
         log.fine("BodyText has " + sections.size() + " children");
+        ParseTracer sectionTracer = activeTracer();
+        List<SectionTask> tasks = new ArrayList<SectionTask>();
         for (DirectoryEntry section: sections) {
-            HwpSection hwpSection = new HwpSection(this);
-            if (fileHeader.bCompressed) {
-                hwpSection.parse(unzip(oleFile.read(section)), version);
-            } else {
-                hwpSection.parse(oleFile.read(section), version);
-            }
-            bodyText.add(hwpSection);
+            tasks.add(() -> {
+                HwpSection hwpSection = new HwpSection(this);
+                hwpSection.setTracer(sectionTracer, "BodyText/" + section.getDirectoryEntryName().trim());
+                hwpSection.setParseMode(parseMode);
+                // section 전체를 풀어 두지 않고, 압축을 풀면서 문단 단위로 parse 한다.
+                parseSection(hwpSection, () -> fileHeader.bCompressed ? Decompressor.openStream(oleFile.openStream(section))
+                                                                      : oleFile.openStream(section), version);
+                return hwpSection;
+            });
         }
+        bodyText.addAll(parseSections(tasks));
         return true;
     }
     
     private boolean getViewText(int version) throws HwpParseException, NotImplementedException, IOException, DataFormatException {
         List<DirectoryEntry> sections = oleFile.getChildEntries("ViewText");
         log.fine("ViewText has " + sections.size() + " children");
+        Decryptor decryptor = new Decryptor();
+        ParseTracer sectionTracer = activeTracer();
+        List<SectionTask> tasks = new ArrayList<SectionTask>();
         for (DirectoryEntry section: sections) {
-            HwpSection hwpSection = new HwpSection(this);
-            if (fileHeader.bCompressed) {
-                hwpSection.parse(unzip(decrypt(oleFile.read(section))), version);
-            } else {
-                hwpSection.parse(decrypt(oleFile.read(section)), version);
-            }
-            viewText.add(hwpSection);
+            tasks.add(() -> {
+                HwpSection hwpSection = new HwpSection(this);
+                hwpSection.setTracer(sectionTracer, "ViewText/" + section.getDirectoryEntryName().trim());
+                hwpSection.setParseMode(parseMode);
+                // 복호화, 압축 풀기, parse 를 stream 으로 이어서 한다.
+                parseSection(hwpSection, () -> {
+                    InputStream is = decryptor.openStream(oleFile.openStream(section));
+                    return fileHeader.bCompressed ? Decompressor.openStream(is) : is;
+                }, version);
+                return hwpSection;
+            });
         }
+        viewText.addAll(parseSections(tasks));
         return true;
     }
     
+    private void parseSection(HwpSection hwpSection, HwpSection.StreamSource source, int version) throws HwpParseException, IOException {
+        if (lazySections) {
+            hwpSection.index(source, version);
+        } else {
+            try (InputStream is = source.open()) {
+                hwpSection.parse(is, version);
+            }
+        }
+    }
+    
+    private interface SectionTask {
+        HwpSection parse() throws HwpParseException, IOException, DataFormatException;
+    }
+    
+    /*
+     * section 들은 서로 독립적이므로 sectionExecutor 가 있으면 동시에 parse 한다. 결과는 directory 순서대로 돌려준다.
+     */
+    private List<HwpSection> parseSections(List<SectionTask> tasks) throws HwpParseException, IOException, DataFormatException {
+        List<HwpSection> sections = new ArrayList<HwpSection>(tasks.size());
+        if (sectionExecutor == null || tasks.size() < 2) {
+            for (SectionTask task: tasks) {
+                sections.add(task.parse());
+            }
+            return sections;
+        }
+        
+        List<FutureTask<HwpSection>> futures = new ArrayList<FutureTask<HwpSection>>(tasks.size());
+        for (SectionTask task: tasks) {
+            FutureTask<HwpSection> future = new FutureTask<HwpSection>(task::parse);
+            futures.add(future);
+            sectionExecutor.execute(future);
+        }
+        try {
+            for (FutureTask<HwpSection> future: futures) {
+                sections.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof HwpParseException)
+                throw (HwpParseException)cause;
+            if (cause instanceof IOException)
+                throw (IOException)cause;
+            if (cause instanceof DataFormatException)
+                throw (DataFormatException)cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException)cause;
+            if (cause instanceof Error)
+                throw (Error)cause;
+            throw new IOException(cause);
+        } finally {
+            for (FutureTask<HwpSection> future: futures) {
+                future.cancel(false);
+            }
+        }
+        return sections;
+    }
+    
     public byte[] getComponent(String entryName) throws CompoundDetectException {
         return oleFile.getComponent(entryName);
     }
     
+    public InputStream getComponentStream(String entryName) throws CompoundDetectException {
+        return oleFile.openStream(getComponentEntry(entryName));
+    }
+    
+    private DirectoryEntry getComponentEntry(String entryName) throws CompoundDetectException {
+        DirectoryEntry entry = oleFile.getEntry(entryName);
+        if (entry==null) {
+            throw new CompoundDetectException();
+        }
+        return entry;
+    }
+    
     public void close() throws IOException {
         oleFile.close();
     }
@@ -432,17 +545,4 @@ public class HwpFile {
             this.paraList = new ArrayList<HwpParagraph>();
         this.paraList.add(para);
     }
-    
-    public static class Rand {
-        static int random_seed;
-        
-        public static void srand(int seed) {
-            random_seed = seed;
-        }
-        
-        public static int rand() {
-            random_seed = (random_seed * 214013 + 2531011) & 0xFFFFFFFF;
-            return ((random_seed >> 16) & 0x7FFF);
-        }
-    }
 } 
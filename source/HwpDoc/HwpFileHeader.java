@@ -25,6 +25,8 @@ import java.nio.charset.StandardCharsets;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
+import HwpDoc.HwpElement.RecordCursor;
+
 public class HwpFileHeader {
 	public	String signature;
 	public	String version;
@@ -90,7 +92,7 @@ public class HwpFileHeader {
 		bCopyProhibited			= (buf[offset]&0x02)==0x02?true:false;
 		bCopyPermitted			= (buf[offset]&0x04)==0x04?true:false;
 		offset += 4;
-		encryptVersion = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0xFF0000 | buf[offset+1]<<8&0xFF00 | buf[offset]&0xFF;
+		encryptVersion = RecordCursor.getInt(buf, offset);
 		offset += 4;
 		countryKOGLLicensed		= (int)buf[offset];
 		
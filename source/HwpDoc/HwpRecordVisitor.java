@@ -0,0 +1,72 @@
+/* Copyright (C) 2023 ebandal
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>
+ */
+/* 본 제품은 한글과컴퓨터의 ᄒᆞᆫ글 문서 파일(.hwp) 공개 문서를 참고하여 개발하였습니다.
+ * 개방형 워드프로세서 마크업 언어(OWPML) 문서 구조 KS X 6101:2018 문서를 참고하였습니다.
+ * 작성자 : 반희수 ebandal@gmail.com  
+ * 작성일 : 2022.10
+ */
+package HwpDoc;
+
+import HwpDoc.HwpElement.HwpTag;
+
+/*
+ * HwpFile.accept() 로 DocInfo, BodyText/ViewText 의 record 를 객체로 만들지 않고 차례로 받는다.
+ * buf 는 callback 안에서만 유효하다. 이후에 쓰려면 복사해야 한다.
+ * ctrlId 는 CtrlId 의 값이다. 문자열은 CtrlId.toString() 으로 얻는다.
+ */
+public interface HwpRecordVisitor {
+    
+    default void startDocInfo() {}
+    
+    default void endDocInfo() {}
+    
+    // name 은 "BodyText/Section0" 또는 "ViewText/Section0"
+    default void startSection(String name) {}
+    
+    default void endSection(String name) {}
+    
+    // buf[off..off+size) 는 PARA_HEADER 의 내용
+    default void startParagraph(int level, byte[] buf, int off, int size) {}
+    
+    default void endParagraph(int level) {}
+    
+    // PARA_TEXT 에서 control 문자 사이의 글자들. 탭은 "\t" 로 따로 온다.
+    default void text(int level, String text) {}
+    
+    // 문자 control (10:줄바꿈, 13:문단끝, 24:하이픈, 30:묶음빈칸, 31:고정폭빈칸 등)
+    default void charCtrl(int level, int code) {}
+    
+    // buf[off..off+size) 는 ctrlId 4 bytes 를 포함한 CTRL_HEADER 의 내용
+    default void startCtrl(int level, int ctrlId, byte[] buf, int off, int size) {}
+    
+    default void endCtrl(int level, int ctrlId) {}
+    
+    // 표 안의 셀. buf 는 LIST_HEADER 의 내용
+    default void startCell(int level, byte[] buf, int off, int size) {}
+    
+    default void endCell(int level) {}
+    
+    // 표 이외의 control (머리말/꼬리말, 각주, 글상자 등) 안의 문단 목록. buf 는 LIST_HEADER 의 내용
+    default void startList(int level, int ctrlId, byte[] buf, int off, int size) {}
+    
+    default void endList(int level, int ctrlId) {}
+    
+    // HWPTAG_SHAPE_COMPONENT, HWPTAG_SHAPE_COMPONENT_*
+    default void shape(int level, HwpTag tag, byte[] buf, int off, int size) {}
+    
+    // 위에 해당하지 않는 record. DocInfo 의 record 는 모두 여기로 온다.
+    default void record(int level, HwpTag tag, byte[] buf, int off, int size) {}
+}
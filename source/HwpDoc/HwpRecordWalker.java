@@ -0,0 +1,259 @@
+/* Copyright (C) 2023 ebandal
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>
+ */
+/* 본 제품은 한글과컴퓨터의 ᄒᆞᆫ글 문서 파일(.hwp) 공개 문서를 참고하여 개발하였습니다.
+ * 개방형 워드프로세서 마크업 언어(OWPML) 문서 구조 KS X 6101:2018 문서를 참고하였습니다.
+ * 작성자 : 반희수 ebandal@gmail.com  
+ * 작성일 : 2022.10
+ */
+package HwpDoc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import HwpDoc.Exception.HwpParseException;
+import HwpDoc.HwpElement.HwpRecord_ParaText;
+import HwpDoc.HwpElement.HwpTag;
+import HwpDoc.HwpElement.RecordCursor;
+import HwpDoc.paragraph.CtrlId;
+
+/*
+ * record 를 하나씩 읽어 HwpRecordVisitor 로 넘긴다. 객체를 만들지 않고 level 만으로 문단, control, 셀의 끝을 찾는다.
+ *   PARA_HEADER(n) 의 하위 record 는 n+1 이다.
+ *   CTRL_HEADER(n) 의 하위 record(LIST_HEADER, SHAPE_COMPONENT, ...) 는 n+1 이다.
+ *   LIST_HEADER(n) 의 문단은 같은 level n 의 PARA_HEADER 들이다.
+ */
+final class HwpRecordWalker {
+    private static final int PARA = 0;
+    private static final int CTRL = 1;
+    private static final int CELL = 2;
+    private static final int LIST = 3;
+    
+    private final HwpRecordVisitor visitor;
+    private final boolean flat;     // DocInfo 는 구조 없이 record() 로만 넘긴다.
+    
+    // 열려 있는 문단, control, 셀
+    private int[] kinds = new int[16];
+    private int[] levels = new int[16];
+    private int[] ctrlIds = new int[16];
+    private boolean[] tableSeen = new boolean[16];  // 표 control 에서 TABLE record 를 지났는지. 그 전의 LIST_HEADER 는 캡션이다.
+    private int depth;
+    
+    HwpRecordWalker(HwpRecordVisitor visitor, boolean flat) {
+        this.visitor = visitor;
+        this.flat = flat;
+    }
+    
+    /*
+     * 압축을 푼 stream 을 record 단위로 읽는다. 가장 큰 record 크기 만큼의 buffer 만 쓴다.
+     */
+    void walk(InputStream is) throws HwpParseException, IOException {
+        byte[] header = new byte[8];
+        byte[] buf = new byte[4096];
+        
+        while (is.readNBytes(header, 0, 4) == 4) {
+            int value = RecordCursor.getInt(header, 0);
+            int tagNum = value&0x3FF;                   // 10 bits (0 - 9 bit)
+            int level = (value&0xFFC00)>>>10;           // 10 bits (10-19 bit)
+            int size =  (value&0xFFF00000)>>>20;        // 12 bits (20-31 bit)
+            if (size==0xFFF) {
+                if (is.readNBytes(header, 4, 4) < 4) {
+                    break;
+                }
+                size = RecordCursor.getInt(header, 4);
+            }
+            if (size < 0) {
+                throw new HwpParseException();
+            }
+            if (size > buf.length) {
+                buf = new byte[Math.max(size, buf.length*2)];
+            }
+            if (is.readNBytes(buf, 0, size) < size) {
+                break;
+            }
+            visit(tagNum, level, buf, 0, size);
+        }
+        finish();
+    }
+    
+    private void visit(int tagNum, int level, byte[] buf, int off, int size) {
+        HwpTag tag = HwpTag.from(tagNum);
+        if (flat || tag==null) {
+            visitor.record(level, tag, buf, off, size);
+            return;
+        }
+        close(level, tag);
+        
+        switch(tag) {
+        case HWPTAG_PARA_HEADER:
+            visitor.startParagraph(level, buf, off, size);
+            push(PARA, level, 0);
+            break;
+        case HWPTAG_PARA_TEXT:
+            text(level, buf, off, size);
+            break;
+        case HWPTAG_CTRL_HEADER:
+            {
+                int ctrlId = size < 4 ? 0 : RecordCursor.getInt(buf, off);
+                visitor.startCtrl(level, ctrlId, buf, off, size);
+                push(CTRL, level, ctrlId);
+            }
+            break;
+        case HWPTAG_LIST_HEADER:
+            {
+                int owner = ownerCtrl();
+                int ctrlId = owner < 0 ? 0 : ctrlIds[owner];
+                if (ctrlId==CtrlId.TABLE && tableSeen[owner]) {
+                    visitor.startCell(level, buf, off, size);
+                    push(CELL, level, ctrlId);
+                } else {
+                    visitor.startList(level, ctrlId, buf, off, size);
+                    push(LIST, level, ctrlId);
+                }
+            }
+            break;
+        case HWPTAG_SHAPE_COMPONENT:
+        case HWPTAG_SHAPE_COMPONENT_LINE:
+        case HWPTAG_SHAPE_COMPONENT_RECTANGLE:
+        case HWPTAG_SHAPE_COMPONENT_ELLIPSE:
+        case HWPTAG_SHAPE_COMPONENT_ARC:
+        case HWPTAG_SHAPE_COMPONENT_POLYGON:
+        case HWPTAG_SHAPE_COMPONENT_CURVE:
+        case HWPTAG_SHAPE_COMPONENT_OLE:
+        case HWPTAG_SHAPE_COMPONENT_PICTURE:
+        case HWPTAG_SHAPE_COMPONENT_CONTAINER:
+        case HWPTAG_SHAPE_COMPONENT_TEXTART:
+        case HWPTAG_SHAPE_COMPONENT_UNKNOWN:
+            visitor.shape(level, tag, buf, off, size);
+            break;
+        case HWPTAG_TABLE:
+            {
+                int owner = ownerCtrl();
+                if (owner >= 0) {
+                    tableSeen[owner] = true;
+                }
+            }
+            visitor.record(level, tag, buf, off, size);
+            break;
+        default:
+            visitor.record(level, tag, buf, off, size);
+            break;
+        }
+    }
+    
+    /*
+     * PARA_TEXT 를 글자 묶음과 control 로 나눈다. control 구분은 HwpRecord_ParaText 와 같다.
+     */
+    private void text(int level, byte[] buf, int off, int size) {
+        int len = size/2;
+        int runStart = 0;
+        int i = 0;
+        while (i < len) {
+            int ctrlLen = HwpRecord_ParaText.controlLength(buf, off, len, i);
+            if (ctrlLen==0) {
+                i++;
+                continue;
+            }
+            if (i > runStart) {
+                visitor.text(level, new String(buf, off+runStart*2, (i-runStart)*2, StandardCharsets.UTF_16LE));
+            }
+            int c = RecordCursor.getUShort(buf, off+i*2);
+            if (ctrlLen==1) {
+                visitor.charCtrl(level, c);
+            } else if (c==0x09) {
+                visitor.text(level, "\t");     // 탭. 나머지 확장/인라인 control 은 CTRL_HEADER 로 따로 온다.
+            }
+            i += ctrlLen;
+            runStart = i;
+        }
+        if (runStart*2 < size) {
+            visitor.text(level, new String(buf, off+runStart*2, size-runStart*2, StandardCharsets.UTF_16LE));
+        }
+    }
+    
+    /*
+     * 가장 안쪽에 열려 있는 control 의 위치. 없으면 -1
+     */
+    private int ownerCtrl() {
+        for (int i=depth-1; i>=0; i--) {
+            if (kinds[i]==CTRL) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /*
+     * level 로 새 record 바깥에 있는 문단, control, 셀을 닫는다.
+     */
+    private void close(int level, HwpTag tag) {
+        while (depth > 0) {
+            int kind = kinds[depth-1];
+            int openLevel = levels[depth-1];
+            boolean inside;
+            if (kind==CELL || kind==LIST) {
+                inside = level > openLevel || (level==openLevel && tag==HwpTag.HWPTAG_PARA_HEADER);
+            } else {
+                inside = level > openLevel;
+            }
+            if (inside) {
+                break;
+            }
+            pop();
+        }
+    }
+    
+    private void finish() {
+        while (depth > 0) {
+            pop();
+        }
+    }
+    
+    private void push(int kind, int level, int ctrlId) {
+        if (depth==kinds.length) {
+            kinds = Arrays.copyOf(kinds, depth*2);
+            levels = Arrays.copyOf(levels, depth*2);
+            ctrlIds = Arrays.copyOf(ctrlIds, depth*2);
+            tableSeen = Arrays.copyOf(tableSeen, depth*2);
+        }
+        kinds[depth] = kind;
+        levels[depth] = level;
+        ctrlIds[depth] = ctrlId;
+        tableSeen[depth] = false;
+        depth++;
+    }
+    
+    private void pop() {
+        depth--;
+        int level = levels[depth];
+        int ctrlId = ctrlIds[depth];
+        switch(kinds[depth]) {
+        case PARA:
+            visitor.endParagraph(level);
+            break;
+        case CTRL:
+            visitor.endCtrl(level, ctrlId);
+            break;
+        case CELL:
+            visitor.endCell(level);
+            break;
+        case LIST:
+            visitor.endList(level, ctrlId);
+            break;
+        }
+    }
+}
@@ -20,13 +20,25 @@
  */
 package HwpDoc;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -42,10 +54,12 @@ import HwpDoc.HwpElement.HwpRecord_ListHeader;
 import HwpDoc.HwpElement.HwpRecord_ParaRangeTag;
 import HwpDoc.HwpElement.HwpRecord_ParaText;
 import HwpDoc.HwpElement.HwpTag;
+import HwpDoc.HwpElement.RecordCursor;
 import HwpDoc.paragraph.CapParagraph;
 import HwpDoc.paragraph.CellParagraph;
 import HwpDoc.paragraph.CharShape;
 import HwpDoc.paragraph.Ctrl;
+import HwpDoc.paragraph.CtrlId;
 import HwpDoc.paragraph.Ctrl_Character;
 import HwpDoc.paragraph.Ctrl_Common;
 import HwpDoc.paragraph.Ctrl_Common.VertAlign;
@@ -70,6 +84,7 @@ import HwpDoc.paragraph.Ctrl_Table;
 import HwpDoc.paragraph.HwpParagraph;
 import HwpDoc.paragraph.LineSeg;
 import HwpDoc.paragraph.TblCell;
+import HwpDoc.paragraph.TextBuffer;
 import HwpDoc.paragraph.Ctrl_Character.CtrlCharType;
 import HwpDoc.section.NoteShape;
 import HwpDoc.section.Page;
@@ -77,8 +92,30 @@ import HwpDoc.section.PageBorderFill;
 
 public class HwpSection {
     private static final Logger log = Logger.getLogger(HwpSection.class.getName());
+    private static final int WINDOW_SIZE = 65536;
+    // TEXT_ONLY 일 때 control 아래에서 읽지 않고 건너뛰는 record. 글자는 PARA_TEXT 에만 있다.
+    private static final Set<HwpTag> TEXT_ONLY_SKIP = EnumSet.of(
+            HwpTag.HWPTAG_PAGE_DEF, HwpTag.HWPTAG_FOOTNOTE_SHAPE, HwpTag.HWPTAG_PAGE_BORDER_FILL,
+            HwpTag.HWPTAG_SHAPE_COMPONENT_PICTURE, HwpTag.HWPTAG_SHAPE_COMPONENT_LINE,
+            HwpTag.HWPTAG_SHAPE_COMPONENT_RECTANGLE, HwpTag.HWPTAG_SHAPE_COMPONENT_ELLIPSE,
+            HwpTag.HWPTAG_SHAPE_COMPONENT_ARC, HwpTag.HWPTAG_SHAPE_COMPONENT_POLYGON,
+            HwpTag.HWPTAG_SHAPE_COMPONENT_CURVE, HwpTag.HWPTAG_SHAPE_COMPONENT_OLE,
+            HwpTag.HWPTAG_SHAPE_COMPONENT_TEXTART, HwpTag.HWPTAG_EQEDIT, HwpTag.HWPTAG_VIDEO_DATA,
+            HwpTag.HWPTAG_FORM_OBJECT, HwpTag.HWPTAG_CTRL_DATA);
     
     public	List<HwpParagraph>	paraList;
+    private RecordCursor cursor;    // parse(byte[]) 중인 buffer 의 record header 를 읽는다.
+    private ParseTracer tracer;     // null 이면 record 를 기록하지 않는다.
+    private String traceName;
+    private TextBuffer text;        // 구역의 ParaText 들이 같이 쓰는 글자 buffer
+    private ParseMode mode = ParseMode.FULL;
+    
+    // index() 로 열면 section 을 다시 여는 source 와 최상위 문단 위치만 들고 있고, 문단은 꺼낼 때 parse 한다.
+    private StreamSource source;
+    private byte[] sectionBuf;      // getParagraph() 를 처음 부를 때 푼다.
+    private int[] paraOffsets;
+    private int paraCount;
+    private int version;
     
     public HwpSection(HwpFile hwp) {
         paraList = new ArrayList<HwpParagraph>();
@@ -88,6 +125,15 @@ public class HwpSection {
         paraList = new ArrayList<HwpParagraph>();
     }
     
+    void setTracer(ParseTracer tracer, String traceName) {
+        this.tracer = tracer;
+        this.traceName = traceName;
+    }
+    
+    void setParseMode(ParseMode mode) {
+        this.mode = mode;
+    }
+    
     boolean read(Document document, int version) throws NotImplementedException {
         Element element = document.getDocumentElement();
         paraList = new ArrayList<HwpParagraph>();
@@ -98,7 +144,7 @@ public class HwpSection {
             HwpParagraph para = null;
             switch(node.getNodeName()) {
             case "hp:p":
-                para = new HwpParagraph(node, version);
+                para = new HwpParagraph(node, version, mode);
                 paraList.add(para);
                 break;
             }
@@ -106,33 +152,360 @@ public class HwpSection {
         return true;
     }
     
+    /*
+     * 압축을 풀고 있는 stream 에서 최상위 문단 하나씩(level 0 PARA_HEADER 부터 다음 level 0 PARA_HEADER 전까지) 읽어서 parse 한다.
+     * section 전체를 byte[] 로 풀어두지 않으므로, 가장 큰 문단 크기 만큼의 buffer 만 사용한다.
+     */
+    boolean parse(InputStream is, int version) throws HwpParseException, IOException {
+        ParaReader reader = new ParaReader(is);
+        byte[] para;
+        while ((para = reader.next()) != null) {
+            parse(para, version);
+        }
+        return true;
+    }
+    
+    /*
+     * stream 에서 최상위 문단의 record 들을 하나씩 꺼낸다. window 는 가장 큰 문단 크기 만큼만 커진다.
+     */
+    private static final class ParaReader {
+        private final InputStream is;
+        private byte[] window = new byte[WINDOW_SIZE];
+        private int len;
+        private boolean eof;
+        
+        ParaReader(InputStream is) {
+            this.is = is;
+        }
+        
+        // 다음 최상위 문단의 record 들. 더 없으면 null.
+        byte[] next() throws HwpParseException, IOException {
+            while (!eof) {
+                int start = len;
+                window = ensureWindow(window, len+8);
+                int headerLen = is.readNBytes(window, len, 4);
+                len += headerLen;
+                if (headerLen < 4) {
+                    eof = true;
+                    break;
+                }
+                int header = RecordCursor.getInt(window, start);
+                int tagNum = header&0x3FF;                // 10 bits (0-9 bit)
+                int level = (header&0xFFC00)>>>10;		// 10 bits (10-19 bit)
+                int size =  (header&0xFFF00000)>>>20;	// 12 bits (20-31 bit)
+                if (size==0xFFF) {
+                    int extLen = is.readNBytes(window, len, 4);
+                    len += extLen;
+                    if (extLen < 4) {
+                        eof = true;
+                        break;
+                    }
+                    size = RecordCursor.getInt(window, start+4);
+                }
+                if (size < 0) {
+                    throw new HwpParseException();
+                }
+                
+                // record 크기를 믿고 미리 할당하지 않고, 실제로 읽히는 만큼 window 를 늘린다.
+                int remain = size;
+                while (remain > 0) {
+                    window = ensureWindow(window, len+Math.min(remain, WINDOW_SIZE));
+                    int readLen = is.readNBytes(window, len, Math.min(remain, window.length-len));
+                    len += readLen;
+                    remain -= readLen;
+                    if (readLen == 0) break;
+                }
+                if (remain > 0) {
+                    eof = true;
+                }
+                
+                if (level==0 && start>0 && HwpTag.from(tagNum)==HwpTag.HWPTAG_PARA_HEADER) {
+                    // 앞 문단을 돌려주고, 이 record 를 window 처음으로 옮긴다.
+                    byte[] para = Arrays.copyOf(window, start);
+                    System.arraycopy(window, start, window, 0, len-start);
+                    len -= start;
+                    return para;
+                }
+            }
+            
+            if (len > 0) {
+                byte[] para = Arrays.copyOf(window, len);
+                len = 0;
+                return para;
+            }
+            return null;
+        }
+    }
+    
+    /*
+     * 문단의 control 들을 뒤에서부터 찾는다. 찾는 control 은 대부분 마지막 몇 개 안에 있으므로,
+     * 중첩 record 마다 문단 전체를 훑지 않는다.
+     */
+    private static <T extends Ctrl> Optional<T> lastCtrl(List<? extends Ctrl> p, Class<T> type) {
+        ListIterator<? extends Ctrl> iter = p.listIterator(p.size());
+        while (iter.hasPrevious()) {
+            Ctrl c = iter.previous();
+            if (type.isInstance(c)) {
+                return Optional.of(type.cast(c));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static Optional<Ctrl> lastCtrl(List<Ctrl> p, int ctrlId) {
+        ListIterator<Ctrl> iter = p.listIterator(p.size());
+        while (iter.hasPrevious()) {
+            Ctrl c = iter.previous();
+            if (c.ctrlIdNum == ctrlId) {
+                return Optional.of(c);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static boolean replaceCtrl(List<Ctrl> p, Ctrl orig, Ctrl newCtrl) {
+        ListIterator<Ctrl> iter = p.listIterator();
+        while (iter.hasNext()) {
+            if (iter.next().equals(orig)) {
+                iter.set(newCtrl);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static byte[] ensureWindow(byte[] window, int capacity) {
+        if (capacity <= window.length) {
+            return window;
+        }
+        return Arrays.copyOf(window, Math.max(capacity, window.length*2));
+    }
+    
+    /*
+     * 압축을 풀기 시작하는 stream 을 다시 연다. 열 때마다 section 처음부터 읽는다.
+     */
+    interface StreamSource {
+        InputStream open() throws HwpParseException, IOException;
+    }
+    
+    /*
+     * section 을 객체로 풀지 않고, 최상위 문단 수와 위치만 기록한다. 압축을 푼 byte 도 들고 있지 않는다.
+     * paragraphs() 는 source 를 다시 열어서 문단 하나씩만 풀어 parse 한다.
+     * getParagraph() 는 처음 부를 때 section 전체를 풀어서 들고 있다. (순서 없이 꺼낼 때만 쓴다)
+     */
+    boolean index(StreamSource source, int version) throws HwpParseException, IOException {
+        int[] offsets = new int[64];
+        int count = 0;
+        
+        try (InputStream is = source.open()) {
+            byte[] header = new byte[8];
+            int off = 0;
+            while (is.readNBytes(header, 0, 4) == 4) {
+                int h = RecordCursor.getInt(header, 0);
+                int tagNum = h&0x3FF;
+                int level = (h&0xFFC00)>>>10;
+                int size = (h&0xFFF00000)>>>20;
+                int headerLen = 4;
+                if (size==0xFFF) {
+                    if (is.readNBytes(header, 4, 4) < 4) {
+                        break;
+                    }
+                    size = RecordCursor.getInt(header, 4);
+                    headerLen = 8;
+                }
+                if (level==0 && HwpTag.from(tagNum)==HwpTag.HWPTAG_PARA_HEADER) {
+                    if (count==offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count*2);
+                    }
+                    offsets[count++] = off;
+                } else if (count==0 && level>0) {
+                    // parse() 와 같이, 최상위 문단 없이 시작하는 record 는 오류로 본다.
+                    throw new HwpParseException();
+                }
+                if (size < 0) {
+                    throw new HwpParseException();
+                }
+                if (!skip(is, size)) {
+                    break;
+                }
+                off += headerLen + size;
+            }
+        }
+        
+        this.source = source;
+        this.paraOffsets = offsets;
+        this.paraCount = count;
+        this.version = version;
+        return true;
+    }
+    
+    private static boolean skip(InputStream is, long n) throws IOException {
+        while (n > 0) {
+            long skipped = is.skip(n);
+            if (skipped <= 0) {
+                if (is.read() < 0) {
+                    return false;
+                }
+                skipped = 1;
+            }
+            n -= skipped;
+        }
+        return true;
+    }
+    
+    public boolean isLazy() {
+        return source != null;
+    }
+    
+    public int getParaCount() {
+        return isLazy() ? paraCount : paraList.size();
+    }
+    
+    /*
+     * index 번째 최상위 문단. index() 로 열었으면 그 문단 record 들만 parse 해서 돌려준다.
+     * 처음 부를 때 압축을 푼 section 전체를 읽어 두므로, 순서대로 읽을 때는 paragraphs() 를 쓴다.
+     */
+    public HwpParagraph getParagraph(int index) throws HwpParseException {
+        if (!isLazy()) {
+            return paraList.get(index);
+        }
+        if (index < 0 || index >= paraCount) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        synchronized (this) {
+            if (sectionBuf == null) {
+                try (InputStream is = source.open()) {
+                    sectionBuf = is.readAllBytes();
+                } catch (IOException e) {
+                    throw new HwpParseException(e);
+                }
+            }
+            int end = index+1 < paraCount ? paraOffsets[index+1] : sectionBuf.length;
+            return parseOne(sectionBuf, paraOffsets[index], end);
+        }
+    }
+    
+    // from 부터 to 전까지의 최상위 문단 하나를 paraList 에 넣지 않고 parse 한다. 문단이 없으면 null.
+    private synchronized HwpParagraph parseOne(byte[] buf, int from, int to) throws HwpParseException {
+        List<HwpParagraph> paras = new ArrayList<HwpParagraph>(1);
+        text = new TextBuffer((to-from)/4);    // 꺼낸 문단과 같이 버려진다.
+        parse(buf, from, to, version, paras);
+        return paras.isEmpty() ? null : paras.get(0);
+    }
+    
+    /*
+     * 최상위 문단을 순서대로 돌려준다. index() 로 열었으면 부를 때마다 section 을 다시 열어서 문단 하나씩 풀고 parse 하므로,
+     * 앞 문단은 호출자가 놓으면 버려진다. 끝까지 읽으면 stream 을 닫는다.
+     */
+    public Iterable<HwpParagraph> paragraphs() {
+        if (!isLazy()) {
+            return paraList;
+        }
+        return () -> new LazyIterator();
+    }
+    
+    public Stream<HwpParagraph> paraStream() {
+        if (!isLazy()) {
+            return paraList.stream();
+        }
+        LazyIterator iter = new LazyIterator();
+        return StreamSupport.stream(Spliterators.spliterator(iter, paraCount, Spliterator.ORDERED|Spliterator.NONNULL), false)
+                            .onClose(iter::close);
+    }
+    
+    private class LazyIterator implements Iterator<HwpParagraph> {
+        private InputStream is;
+        private ParaReader reader;
+        private int next = 0;
+        
+        @Override
+        public boolean hasNext() {
+            if (next < paraCount) {
+                return true;
+            }
+            close();
+            return false;
+        }
+        
+        @Override
+        public HwpParagraph next() {
+            if (next >= paraCount) {
+                throw new NoSuchElementException();
+            }
+            try {
+                if (reader == null) {
+                    is = source.open();
+                    reader = new ParaReader(is);
+                }
+                HwpParagraph para = null;
+                while (para == null) {      // PARA_HEADER 앞의 level 0 record 는 건너뛴다.
+                    byte[] buf = reader.next();
+                    if (buf == null) {
+                        throw new HwpParseException();
+                    }
+                    para = parseOne(buf, 0, buf.length);
+                }
+                next++;
+                return para;
+            } catch (HwpParseException e) {
+                close();
+                throw new IllegalStateException(e);
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        void close() {
+            if (is != null) {
+                try {
+                    is.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+                is = null;
+            }
+        }
+    }
+    
     boolean parse(byte[] buf, int version) throws HwpParseException {
-        int off = 0;
+        if (text == null) {
+            text = new TextBuffer(buf.length/4);
+        }
+        return parse(buf, 0, buf.length, version, paraList);
+    }
+    
+    /*
+     * buf 의 from 부터 to 전까지 있는 최상위 문단들을 paras 에 더한다. 하위 record 는 다음 level 0 record 에서 멈추므로
+     * to 뒤를 읽지 않는다.
+     */
+    private boolean parse(byte[] buf, int from, int to, int version, List<HwpParagraph> paras) throws HwpParseException {
+        int off = from;
+        cursor = new RecordCursor(buf);
         
-        while(off < buf.length) {
-            int header = buf[off+3]<<24&0xFF000000 | buf[off+2]<<16&0xFF0000 | buf[off+1]<<8&0xFF00 | buf[off]&0xFF;
-            int tagNum = header&0x3FF;				// 10 bits (0 - 9 bit)
-            int level = (header&0xFFC00)>>>10;		// 10 bits (10-19 bit)
-            int size =  (header&0xFFF00000)>>>20;	// 12 bits (20-31 bit)
+        while(off < to) {
+            cursor.header(off);
+            int tagNum = cursor.tagNum();
+            int level = cursor.level();
+            int size = cursor.size();
             
             if (level>0) {
-                HwpParagraph para = paraList.stream().reduce((a,b)->b).get();
+                if (paras.isEmpty()) {
+                    throw new HwpParseException();
+                }
+                HwpParagraph para = paras.get(paras.size()-1);    // 열려 있는 최상위 문단
                 off += parseRecurse(para, level, buf, off, version);
             } else {
-                
-                if (size==0xFFF) {
-                    size = buf[off+7]<<24&0xFF000000 | buf[off+6]<<16&0xFF0000 | buf[off+5]<<8&0xFF00 | buf[off+4]&0xFF;
-                    off += 8;
-                } else {
-                    off += 4;
-                }
+                off += cursor.headerLength();
                 
                 HwpTag tag = HwpTag.from(tagNum);
-                log.fine(IntStream.rangeClosed(0, level).mapToObj(i -> String.valueOf(i)).collect(Collectors.joining())+"[TAG]="+tag.toString()+" ("+size+")");
+                if (tracer != null) {
+                    tracer.record(traceName, level, tagNum, size);
+                }
                 
                 if (level==0 && tag==HwpTag.HWPTAG_PARA_HEADER) {
                     HwpParagraph currPara = HwpParagraph.parse(tagNum, level, size, buf, off, version);
-                    paraList.add(currPara);
+                    paras.add(currPara);
                     off += size;
                 }
             }
@@ -141,22 +514,75 @@ public class HwpSection {
         return true;
     }
     
+    /*
+     * 한 문단을 읽는 동안 그 문단에서 열린 control 들. 중첩 record 마다 문단의 control 목록을 다시 훑지 않는다.
+     */
+    private static final class OpenCtrls {
+        final HwpParagraph para;
+        Map<Integer, Integer> fillFrom;     // ctrlId 별로 채워지지 않은 자리를 찾기 시작할 위치
+        Ctrl_Table table;
+        Ctrl_SectionDef secd;
+        Ctrl_GeneralShape shape;
+        Ctrl_Common common;
+        
+        OpenCtrls(HwpParagraph para) {
+            this.para = para;
+        }
+        
+        // PARA_TEXT 에서 만든 자리 중 아직 채워지지 않은 첫번째 것을 바꾸고 그 위치를 돌려준다. 없으면 -1.
+        int fill(Ctrl ctrl) {
+            List<Ctrl> p = para.p;
+            if (fillFrom == null) {
+                fillFrom = new HashMap<>();
+            }
+            int i = fillFrom.getOrDefault(ctrl.ctrlIdNum, 0);
+            for (; i < p.size(); i++) {
+                Ctrl c = p.get(i);
+                if (c.ctrlIdNum==ctrl.ctrlIdNum && c.fullfilled==false) {
+                    p.set(i, ctrl);
+                    fillFrom.put(ctrl.ctrlIdNum, i);
+                    return i;
+                }
+            }
+            fillFrom.put(ctrl.ctrlIdNum, i);
+            return -1;
+        }
+        
+        // 문단의 control 목록에 끼워 넣는 record 를 읽었으면 위치를 처음부터 다시 찾는다.
+        void reset() {
+            fillFrom = null;
+        }
+        
+        void opened(Ctrl ctrl) {
+            if (ctrl instanceof Ctrl_Table) {
+                table = (Ctrl_Table) ctrl;
+            }
+            if (ctrl instanceof Ctrl_SectionDef) {
+                secd = (Ctrl_SectionDef) ctrl;
+            }
+            if (ctrl.ctrlIdNum == CtrlId.GEN_SHAPE && ctrl instanceof Ctrl_GeneralShape) {
+                shape = (Ctrl_GeneralShape) ctrl;
+            }
+            if (ctrl instanceof Ctrl_Common) {
+                common = (Ctrl_Common) ctrl;
+            }
+        }
+    }
+    
     private int parseRecurse(HwpParagraph currPara, int runLevel, byte[] buf, int off, int version) throws HwpParseException {
+        return parseRecurse(new OpenCtrls(currPara), runLevel, buf, off, version);
+    }
+    
+    private int parseRecurse(OpenCtrls open, int runLevel, byte[] buf, int off, int version) throws HwpParseException {
+        HwpParagraph currPara = open.para;
         int offset = off;
         
         while(offset < buf.length) {
-            int header = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0xFF0000 | buf[offset+1]<<8&0xFF00 | buf[offset]&0xFF;
-            int tagNum = header&0x3FF;				// 10 bits (0 - 9 bit)
-            int level = (header&0xFFC00)>>>10;		// 10 bits (10-19 bit)
-            int size =  (header&0xFFF00000)>>>20;	// 12 bits (20-31 bit)
-            int headerOffset = 0;
-            
-            if (size==0xFFF) {
-                size = buf[offset+7]<<24&0xFF000000 | buf[offset+6]<<16&0xFF0000 | buf[offset+5]<<8&0xFF00 | buf[offset+4]&0xFF;
-                headerOffset = 8;
-            } else {
-                headerOffset = 4;
-            }
+            cursor.header(offset);
+            int tagNum = cursor.tagNum();
+            int level = cursor.level();
+            int size = cursor.size();
+            int headerOffset = cursor.headerLength();
             
             if (level < runLevel) {
                 break;
@@ -164,8 +590,6 @@ public class HwpSection {
             
             HwpTag tag = HwpTag.from(tagNum);
             if (level > runLevel) {
-                log.fine(IntStream.rangeClosed(0, level).mapToObj(i -> String.valueOf(i)).collect(Collectors.joining())+"[TAG]="+tag.toString()+" > runLevel");
-                
                 switch(tag) {
                 case HWPTAG_PARA_HEADER:
                 case HWPTAG_PARA_TEXT:
@@ -173,15 +597,18 @@ public class HwpSection {
                 case HWPTAG_PARA_LINE_SEG:
                 case HWPTAG_PARA_RANGE_TAG:
                 case HWPTAG_CTRL_HEADER:
-                    offset += parseRecurse(currPara, level, buf, offset, version);
+                    offset += parseRecurse(open, level, buf, offset, version);
                     break;
                 case HWPTAG_TABLE:
                     {
-                        Ctrl_Table table = (Ctrl_Table)currPara.p.stream().filter(c -> (c instanceof Ctrl_Table)).reduce((a,b)->b).get();
+                        Ctrl_Table table = open.table!=null ? open.table : lastCtrl(currPara.p, Ctrl_Table.class).get();
                         offset += parseCtrlRecurse(table, level, buf, offset, version);
                     }
                     break;
                 case HWPTAG_LIST_HEADER:
+                    if (tracer != null) {
+                        tracer.record(traceName, level, tagNum, size);
+                    }
                     offset += headerOffset;
                     offset += size;
                     break;
@@ -189,7 +616,7 @@ public class HwpSection {
                 case HWPTAG_FOOTNOTE_SHAPE:
                 case HWPTAG_PAGE_BORDER_FILL:
                     {   // dces 컨트롤에서만 처리
-                        Ctrl_SectionDef ctrlSecd = (Ctrl_SectionDef)currPara.p.stream().filter(c -> (c.ctrlId.equals("dces"))).reduce((a,b)->b).get();
+                        Ctrl_SectionDef ctrlSecd = open.secd!=null ? open.secd : (Ctrl_SectionDef)lastCtrl(currPara.p, CtrlId.SECTION_DEF).get();
                         offset += parseCtrlRecurse(ctrlSecd, level, buf, offset, version);
                     }
                     break;
@@ -206,7 +633,7 @@ public class HwpSection {
                 case HWPTAG_SHAPE_COMPONENT_TEXTART:
                 case HWPTAG_SHAPE_COMPONENT_UNKNOWN:
                     {   // " osg" 컨트롤에서만 처리
-                        Ctrl_GeneralShape ctrlGeneral = (Ctrl_GeneralShape)currPara.p.stream().filter(c -> (c.ctrlId.equals(" osg"))).reduce((a,b)->b).get();
+                        Ctrl_GeneralShape ctrlGeneral = open.shape!=null ? open.shape : (Ctrl_GeneralShape)lastCtrl(currPara.p, CtrlId.GEN_SHAPE).get();
                         offset += parseCtrlRecurse(ctrlGeneral, level, buf, offset, version);
                     }
                     break;
@@ -219,13 +646,15 @@ public class HwpSection {
                 default:
                     {
                         // 마지막 컨트롤을 기준으로 parseRecurse
-                        Ctrl_Common ctrlCommon = (Ctrl_Common) currPara.p.stream().filter(c -> (c instanceof Ctrl_Common)).reduce((a,b)->b).get();
+                        Ctrl_Common ctrlCommon = open.common!=null ? open.common : lastCtrl(currPara.p, Ctrl_Common.class).get();
                         offset += parseCtrlRecurse(ctrlCommon, level, buf, offset, version);
                     }
                 }
             } else if (level==runLevel) {
                 offset += headerOffset;
-                log.fine(IntStream.rangeClosed(0, level).mapToObj(i -> String.valueOf(i)).collect(Collectors.joining())+"[TAG]="+tag.toString()+" ("+size+") = runLevel");
+                if (tracer != null) {
+                    tracer.record(traceName, level, tagNum, size);
+                }
                 
                 switch(tag) {
                 case HWPTAG_PARA_HEADER:
@@ -243,27 +672,33 @@ public class HwpSection {
                     }
                 case HWPTAG_PARA_TEXT:
                     {
-                        if (currPara.p==null)   currPara.p = new LinkedList<>();
-                        currPara.p.addAll(HwpRecord_ParaText.parse(tagNum, level, size, buf, offset, version));    // paraText를 LinkedList로 변경하자
+                        if (currPara.p==null)   currPara.p = new ArrayList<>();
+                        currPara.p.addAll(HwpRecord_ParaText.parse(tagNum, level, size, buf, offset, version, text));
+                        open.reset();
                         offset += size;
                     }
                     break;
                 case HWPTAG_PARA_CHAR_SHAPE:
 	                {
 	                	if (currPara.p == null)  {
-	                		currPara.p = new LinkedList<>();
+	                		currPara.p = new ArrayList<>();
 	                		currPara.p.add(new Ctrl_Character("   _", CtrlCharType.PARAGRAPH_BREAK));
 	                	}
 	                    CharShape.fillCharShape(tagNum, level, size, buf, offset, version, currPara.p);
+	                    open.reset();     // ParaText 를 나누면 자리가 밀린다.
 	                    offset += size;
 	                }
                     break;
                 case HWPTAG_PARA_LINE_SEG:
-                    currPara.lineSegs = new LineSeg(tagNum, level, size, buf, offset, version);
+                    if (mode == ParseMode.FULL) {
+                        currPara.lineSegs = new LineSeg(tagNum, level, size, buf, offset, version);
+                    }
                     offset += size;
                     break;
                 case HWPTAG_PARA_RANGE_TAG:
-                    HwpRecord_ParaRangeTag.parse(currPara, tagNum, level, size, buf, offset, version);
+                    if (mode == ParseMode.FULL) {
+                        HwpRecord_ParaRangeTag.parse(currPara, tagNum, level, size, buf, offset, version);
+                    }
                     offset += size;
                     break;
                 case HWPTAG_CTRL_HEADER:
@@ -272,16 +707,10 @@ public class HwpSection {
                         if (ctrl instanceof Ctrl_GeneralShape) {
                             ((Ctrl_GeneralShape) ctrl).setParent(currPara);
                         }
-                        Optional<Ctrl> ctrlOrigOp = currPara.p.stream().filter(c -> (c.ctrlId.equals(ctrl.ctrlId)))
-                                                           .filter(c -> c.fullfilled==false)
-                                                           .findFirst();
-                        if (ctrlOrigOp.isPresent()) {
-                            int linkedListIdx = currPara.p.indexOf(ctrlOrigOp.get());
-                            currPara.p.set(linkedListIdx, ctrl);
-                        }
+                        int slot = open.fill(ctrl);
                             
                         if (ctrl instanceof Ctrl_HeadFoot) {
-                            Optional<Ctrl> secd2Op = currPara.p.stream().filter(c -> (c.ctrlId.equals("dces"))).reduce((a,b)->b);
+                            Optional<Ctrl> secd2Op = open.secd!=null ? Optional.of(open.secd) : lastCtrl(currPara.p, CtrlId.SECTION_DEF);
                             if (secd2Op.isPresent()) {
                                 Ctrl_SectionDef secd = (Ctrl_SectionDef) secd2Op.get();
                                 if (secd.headerFooter==null) secd.headerFooter = new ArrayList<Ctrl_HeadFoot>();
@@ -298,6 +727,9 @@ public class HwpSection {
                             offset += parseCtrlRecurse(ctrl, level, buf, offset, version);
                         }
                         // HWPTAG_LIST_HEADER를 통해  캡션을 얻어오기 위해 조치. parseCtrlRecurs가 없으면  ParseParaRecurs에서 무한루프.
+                        if (slot >= 0) {
+                            open.opened(currPara.p.get(slot));     // 도형은 parseCtrlRecurse 에서 다른 객체로 바뀐다.
+                        }
                     }
                     break;
                 case HWPTAG_TABLE:
@@ -341,18 +773,11 @@ public class HwpSection {
         Ctrl ctrl = currCtrl;
         
         while (offset < buf.length) {
-            int header = buf[offset + 3] << 24 & 0xFF000000 | buf[offset + 2] << 16 & 0xFF0000 | buf[offset + 1] << 8 & 0xFF00 | buf[offset] & 0xFF;
-            int tagNum = header & 0x3FF; // 10 bits (0 - 9 bit)
-            int level = (header & 0xFFC00) >>> 10; // 10 bits (10-19 bit)
-            int size = (header & 0xFFF00000) >>> 20; // 12 bits (20-31 bit)
-            int headerOffset = 0;
-            
-            if (size == 0xFFF) {
-                size = buf[off + 7] << 24 & 0xFF000000 | buf[off + 6] << 16 & 0xFF0000 | buf[off + 5] << 8 & 0xFF00 | buf[off + 4] & 0xFF;
-                headerOffset = 8;
-            } else {
-                headerOffset = 4;
-            }
+            cursor.header(offset);
+            int tagNum = cursor.tagNum();
+            int level = cursor.level();
+            int size = cursor.size();
+            int headerOffset = cursor.headerLength();
             
             if (level < runLevel) {
                 break;
@@ -360,9 +785,6 @@ public class HwpSection {
             
             HwpTag tag = HwpTag.from(tagNum);
             if (level > runLevel) {
-                log.fine(IntStream.rangeClosed(0, level).mapToObj(i -> String.valueOf(i)).collect(Collectors.joining())
-                        + "[TAG]=" + tag.toString() + " (" + size + ") > runLevel");
-                
                 switch (tag) {
                 case HWPTAG_PARA_HEADER:
                     if (ctrl instanceof Ctrl_Common) {
@@ -385,6 +807,9 @@ public class HwpSection {
                     break;
                 case HWPTAG_LIST_HEADER:
                     // LIST_HEADER만 recursive하게 처리하지 않고, 여기서 처리한다.
+                    if (tracer != null) {
+                        tracer.record(traceName, level, tagNum, size);
+                    }
                     offset += headerOffset;
                     int subParaCount = HwpRecord_ListHeader.getCount(tagNum, level, size, buf, offset, version);
                     offset += 6; // 문단수 2byte, 속성 4byte
@@ -494,8 +919,13 @@ public class HwpSection {
                 }
             } else if (level == runLevel) {
                 offset += headerOffset;
-                log.fine(IntStream.rangeClosed(0, level).mapToObj(i -> String.valueOf(i)).collect(Collectors.joining())
-                        + "[TAG]=" + tag.toString() + " (" + size + ") = runLevel");
+                if (tracer != null) {
+                    tracer.record(traceName, level, tagNum, size);
+                }
+                if (mode == ParseMode.TEXT_ONLY && TEXT_ONLY_SKIP.contains(tag)) {
+                    offset += size;
+                    continue;
+                }
                 
                 switch (tag) {
                 case HWPTAG_PARA_HEADER:
@@ -510,7 +940,8 @@ public class HwpSection {
                             offset += parseRecurse(newPara, level, buf, offset, version);
                         } else {
                             // 마지막 cell 내 para list에 PARA 추가
-                            TblCell cell = ((Ctrl_Table) ctrl).cells.stream().reduce((a, b) -> b).get();
+                            List<TblCell> cells = ((Ctrl_Table) ctrl).cells;
+                            TblCell cell = cells.get(cells.size() - 1);
                             if (cell.paras == null)
                                 cell.paras = new ArrayList<CellParagraph>();
                             CellParagraph newPara = new CellParagraph();
@@ -633,13 +1064,12 @@ public class HwpSection {
                             ((Ctrl_Container) ctrl).list = new ArrayList<Ctrl_GeneralShape>();
                         offset += parseContainerRecurse((Ctrl_Container) ctrl, level, buf, offset, version);
                     } else if (ctrl instanceof Ctrl_GeneralShape) {
-                        Ctrl_GeneralShape newCtrl = Ctrl_GeneralShape.parse((Ctrl_GeneralShape) ctrl, size, buf, offset, version);
+                        Ctrl_GeneralShape newCtrl = mode == ParseMode.TEXT_ONLY
+                                ? Ctrl_GeneralShape.shapeOf((Ctrl_GeneralShape) ctrl, buf, offset)
+                                : Ctrl_GeneralShape.parse((Ctrl_GeneralShape) ctrl, size, buf, offset, version);
                         // replace Ctrl with newCtrl
                         HwpParagraph parentPara = ((Ctrl_GeneralShape) ctrl).getParent();
-                        int ctrlIndex = parentPara.p.indexOf(ctrl);
-                        if (ctrlIndex>=0) {
-                            parentPara.p.set(ctrlIndex, newCtrl);
-                        } else {
+                        if (!replaceCtrl(parentPara.p, ctrl, newCtrl)) {
                             parentPara.p.add(newCtrl);
                         }
                         ctrl = newCtrl;
@@ -738,18 +1168,11 @@ public class HwpSection {
         int offset = off;
 
         while (offset < buf.length) {
-            int header = buf[offset + 3] << 24 & 0xFF000000 | buf[offset + 2] << 16 & 0xFF0000 | buf[offset + 1] << 8 & 0xFF00 | buf[offset] & 0xFF;
-            int tagNum = header & 0x3FF; // 10 bits (0 - 9 bit)
-            int level = (header & 0xFFC00) >>> 10; // 10 bits (10-19 bit)
-            int size = (header & 0xFFF00000) >>> 20; // 12 bits (20-31 bit)
-            int headerOffset = 0;
-
-            if (size == 0xFFF) {
-                size = buf[off + 7] << 24 & 0xFF000000 | buf[off + 6] << 16 & 0xFF0000 | buf[off + 5] << 8 & 0xFF00 | buf[off + 4] & 0xFF;
-                headerOffset = 8;
-            } else {
-                headerOffset = 4;
-            }
+            cursor.header(offset);
+            int tagNum = cursor.tagNum();
+            int level = cursor.level();
+            int size = cursor.size();
+            int headerOffset = cursor.headerLength();
 
             if (level < runLevel) {
                 break;
@@ -758,21 +1181,19 @@ public class HwpSection {
             HwpTag tag = HwpTag.from(tagNum);
             if (level > runLevel) {
                 offset += headerOffset;
-                log.fine(IntStream.rangeClosed(0, level).mapToObj(i -> String.valueOf(i)).collect(Collectors.joining())
-                        + "[TAG]=" + tag.toString() + " (" + size + ") > runLevel");
+                if (tracer != null) {
+                    tracer.record(traceName, level, tagNum, size);
+                }
 
                 switch (tag) {
                 case HWPTAG_SHAPE_COMPONENT_PICTURE: {
                     Ctrl_GeneralShape ctrl = null;
                     if (container.list != null) {
-                        Optional<Ctrl_GeneralShape> opCtrl = container.list.stream()
-                                .filter(c -> (c instanceof Ctrl_ShapePic)).reduce((a, b) -> b);
-                        if (opCtrl.isPresent()) {
-                            ctrl = opCtrl.get();
-                        }
+                        ctrl = lastCtrl(container.list, Ctrl_ShapePic.class).orElse(null);
                     }
                     if (ctrl == null) {
                         ctrl = new Ctrl_ShapePic(new Ctrl_GeneralShape());
+                        ctrl.setCtrlId("cip$");
                         container.list.add(ctrl);
                     }
                     offset += Ctrl_ShapePic.parseElement((Ctrl_ShapePic) ctrl, size, buf, offset, version);
@@ -781,14 +1202,11 @@ public class HwpSection {
                 case HWPTAG_SHAPE_COMPONENT_LINE: {
                     Ctrl_GeneralShape ctrl = null;
                     if (container.list != null) {
-                        Optional<Ctrl_GeneralShape> opCtrl = container.list.stream()
-                                .filter(c -> (c instanceof Ctrl_ShapeLine)).reduce((a, b) -> b);
-                        if (opCtrl.isPresent()) {
-                            ctrl = opCtrl.get();
-                        }
+                        ctrl = lastCtrl(container.list, Ctrl_ShapeLine.class).orElse(null);
                     }
                     if (ctrl == null) {
                         ctrl = new Ctrl_ShapeLine(new Ctrl_GeneralShape());
+                        ctrl.setCtrlId("nil$");
                         container.list.add(ctrl);
                     }
                     offset += Ctrl_ShapeLine.parseElement((Ctrl_ShapeLine) ctrl, size, buf, offset, version);
@@ -797,14 +1215,11 @@ public class HwpSection {
                 case HWPTAG_SHAPE_COMPONENT_RECTANGLE: {
                     Ctrl_GeneralShape ctrl = null;
                     if (container.list != null) {
-                        Optional<Ctrl_GeneralShape> opCtrl = container.list.stream()
-                                .filter(c -> (c instanceof Ctrl_ShapeRect)).reduce((a, b) -> b);
-                        if (opCtrl.isPresent()) {
-                            ctrl = opCtrl.get();
-                        }
+                        ctrl = lastCtrl(container.list, Ctrl_ShapeRect.class).orElse(null);
                     }
                     if (ctrl == null) {
                         ctrl = new Ctrl_ShapeRect(new Ctrl_GeneralShape());
+                        ctrl.setCtrlId("cer$");
                         container.list.add(ctrl);
                     }
                     offset += Ctrl_ShapeRect.parseElement((Ctrl_ShapeRect) ctrl, size, buf, offset, version);
@@ -813,14 +1228,11 @@ public class HwpSection {
                 case HWPTAG_SHAPE_COMPONENT_ELLIPSE: {
                     Ctrl_GeneralShape ctrl = null;
                     if (container.list != null) {
-                        Optional<Ctrl_GeneralShape> opCtrl = container.list.stream()
-                                .filter(c -> (c instanceof Ctrl_ShapeEllipse)).reduce((a, b) -> b);
-                        if (opCtrl.isPresent()) {
-                            ctrl = opCtrl.get();
-                        }
+                        ctrl = lastCtrl(container.list, Ctrl_ShapeEllipse.class).orElse(null);
                     }
                     if (ctrl == null) {
                         ctrl = new Ctrl_ShapeEllipse(new Ctrl_GeneralShape());
+                        ctrl.setCtrlId("lle$");
                         container.list.add(ctrl);
                     }
                     offset += Ctrl_ShapeEllipse.parseElement((Ctrl_ShapeEllipse) ctrl, size, buf, offset, version);
@@ -829,14 +1241,11 @@ public class HwpSection {
                 case HWPTAG_SHAPE_COMPONENT_ARC: {
                     Ctrl_GeneralShape ctrl = null;
                     if (container.list != null) {
-                        Optional<Ctrl_GeneralShape> opCtrl = container.list.stream()
-                                .filter(c -> (c instanceof Ctrl_ShapeArc)).reduce((a, b) -> b);
-                        if (opCtrl.isPresent()) {
-                            ctrl = opCtrl.get();
-                        }
+                        ctrl = lastCtrl(container.list, Ctrl_ShapeArc.class).orElse(null);
                     }
                     if (ctrl == null) {
                         ctrl = new Ctrl_ShapeArc(new Ctrl_GeneralShape());
+                        ctrl.setCtrlId("cra$");
                         container.list.add(ctrl);
                     }
                     offset += Ctrl_ShapeArc.parseElement((Ctrl_ShapeArc) ctrl, size, buf, offset, version);
@@ -845,14 +1254,11 @@ public class HwpSection {
                 case HWPTAG_SHAPE_COMPONENT_POLYGON: {
                     Ctrl_GeneralShape ctrl = null;
                     if (container.list != null) {
-                        Optional<Ctrl_GeneralShape> opCtrl = container.list.stream()
-                                .filter(c -> (c instanceof Ctrl_ShapePolygon)).reduce((a, b) -> b);
-                        if (opCtrl.isPresent()) {
-                            ctrl = opCtrl.get();
-                        }
+                        ctrl = lastCtrl(container.list, Ctrl_ShapePolygon.class).orElse(null);
                     }
                     if (ctrl == null) {
                         ctrl = new Ctrl_ShapePolygon(new Ctrl_GeneralShape());
+                        ctrl.setCtrlId("lop$");
                         container.list.add(ctrl);
                     }
                     offset += Ctrl_ShapePolygon.parseElement((Ctrl_ShapePolygon) ctrl, size, buf, offset, version);
@@ -861,14 +1267,11 @@ public class HwpSection {
                 case HWPTAG_SHAPE_COMPONENT_CURVE: {
                     Ctrl_GeneralShape ctrl = null;
                     if (container.list != null) {
-                        Optional<Ctrl_GeneralShape> opCtrl = container.list.stream()
-                                .filter(c -> (c instanceof Ctrl_ShapeCurve)).reduce((a, b) -> b);
-                        if (opCtrl.isPresent()) {
-                            ctrl = opCtrl.get();
-                        }
+                        ctrl = lastCtrl(container.list, Ctrl_ShapeCurve.class).orElse(null);
                     }
                     if (ctrl == null) {
                         ctrl = new Ctrl_ShapeCurve(new Ctrl_GeneralShape());
+                        ctrl.setCtrlId("ruc$");
                         container.list.add(ctrl);
                     }
                     offset += Ctrl_ShapeCurve.parseElement((Ctrl_ShapeCurve) ctrl, size, buf, offset, version);
@@ -877,14 +1280,11 @@ public class HwpSection {
                 case HWPTAG_SHAPE_COMPONENT_OLE: {
                     Ctrl_GeneralShape ctrl = null;
                     if (container.list != null) {
-                        Optional<Ctrl_GeneralShape> opCtrl = container.list.stream()
-                                .filter(c -> (c instanceof Ctrl_ShapeOle)).reduce((a, b) -> b);
-                        if (opCtrl.isPresent()) {
-                            ctrl = opCtrl.get();
-                        }
+                        ctrl = lastCtrl(container.list, Ctrl_ShapeOle.class).orElse(null);
                     }
                     if (ctrl == null) {
                         ctrl = new Ctrl_ShapeOle(new Ctrl_GeneralShape());
+                        ctrl.setCtrlId("elo$");
                         container.list.add(ctrl);
                     }
                     offset += Ctrl_ShapeOle.parseElement((Ctrl_ShapeOle) ctrl, size, buf, offset, version);
@@ -893,14 +1293,11 @@ public class HwpSection {
                 case HWPTAG_EQEDIT: {
                     Ctrl_GeneralShape ctrl = null;
                     if (container.list != null) {
-                        Optional<Ctrl_GeneralShape> opCtrl = container.list.stream()
-                                .filter(c -> (c instanceof Ctrl_EqEdit)).reduce((a, b) -> b);
-                        if (opCtrl.isPresent()) {
-                            ctrl = opCtrl.get();
-                        }
+                        ctrl = lastCtrl(container.list, Ctrl_EqEdit.class).orElse(null);
                     }
                     if (ctrl == null) {
                         ctrl = new Ctrl_EqEdit(new Ctrl_GeneralShape());
+                        ctrl.setCtrlId("deqe");
                         container.list.add(ctrl);
                     }
                     offset += Ctrl_EqEdit.parseElement((Ctrl_EqEdit) ctrl, size, buf, offset, version);
@@ -909,27 +1306,24 @@ public class HwpSection {
                 case HWPTAG_SHAPE_COMPONENT_TEXTART: {
                     Ctrl_GeneralShape ctrl = null;
                     if (container.list != null) {
-                        Optional<Ctrl_GeneralShape> opCtrl = container.list.stream()
-                                .filter(c -> (c instanceof Ctrl_ShapeTextArt)).reduce((a, b) -> b);
-                        if (opCtrl.isPresent()) {
-                            ctrl = opCtrl.get();
-                        }
+                        ctrl = lastCtrl(container.list, Ctrl_ShapeTextArt.class).orElse(null);
                     }
                     if (ctrl == null) {
                         ctrl = new Ctrl_ShapeTextArt(new Ctrl_GeneralShape());
+                        ctrl.setCtrlId("tat$");
                         container.list.add(ctrl);
                     }
                     offset += Ctrl_ShapeTextArt.parseElement((Ctrl_ShapeTextArt) ctrl, size, buf, offset, version);
                 }
                     break;
                 case HWPTAG_LIST_HEADER: {
-                    Ctrl_Common ctrl = container.list.stream().reduce((a, b) -> b).get();
+                    Ctrl_Common ctrl = container.list.get(container.list.size() - 1);
                     int subParaCount = HwpRecord_ListHeader.getCount(tagNum, level, size, buf, offset, version);
                     offset += 6; // 문단수 2byte, 속성 4byte
 
                     if (ctrl instanceof Ctrl_ShapeRect) {
                         Ctrl_Common ctrlCmn = (Ctrl_Common) ctrl;
-                        ctrlCmn.ctrlId = "cer$";
+                        ctrlCmn.setCtrlId("cer$");
                         offset -= 6;
                         ctrlCmn.textVerAlign = HwpRecord_ListHeader.getVertAlign(6, buf, offset, version);
                         offset += 6;
@@ -937,7 +1331,7 @@ public class HwpSection {
                         offset += parseCtrlRecurse(ctrl, level, buf, offset, version);
                     } else if (ctrl instanceof Ctrl_ShapePolygon) {
                         Ctrl_Common ctrlCmn = (Ctrl_Common) ctrl;
-                        ctrlCmn.ctrlId = "lop$";
+                        ctrlCmn.setCtrlId("lop$");
                         offset -= 6;
                         ctrlCmn.textVerAlign = HwpRecord_ListHeader.getVertAlign(6, buf, offset, version);
                         offset += 6;
@@ -982,8 +1376,9 @@ public class HwpSection {
                 }
             } else if (level == runLevel) {
                 offset += headerOffset;
-                log.fine(IntStream.rangeClosed(0, level).mapToObj(i -> String.valueOf(i)).collect(Collectors.joining())
-                        + "[TAG]=" + tag.toString() + " (" + size + ") = runLevel");
+                if (tracer != null) {
+                    tracer.record(traceName, level, tagNum, size);
+                }
 
                 switch (tag) {
                 case HWPTAG_PARA_HEADER:
@@ -1034,23 +1429,23 @@ public class HwpSection {
     private int parseListAppend(Ctrl_Common obj, int size, byte[] buf, int off, int version) throws HwpParseException {
         int len = 0;
 
-        switch (obj.ctrlId) {
-        case "cer$":
+        switch (obj.ctrlIdNum) {
+        case CtrlId.SHAPE_RECT:
             len = Ctrl_ShapeRect.parseListHeaderAppend((Ctrl_ShapeRect) obj, size, buf, off, version);
             break;
-        case " osg":
+        case CtrlId.GEN_SHAPE:
             len = Ctrl_GeneralShape.parseListHeaderAppend((Ctrl_GeneralShape) obj, size, buf, off, version);
             break;
-        case " lbt":
+        case CtrlId.TABLE:
             len = Ctrl_Table.parseListHeaderAppend((Ctrl_Table) obj, size, buf, off, version);
             break;
-        case "deqe":
+        case CtrlId.EQEDIT:
             len = Ctrl_EqEdit.parseListHeaderAppend((Ctrl_EqEdit) obj, size, buf, off, version);
             break;
-        case "lop$":
+        case CtrlId.SHAPE_POLYGON:
             len = Ctrl_ShapePolygon.parseListHeaderAppend((Ctrl_ShapePolygon) obj, size, buf, off, version);
             break;
-        case "lle$":
+        case CtrlId.SHAPE_ELLIPSE:
             len = Ctrl_ShapeEllipse.parseListHeaderAppend((Ctrl_ShapeEllipse) obj, size, buf, off, version);
             break;
         }
@@ -1061,19 +1456,19 @@ public class HwpSection {
     private int parseListAppend(Ctrl obj, int size, byte[] buf, int off, int version) throws HwpParseException {
         int len = 0;
 
-        switch (obj.ctrlId) {
-        case "dces":
+        switch (obj.ctrlIdNum) {
+        case CtrlId.SECTION_DEF:
             off += (size - 6);
             len = size;
             break;
-        case "daeh":
-        case "toof":
+        case CtrlId.HEADER:
+        case CtrlId.FOOTER:
             len = Ctrl_HeadFoot.parseListHeaderAppend((Ctrl_HeadFoot) obj, size, buf, off, version);
             // 문서내 14byte 내용은 있으나 28byte는 정의가 되지 않았다. 이중 10byte는 해석이 가능. offset값은 임의로 만든다.
             off += (size - 6);
             len = size;
             break;
-        case "  nf":
+        case CtrlId.FOOTNOTE:
             len = size;
             break;
         }
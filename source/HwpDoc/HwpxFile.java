@@ -52,6 +52,7 @@ public class HwpxFile {
     public	int	version;
     public	HwpDocInfo 	docInfo;
     public	List<HwpSection> sections;
+    private	ParseMode parseMode = ParseMode.FULL;
     
     // Let's have member that are needed for showing in LibreOffice
     public	List<DirectoryEntry> directoryBinData;
@@ -82,6 +83,17 @@ public class HwpxFile {
         return sections;
     }
     
+    /*
+     * TEXT_ONLY 이면 BinData 를 등록하지 않고, 문단의 linesegarray 를 읽지 않는다. open() 전에 지정한다.
+     */
+    public void setParseMode(ParseMode mode) {
+        this.parseMode = mode;
+    }
+    
+    public ParseMode getParseMode() {
+        return parseMode;
+    }
+    
     public boolean detect() throws HwpDetectException, IOException {
         // read CompoundFile structure
         try {
@@ -128,6 +140,7 @@ public class HwpxFile {
     }
     
     public boolean getDocInfo(int version) throws IOException, DataFormatException, ParserConfigurationException, SAXException, HwpParseException, NotImplementedException {
+        docInfo.setParseMode(parseMode);
         if (docInfo.readContentHpf(getDocument("Contents/content.hpf"), version)) {
             return docInfo.read(getDocument("Contents/header.xml"), version);
         } else {
@@ -141,6 +154,7 @@ public class HwpxFile {
         Document document = getDocument(name);
         
         HwpSection hwpSection = new HwpSection(this);
+        hwpSection.setParseMode(parseMode);
         hwpSection.read(document, version);
             
         sections.add(hwpSection);
@@ -182,17 +196,4 @@ public class HwpxFile {
             this.paraList = new ArrayList<HwpParagraph>();
         this.paraList.add(para);
     }
-    
-    public static class Rand {
-        static int random_seed;
-        
-        public static void srand(int seed) {
-            random_seed = seed;
-        }
-        
-        public static int rand() {
-            random_seed = (random_seed * 214013 + 2531011) & 0xFFFFFFFF;
-            return ((random_seed >> 16) & 0x7FFF);
-        }
-    }
 } 
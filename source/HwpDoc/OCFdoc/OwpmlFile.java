@@ -21,7 +21,6 @@
 package HwpDoc.OCFdoc;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -33,10 +32,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
+import HwpDoc.Decompressor;
+
 
 
 public class OwpmlFile {
@@ -68,8 +68,9 @@ public class OwpmlFile {
                 long offsetEnd = entryOffset;
                 int zipMethod = zipEntry.getMethod();
                 
-                offsetMap.put(zipEntry.getName(), new Offset(offsetStart, offsetEnd, zipMethod));
                 zipInputStream.closeEntry();
+                // 압축을 푼 크기는 entry 를 다 읽은 뒤에 알 수 있는 경우가 있다. (data descriptor)
+                offsetMap.put(zipEntry.getName(), new Offset(offsetStart, offsetEnd, zipMethod, zipEntry.getSize()));
             }
         } catch (IOException e) {
             e.printStackTrace();
@@ -89,7 +90,7 @@ public class OwpmlFile {
             int readLen = raf.read(buf, 0, (int)entrySize);
             
             if (offset.zipMethod == ZipEntry.DEFLATED) {
-                buf = unzip(buf, readLen);
+                buf = Decompressor.unzip(buf, readLen, offset.size);
             }
         }
         return new ByteArrayInputStream(buf);
@@ -109,7 +110,7 @@ public class OwpmlFile {
             int readLen = raf.read(buf, 0, (int)entrySize);
     
             if (offset.zipMethod == ZipEntry.DEFLATED) {
-                buf = unzip(buf, readLen);
+                buf = Decompressor.unzip(buf, readLen, offset.size);
             }
         }
 
@@ -128,25 +129,6 @@ public class OwpmlFile {
         return binData.orElse("");
     }
     
-    private byte[] unzip(byte[] input, int inLen) throws IOException, DataFormatException {
-        Inflater decompressor = new Inflater(true);
-        decompressor.setInput(input, 0, input.length);
-        ByteArrayOutputStream bos = new ByteArrayOutputStream(inLen);
-
-        // Decompress the data
-        byte[] buf = new byte[8096];
-        while (!decompressor.finished()) {
-            int count = decompressor.inflate(buf);
-            if (count > 0) {
-                bos.write(buf, 0, count);
-            } else {
-                throw new IOException("can't decompress data");
-            }
-        }
-        bos.close();
-        return bos.toByteArray();
-    }
-    
     public void close() throws IOException {
     }
     
@@ -154,11 +136,17 @@ public class OwpmlFile {
         long start;
         long end;
         int zipMethod;
+        long size;          // 압축을 푼 크기. 모르면 -1
         
         public Offset(long start, long end, int zipMethod) {
+            this(start, end, zipMethod, -1);
+        }
+        
+        public Offset(long start, long end, int zipMethod, long size) {
             this.start = start;
             this.end = end;
             this.zipMethod = zipMethod;
+            this.size = size;
         }
     }
 
@@ -23,16 +23,27 @@ package HwpDoc.OLEdoc;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -41,10 +52,24 @@ import HwpDoc.ErrCode;
 import HwpDoc.Exception.CompoundDetectException;
 
 
+/*
+ * open() 이 끝난 뒤에는 여러 thread 가 하나의 CompoundFile 에서 서로 다른(또는 같은) stream 을 동시에 읽어도 된다.
+ * read(DirectoryEntry), getComponent(), openStream(), openChannel() 은 공유하는 file position 없이
+ * position 을 지정해서 읽는다. (mapping 한 buffer 의 duplicate, FileChannel.read(ByteBuffer, long))
+ * 단, openStream()/openChannel() 로 얻은 stream 객체 하나는 한 thread 에서만 사용해야 하고,
+ * read(int) 는 RandomAccessFile 의 현재 위치를 사용하므로 thread-safe 하지 않다.
+ *
+ * memoryMapped 로 열면 mapping 은 GC 될 때까지 풀리지 않는다. Windows 에서는 close() 뒤에도
+ * 그동안 파일이 잠겨 있으므로, 기본 생성자 CompoundFile(File) 은 mapping 하지 않는다.
+ */
 public class CompoundFile {
 	private static final Logger log = Logger.getLogger(CompoundFile.class.getName());
 
 	private RandomAccessFile raf;
+	private ByteBuffer buffer;			// mapping 한 파일 또는 메모리에 있는 문서.
+	private FileChannel fileChannel;	// position 을 지정해서 읽는다. (thread-safe)
+	private SeekableByteChannel channel;
+	private boolean lazy;				// true 이면 stream 의 sector chain 을 처음 읽을 때 구한다.
 	private int minorVersion;
 	private int majorVersion;
 	private int sectorSize = 512;
@@ -59,11 +84,16 @@ public class CompoundFile {
 	private int num_MSAT;
 	private ArrayList<Sector> sectorList;
 	private ArrayList<Integer> SAT_list;	// Master SAT
-	private ArrayList<Integer> SSAT_SecID_list;
-	private ArrayList<Integer> Directory_SecID_list;
-	private ArrayList<Integer> SStream_SecID_list;
+	private int[] MSAT;						// SAT 를 담고 있는 SecID 들
+	private int[] SAT;						// SecID 별 다음 SecID
+	private boolean[] SAT_loaded;			// SAT sector 별로 SAT 에 읽어 들였는지 여부
+	private int[] SSAT;						// Short SecID 별 다음 Short SecID
+	private int[] Directory_SecIDs;
 	private ArrayList<Integer> SStream_list;
 	private ArrayList<DirectoryEntry> DirectoryEntry_list;
+	private Map<String, DirectoryEntry> nameIndex;		// 이름 -> entry (Directory 순서상 첫번째)
+	private Map<String, DirectoryEntry> pathIndex;		// "BinData/BIN0003.png" -> entry
+	private volatile byte[] miniStream;					// Root Entry 의 short stream container. 처음 읽을 때 한번만 읽는다.
 	
 	
 	final static byte[] COMPOUND_SIGANTURE = { (byte)0xD0, (byte)0xCF, (byte)0x11, (byte)0xE0, (byte)0xA1, (byte)0xB1, (byte)0x1A, (byte)0xE1 };
@@ -73,76 +103,168 @@ public class CompoundFile {
 	}
 	
 	public CompoundFile(File file) throws FileNotFoundException {
+		this(file, false);
+	}
+	
+	public CompoundFile(File file, boolean memoryMapped) throws FileNotFoundException {
+		this();
 		raf = new RandomAccessFile(file, "r");
+		fileChannel = raf.getChannel();
+		if (memoryMapped) {
+			buffer = mapFile();
+		}
+	}
+	
+	/*
+	 * 이미 메모리에 있는 문서를 임시파일로 쓰지 않고 바로 읽는다. buffer 의 현재 position 이 문서의 시작이다.
+	 */
+	public CompoundFile(ByteBuffer buffer) {
+		this();
+		this.buffer = buffer.slice();
+	}
+	
+	/*
+	 * channel 은 close() 할 때 같이 닫는다.
+	 */
+	public CompoundFile(SeekableByteChannel channel) {
+		this();
+		this.channel = channel;
+		if (channel instanceof FileChannel) {
+			fileChannel = (FileChannel)channel;
+		}
+	}
+	
+	private CompoundFile() {
 		sectorList = new ArrayList<Sector>();
 		SAT_list = new ArrayList<Integer>();
-		SSAT_SecID_list = new ArrayList<Integer>();
-		Directory_SecID_list = new ArrayList<Integer>();
-		SStream_SecID_list = new ArrayList<Integer>();
 		SStream_list = new ArrayList<Integer>();
 		DirectoryEntry_list = new ArrayList<DirectoryEntry>();
+		nameIndex = new HashMap<String, DirectoryEntry>();
+		pathIndex = new HashMap<String, DirectoryEntry>();
 	}
 	
-	private void addSiblings(List<Integer> indexList, int currentIndex) {
-		if (currentIndex==-1) 
-			return;
-		
-		if (!indexList.contains(currentIndex)) {
-			indexList.add(currentIndex);
-		}
-		int leftSibling = DirectoryEntry_list.size()>currentIndex?DirectoryEntry_list.get(currentIndex).leftSiblingID:-1;
-		int rightSibling = DirectoryEntry_list.size()>currentIndex?DirectoryEntry_list.get(currentIndex).rightSiblingID:-1;
-		
-		if (rightSibling!=-1) {
-			int elderIndex = indexList.indexOf(currentIndex);
-			indexList.add(elderIndex+1, rightSibling);
-			if (rightSibling < DirectoryEntry_list.size()) {
-				addSiblings(indexList, rightSibling);
+	private MappedByteBuffer mapFile() {
+		try {
+			long size = fileChannel.size();
+			if (size > Integer.MAX_VALUE) {
+				log.fine("File is too large to be mapped. size=" + size);
+				return null;
 			}
+			return fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		} catch (IOException e) {
+			log.warning("Memory mapping failed. Falling back to RandomAccessFile. " + e.getMessage());
+			return null;
 		}
-		if (leftSibling!=-1) {
-			int elderIndex = indexList.indexOf(currentIndex);
-			indexList.add(elderIndex, leftSibling);
-			if (leftSibling < DirectoryEntry_list.size()) {
-				addSiblings(indexList, leftSibling);
+	}
+	
+	public boolean isMemoryMapped() {
+		return buffer instanceof MappedByteBuffer;
+	}
+	
+	/*
+	 * open() 전에 설정한다. lazy 이면 open()은 Header, MSAT, Directory 만 읽고
+	 * SAT/SSAT 와 각 stream 의 sector chain 은 해당 stream 을 처음 읽을 때 구해 둔다.
+	 */
+	public void setLazy(boolean lazy) {
+		this.lazy = lazy;
+	}
+	
+	/*
+	 * sibling 들은 red-black tree 로 되어 있으므로 in-order 로 순회하면 이름 순서가 된다.
+	 * 잘못 만들어진 파일의 순환 구조를 대비해 한번 방문한 entry 는 다시 방문하지 않는다.
+	 */
+	private DirectoryEntry[] collectChildren(int childID) {
+		int size = DirectoryEntry_list.size();
+		boolean[] visited = new boolean[size];
+		List<DirectoryEntry> children = new ArrayList<DirectoryEntry>();
+		Deque<DirectoryEntry> stack = new ArrayDeque<DirectoryEntry>();
+		int index = childID;
+		while (true) {
+			// 왼쪽 끝까지 내려간다.
+			while (index>=0 && index<size && !visited[index]) {
+				visited[index] = true;
+				DirectoryEntry entry = DirectoryEntry_list.get(index);
+				stack.push(entry);
+				index = entry.leftSiblingID;
 			}
+			if (stack.isEmpty()) 
+				break;
+			DirectoryEntry entry = stack.pop();
+			children.add(entry);
+			index = entry.rightSiblingID;
 		}
+		return children.toArray(new DirectoryEntry[children.size()]);
 	}
 	
 	public DirectoryEntry getEntry(String entryName) {
-		Optional<DirectoryEntry> op = DirectoryEntry_list.stream()
-														.filter(e -> e.directoryEntryName.trim().equals(entryName))
-														.findFirst();
-		return op.isPresent()?op.get():null;
+		return nameIndex.get(entryName);
+	}
+	
+	public DirectoryEntry getEntryByPath(String entryPath) {
+		return pathIndex.get(entryPath);
+	}
+	
+	public DirectoryEntry getChildEntry(DirectoryEntry baseEntry, String entryName) {
+		DirectoryEntry storage = baseEntry==null ? DirectoryEntry_list.get(0) : baseEntry;
+		return storage.childMap==null ? null : storage.childMap.get(entryName);
 	}
 
+	/*
+	 * storage 의 child 목록은 open() 할 때 한번 구해 두고, 변경할 수 없는 List 로 돌려준다.
+	 */
 	public List<DirectoryEntry> getChildEntries(DirectoryEntry baseEntry) {
-		List<Integer> entryIdx = new LinkedList<Integer>();
-		int index = 0;
-		if (baseEntry == null) {
-			index = DirectoryEntry_list.get(0).childID;
-		} else {
-			index = baseEntry.childID;
+		DirectoryEntry storage = baseEntry==null ? DirectoryEntry_list.get(0) : baseEntry;
+		DirectoryEntry[] children = storage.children;
+		if (children == null) {
+			children = collectChildren(storage.childID);
 		}
-		addSiblings(entryIdx, index);
-		List<DirectoryEntry> entries =  entryIdx.stream()
-												.filter(i -> (i<DirectoryEntry_list.size()))
-												.map(i -> DirectoryEntry_list.get(i))
-												.collect(Collectors.toList());
-		return entries;
+		return Collections.unmodifiableList(Arrays.asList(children));
 	}
 
 	public List<DirectoryEntry> getChildEntries(String baseEntryName) {
-		Optional<DirectoryEntry> op = DirectoryEntry_list.stream()
-														.filter(e -> e.directoryEntryName.trim().equals(baseEntryName))
-														.findFirst();
-		if (op.isPresent()) {
-			return getChildEntries(op.get());
+		DirectoryEntry baseEntry = getEntry(baseEntryName);
+		if (baseEntry != null) {
+			return getChildEntries(baseEntry);
 		} else {
 			return new ArrayList<DirectoryEntry>();
 		}
 	}
 	
+	private void buildIndex() {
+		for (DirectoryEntry entry: DirectoryEntry_list) {
+			if (entry.objectType != 0x00) {
+				nameIndex.putIfAbsent(entry.directoryEntryName.trim(), entry);
+			}
+		}
+		
+		DirectoryEntry root = DirectoryEntry_list.get(0);
+		root.entryPath = "";
+		pathIndex.put(root.entryPath, root);
+		
+		// 순환 구조로 잘못 만들어진 파일을 대비해 storage 는 한번씩만 방문한다.
+		Set<DirectoryEntry> visited = new HashSet<DirectoryEntry>();
+		LinkedList<DirectoryEntry> storages = new LinkedList<DirectoryEntry>();
+		storages.add(root);
+		while (!storages.isEmpty()) {
+			DirectoryEntry storage = storages.removeFirst();
+			if (!visited.add(storage)) continue;
+			
+			storage.children = collectChildren(storage.childID);
+			storage.childMap = new HashMap<String, DirectoryEntry>();
+			for (DirectoryEntry child: storage.children) {
+				String childName = child.directoryEntryName.trim();
+				storage.childMap.putIfAbsent(childName, child);
+				if (child.entryPath == null) {
+					child.entryPath = storage.entryPath.isEmpty() ? childName : storage.entryPath + "/" + childName;
+					pathIndex.putIfAbsent(child.entryPath, child);
+				}
+				if (child.objectType == 0x01) {
+					storages.add(child);
+				}
+			}
+		}
+	}
+	
 	public byte[] getComponent(String entryName) throws CompoundDetectException {
 	    DirectoryEntry entry = getEntry(entryName);
 	    if (entry!=null) {
@@ -156,67 +278,169 @@ public class CompoundFile {
 		byte[] buf = new byte[(int)entry.streamSize];
 		int buff_offset = 0;
 
-		int len = 0;
-		List<Integer> streamContainerSectors = null;
-		if (entry.streamSize<miniStreamCutoffSize) { // short Stream
-			byte[] b = new byte[64];
-			int remainSize = (int)entry.streamSize;
-			streamContainerSectors = DirectoryEntry_list.get(0).secNums;
-			for (int secNum: entry.secNums) {
-				// readStream
-				int stream_Index = secNum/(sectorSize/64);
-				int stream_offset = secNum % (sectorSize/64);
-				int satID = streamContainerSectors.get(stream_Index);
-				try {
-					raf.seek((satID+1)*sectorSize + stream_offset*64);
-					int readLen = raf.read(b, 0, remainSize>=64?64:remainSize);
-					if (readLen<0) continue;
-					remainSize -= readLen;
-					
-					// writeToBuffer
-					System.arraycopy(b, 0, buf, buff_offset, readLen);
-					buff_offset += readLen;
-				} catch (IOException e1) {
-					// TODO Auto-generated catch block
-					e1.printStackTrace();
+		try {
+			while (buff_offset < buf.length) {
+				int readLen = read(entry, buff_offset, buf, buff_offset, buf.length-buff_offset);
+				if (readLen<0) break;
+				buff_offset += readLen;
+			}
+		} catch (IOException e1) {
+			e1.printStackTrace();
+		}
+		
+		return buf;
+	}
+	
+	public InputStream openStream(DirectoryEntry entry) {
+		return Channels.newInputStream(openChannel(entry));
+	}
+	
+	public SeekableByteChannel openChannel(DirectoryEntry entry) {
+		return new CompoundStream(this, entry);
+	}
+	
+	/*
+	 * stream 내의 position 위치부터 최대 len 만큼 읽는다. stream 끝이면 -1 을 돌려준다.
+	 */
+	int read(DirectoryEntry entry, long position, byte[] buf, int offset, int len) throws IOException {
+		if (position >= entry.streamSize) {
+			return -1;
+		}
+		len = (int)Math.min(len, entry.streamSize-position);
+		
+		if (entry.objectType!=0x05 && entry.streamSize<miniStreamCutoffSize) {
+			return readShortStream(entry, position, buf, offset, len);
+		}
+		
+		int[] secNums = getSecNums(entry);
+		int total = 0;
+		while (total < len) {
+			int secIndex = (int)(position / sectorSize);
+			int secOffset = (int)(position % sectorSize);
+			if (secIndex >= secNums.length) break;
+			
+			long filePos = sectorPosition(secNums[secIndex]);
+			
+			// 파일 안에서 연속된 sector 들은 한번에 읽는다.
+			int runLen = sectorSize - secOffset;
+			long nextPos = filePos + sectorSize;
+			while (runLen < len-total && secIndex+1 < secNums.length) {
+				if (sectorPosition(secNums[secIndex+1]) != nextPos) break;
+				secIndex++;
+				runLen += sectorSize;
+				nextPos += sectorSize;
+			}
+			int readLen = readAt(filePos+secOffset, buf, offset+total, Math.min(runLen, len-total));
+			if (readLen <= 0) break;
+			total += readLen;
+			position += readLen;
+		}
+		return total==0 && len>0 ? -1 : total;
+	}
+	
+	/*
+	 * short stream 은 메모리에 올려둔 short stream container 에서 복사한다.
+	 */
+	private int readShortStream(DirectoryEntry entry, long position, byte[] buf, int offset, int len) throws IOException {
+		int[] secNums = getSecNums(entry);
+		byte[] container = getMiniStream();
+		int total = 0;
+		while (total < len) {
+			int secIndex = (int)(position / shortSectorSize);
+			int secOffset = (int)(position % shortSectorSize);
+			if (secIndex >= secNums.length) break;
+			
+			long containerPos = (long)secNums[secIndex] * shortSectorSize;
+			
+			// container 안에서 연속된 short sector 들은 한번에 복사한다.
+			int runLen = shortSectorSize - secOffset;
+			while (runLen < len-total && secIndex+1 < secNums.length && secNums[secIndex+1] == secNums[secIndex]+1) {
+				secIndex++;
+				runLen += shortSectorSize;
+			}
+			long srcPos = containerPos + secOffset;
+			if (srcPos >= container.length) break;
+			int copyLen = (int)Math.min(Math.min(runLen, len-total), container.length-srcPos);
+			System.arraycopy(container, (int)srcPos, buf, offset+total, copyLen);
+			total += copyLen;
+			position += copyLen;
+		}
+		return total==0 && len>0 ? -1 : total;
+	}
+	
+	private byte[] getMiniStream() throws IOException {
+		byte[] container = miniStream;
+		if (container == null) {
+			synchronized (this) {
+				if (miniStream == null) {
+					DirectoryEntry root = DirectoryEntry_list.get(0);
+					byte[] buf = new byte[(int)Math.min(root.streamSize, (long)getSecNums(root).length*sectorSize)];
+					int readLen = buf.length==0 ? 0 : read(root, 0, buf, 0, buf.length);
+					miniStream = readLen==buf.length ? buf : Arrays.copyOf(buf, Math.max(readLen, 0));
 				}
+				container = miniStream;
+			}
+		}
+		return container;
+	}
+	
+	private long sectorPosition(int secID) {
+		return (long)(secID+1) * sectorSize;
+	}
+
+	private int readAt(long position, byte[] buf, int offset, int len) throws IOException {
+		if (buffer != null) {
+			if (position < 0 || position >= buffer.capacity()) {
+				return -1;
 			}
-		} else {									 // normal Stream
-			byte[] b = new byte[sectorSize];
-			int remainSize = (int)entry.streamSize;
-			streamContainerSectors = entry.secNums;
-			for (int secNum: entry.secNums) {
-				if (secNum==0xFFFFFFFE) continue;
-				// readStream
-				try {
-					raf.seek((secNum+1)*sectorSize);
-					int readLen = raf.read(b, 0, remainSize>=sectorSize?sectorSize:remainSize);
-					remainSize -= readLen;
-					
-					// writeToBuf
-					System.arraycopy(b, 0, buf, buff_offset, readLen);
-					buff_offset += readLen;
-				} catch (IOException e1) {
-					e1.printStackTrace();
+			int readLen = (int)Math.min(len, buffer.capacity()-position);
+			ByteBuffer src = buffer.duplicate();
+			src.position((int)position);
+			src.get(buf, offset, readLen);
+			return readLen;
+		} else {
+			ByteBuffer dst = ByteBuffer.wrap(buf, offset, len);
+			if (fileChannel != null) {
+				while (dst.hasRemaining()) {
+					if (fileChannel.read(dst, position+dst.position()-offset) < 0) break;
+				}
+			} else {
+				// 일반 SeekableByteChannel 은 position 을 공유하므로 순서대로 읽는다.
+				synchronized (channel) {
+					channel.position(position);
+					while (dst.hasRemaining()) {
+						if (channel.read(dst) < 0) break;
+					}
 				}
 			}
+			return (dst.position()==offset && len>0) ? -1 : dst.position()-offset;
+		}
+	}
+	
+	private ByteBuffer getSector(int secID) throws IOException {
+		long position = sectorPosition(secID);
+		if (buffer != null && position >= 0 && position+sectorSize <= buffer.capacity()) {
+			ByteBuffer src = buffer.duplicate();
+			src.position((int)position);
+			src.limit((int)position + sectorSize);
+			return src.slice().order(ByteOrder.LITTLE_ENDIAN);
+		} else {
+			byte[] buf = new byte[sectorSize];
+			int readLen = readAt(position, buf, 0, sectorSize);
+			return ByteBuffer.wrap(buf, 0, readLen<0?0:readLen).slice().order(ByteOrder.LITTLE_ENDIAN);
 		}
-		
-		return buf;
 	}
 
 	
 	public void open() throws CompoundDetectException, IOException {
 		
 		byte[] buf = new byte[sectorSize];	// from Signature to Number of DIFAT sectors
-		if (raf.read(buf, 0, sectorSize) != sectorSize) {
+		if (readAt(0, buf, 0, sectorSize) != sectorSize) {
 			throw new CompoundDetectException(ErrCode.FILE_READ_ERROR);
 		}
 		parse_Header(buf);
 		if (majorVersion == 0x0004) {
-			raf.seek(4096);
 			sectorSize = 4096;
-			buf = new byte[sectorSize];
 		}
 		
 		// collect MSAT SecID 
@@ -224,94 +448,41 @@ public class CompoundFile {
 		if (secID != 0xFFFFFFFE && secID != 0xFFFFFFFF) {  // [20211103] 0xFFFFFFFF 조건 추가. (국방CBD방법론v1(1권) 읽지 못하는 이슈 수정)
 			read_MSAT_sector(secID);	// MSAT sector에서  SSAT SecID들을 구한다.
 		}
+		MSAT = SAT_list.stream().mapToInt(Integer::intValue).toArray();
 		
 		if (log.isLoggable(Level.FINEST)) {
-			log.finest("[______SAT Sector]={"+ SAT_list.stream().map(i -> i.toString()).collect(Collectors.joining(",")) + "}");
+			log.finest("[______SAT Sector]={"+ Arrays.stream(MSAT).mapToObj(Integer::toString).collect(Collectors.joining(",")) + "}");
 		}
 		
-		// Directory
-		secID = first_SecID_Directory;
-		Directory_SecID_list.add(secID);
-		while(secID != 0xFFFFFFFE) {
-			int satIndex = secID/(sectorSize/4);
-
-			// collect Directory SecID
-			int satID = SAT_list.get(secID/(sectorSize/4));
-			List<Integer> secID_list = get_SecIDs_from_SAT(satID, satIndex, secID);
-			secID_list.stream().filter(id -> !Directory_SecID_list.contains(id)).forEach(id -> Directory_SecID_list.add(id));
-			secID = secID_list.get(secID_list.size()-1);
-		}
-			
-		// collect Directory Entries
-		for (int secID_Directory: Directory_SecID_list) {
-			if (secID_Directory != 0xFFFFFFFE) {
-				read_Directory_sector(secID_Directory);
+		SAT = new int[MSAT.length * (sectorSize/4)];
+		SAT_loaded = new boolean[MSAT.length];
+		if (!lazy) {
+			// SAT 전체를 한번에 읽는다.
+			for (int i=0; i<MSAT.length; i++) {
+				read_SAT_sector(i);
 			}
 		}
-		if (log.isLoggable(Level.FINEST)) {
-			log.finest("[Directory Sector]={" + Directory_SecID_list.stream().map(i -> i.toString()).collect(Collectors.joining(",")) + "}");
-		}
 		
-		// collect SSAT SecID 
-		int lastSecID = first_SecID_SSAT;
-		SSAT_SecID_list.add(lastSecID);
-		while(lastSecID != 0xFFFFFFFE) {
-			int satIndex = lastSecID/(sectorSize/4);
-			int satID = SAT_list.get(satIndex);
-			List<Integer> secID_list = get_SecIDs_from_SAT(satID, satIndex, lastSecID);	// SAT를 읽어서 SSAT SecID 들을 구한다.
-			secID_list.stream().filter(id -> !SSAT_SecID_list.contains(id)).forEach(id -> SSAT_SecID_list.add(id));
-			lastSecID = secID_list.get(secID_list.size()-1);
+		// Directory
+		Directory_SecIDs = get_SecIDs_from_SAT(first_SecID_Directory, Integer.MAX_VALUE);
+			
+		// collect Directory Entries
+		for (int secID_Directory: Directory_SecIDs) {
+			read_Directory_sector(secID_Directory);
 		}
 		if (log.isLoggable(Level.FINEST)) {
-			log.finest("[Short SAT Sector]={" +SSAT_SecID_list.stream().map(i->i.toString()).collect(Collectors.joining(",")) + "}");
+			log.finest("[Directory Sector]={" + Arrays.stream(Directory_SecIDs).mapToObj(Integer::toString).collect(Collectors.joining(",")) + "}");
 		}
 		
-		int SecID_SStream = 0;
-		
-		// collect SecID of Stream for each Directory entries 
-		for (DirectoryEntry entry: DirectoryEntry_list) {
-			if (entry.objectType == 0x05) { // Root Storage
-				// Short Stream container Stream SecID 
-				lastSecID = entry.startingSectorID;
-				entry.secNums = new ArrayList<Integer>();
-				entry.secNums.add(lastSecID);
-				while(lastSecID != 0xFFFFFFFE) {
-					int containerIndex = lastSecID/(sectorSize/4);
-					int satID = SAT_list.get(containerIndex);
-					List<Integer> secID_list = get_SecIDs_from_SAT(satID, containerIndex, lastSecID);	// SAT를 읽어서 stream container SecID 들을 구한다.
-					secID_list.stream().filter(id -> !entry.secNums.contains(id)).forEach(id -> entry.secNums.add(id));
-					lastSecID = secID_list.get(secID_list.size()-1);
-				}
-				
-			} else if (entry.objectType == 0x02) {	// Stream
-				entry.secNums = new ArrayList<Integer>();
-				entry.secNums.add(entry.startingSectorID);
-				if (entry.streamSize<miniStreamCutoffSize) {
-					// ShortStream
-					int lastSSecID = entry.startingSectorID;
-					while(lastSSecID != 0xFFFFFFFE) {
-						int ssatIndex = lastSSecID/(sectorSize/4);
-						int ssatID = SSAT_SecID_list.get(ssatIndex);
-						List<Integer> secID_list = get_SecIDs_from_SAT(ssatID, ssatIndex, lastSSecID);
-						secID_list.stream().filter(id -> !entry.secNums.contains(id)).forEach(id -> entry.secNums.add(id));
-						lastSSecID = entry.secNums.get(entry.secNums.size()-1);
-					}
-				} else {
-					// Stream
-					int last_SecID = entry.startingSectorID;
-					while(last_SecID != 0xFFFFFFFE) {
-						int satIndex = last_SecID/(sectorSize/4);
-						int satID = SAT_list.get(satIndex);
-						List<Integer> secID_list = get_SecIDs_from_SAT(satID, satIndex, last_SecID);
-						secID_list.stream().filter(id -> !entry.secNums.contains(id)).forEach(id -> entry.secNums.add(id));
-						last_SecID = entry.secNums.get(entry.secNums.size()-1);
-					}
-				}
-			} else {
-				continue;
+		if (!lazy) {
+			// collect SecID of Stream for each Directory entries 
+			for (DirectoryEntry entry: DirectoryEntry_list) {
+				resolveSecNums(entry);
 			}
 		}
 
+		buildIndex();
+
 		if (log.isLoggable(Level.FINEST)) {
 			log.finest("_I __________Name_______ ___Type LS RS Chd Sec Size__  Chain__________");
 			for (int idx=0; idx<DirectoryEntry_list.size();idx++) {
@@ -326,7 +497,7 @@ public class CompoundFile {
 												e.startingSectorID,
 												e.streamSize,
 												e.streamSize<miniStreamCutoffSize?"s":"N",
-												e.secNums==null?"null":e.secNums.stream().map(i -> i.toString()).collect(Collectors.joining(",")))
+												e.secNums==null?"null":Arrays.stream(e.secNums).mapToObj(Integer::toString).collect(Collectors.joining(",")))
 									);
 			}
 		}
@@ -335,25 +506,97 @@ public class CompoundFile {
 	}
 
 
-	private List<Integer> get_SecIDs_from_SAT(int secID, int satIndex, int secID_SSAT) throws IOException {
-		byte[] buf = new byte[sectorSize];
-		raf.seek((secID+1) * sectorSize);
-		raf.read(buf, 0, sectorSize);
+	private void read_SAT_sector(int satIndex) throws IOException {
+		int entriesPerSector = sectorSize/4;
+		Arrays.fill(SAT, satIndex*entriesPerSector, (satIndex+1)*entriesPerSector, 0xFFFFFFFF);
+		ByteBuffer buf = getSector(MSAT[satIndex]);
+		buf.asIntBuffer().get(SAT, satIndex*entriesPerSector, buf.limit()/4);
+		SAT_loaded[satIndex] = true;
+	}
+	
+	private int[] getSSAT() throws IOException {
+		if (SSAT == null) {
+			int[] SSAT_SecIDs = get_SecIDs_from_SAT(first_SecID_SSAT, Integer.MAX_VALUE);	// SAT를 읽어서 SSAT SecID 들을 구한다.
+			if (log.isLoggable(Level.FINEST)) {
+				log.finest("[Short SAT Sector]={" + Arrays.stream(SSAT_SecIDs).mapToObj(Integer::toString).collect(Collectors.joining(",")) + "}");
+			}
+			
+			int entriesPerSector = sectorSize/4;
+			int[] table = new int[SSAT_SecIDs.length * entriesPerSector];
+			Arrays.fill(table, 0xFFFFFFFF);
+			for (int i=0; i<SSAT_SecIDs.length; i++) {
+				ByteBuffer buf = getSector(SSAT_SecIDs[i]);
+				buf.asIntBuffer().get(table, i*entriesPerSector, buf.limit()/4);
+			}
+			SSAT = table;
+		}
+		return SSAT;
+	}
+	
+	/*
+	 * entry 의 sector chain. 처음 호출할 때 구해서 entry 에 저장해 둔다.
+	 */
+	int[] getSecNums(DirectoryEntry entry) throws IOException {
+		int[] secNums = entry.secNums;
+		if (secNums != null) {
+			return secNums;
+		}
 		
-		int currSecID = secID_SSAT;
-		int iBuf = currSecID%(sectorSize/4) * 4; 
-		List<Integer> secIdList = new ArrayList<Integer>();
+		// lazy 모드에서는 여러 thread 가 동시에 SAT/SSAT 를 읽어 들일 수 있으므로 한 thread 씩 구한다.
+		synchronized (this) {
+			return resolveSecNums(entry);
+		}
+	}
+	
+	private int[] resolveSecNums(DirectoryEntry entry) throws IOException {
+		if (entry.secNums == null) {
+			if (entry.objectType == 0x05) { // Root Storage
+				// Short Stream container Stream SecID 
+				entry.secNums = get_SecIDs_from_SAT(entry.startingSectorID, numSectors(entry.streamSize, sectorSize));
+			} else if (entry.objectType == 0x02) {	// Stream
+				if (entry.streamSize<miniStreamCutoffSize) {
+					// ShortStream
+					entry.secNums = get_SecIDs_from_SSAT(entry.startingSectorID, numSectors(entry.streamSize, shortSectorSize));
+				} else {
+					// Stream
+					entry.secNums = get_SecIDs_from_SAT(entry.startingSectorID, numSectors(entry.streamSize, sectorSize));
+				}
+			} else {
+				return new int[0];
+			}
+		}
+		return entry.secNums;
+	}
+	
+	private int[] get_SecIDs_from_SAT(int startSecID, int maxCount) throws IOException {
+		return get_SecIDs(SAT, startSecID, maxCount);
+	}
+	
+	private int[] get_SecIDs_from_SSAT(int startSecID, int maxCount) throws IOException {
+		return get_SecIDs(getSSAT(), startSecID, maxCount);
+	}
+	
+	private int[] get_SecIDs(int[] table, int startSecID, int maxCount) throws IOException {
+		int limit = Math.min(maxCount, table.length);	// chain은 전체 sector 수보다 길 수 없다. (순환 chain 방지)
+		int[] secIDs = new int[Math.min(limit, 4096)];
+		int count = 0;
+		int entriesPerSector = sectorSize/4;
 		
-		while((sectorSize/4)*(satIndex) <= currSecID && currSecID < (sectorSize/4)*(satIndex+1)) {
-			currSecID = buf[iBuf+3]<<24&0xFF000000 | buf[iBuf+2]<<16&0xFF0000 | buf[iBuf+1]<<8&0xFF00 | buf[iBuf]&0xFF;
-			if (currSecID == 0xFFFFFFFE) {
-				secIdList.add(currSecID);
-				break;
+		// 0xFFFFFFFA ~ 0xFFFFFFFF 는 음수이므로 chain의 끝이다.
+		for (int secID = startSecID; secID >= 0 && secID < table.length && count < limit; secID = table[secID]) {
+			if (count == secIDs.length) {
+				secIDs = Arrays.copyOf(secIDs, Math.min(limit, count*2));
+			}
+			secIDs[count++] = secID;
+			if (table == SAT && !SAT_loaded[secID/entriesPerSector]) {
+				read_SAT_sector(secID/entriesPerSector);
 			}
-			secIdList.add(currSecID);
-			iBuf = currSecID%(sectorSize/4) * 4;
 		}
-		return secIdList;
+		return count==secIDs.length ? secIDs : Arrays.copyOf(secIDs, count);
+	}
+	
+	private static int numSectors(long streamSize, int size) {
+		return (int)Math.min((streamSize + size - 1) / size, Integer.MAX_VALUE);
 	}
 
 	
@@ -427,38 +670,35 @@ public class CompoundFile {
 	}
 	
 	private void read_Directory_sector(int secID) throws IOException {
-		byte[] buf = new byte[sectorSize];
-		raf.seek((secID+1) * sectorSize);
-		if (raf.read(buf, 0, sectorSize) == sectorSize) {
+		ByteBuffer buf = getSector(secID);
+		if (buf.limit() == sectorSize) {
 			parse_Directory_sector(buf);
 		}
 	}
 
-	private void parse_Directory_sector(byte[] buf) throws UnsupportedEncodingException {
+	private void parse_Directory_sector(ByteBuffer buf) throws UnsupportedEncodingException {
+		byte[] nameBuf = new byte[64];
 		for(int i=0, index=0; index <= sectorSize-128; i++,index+=128) {
-			int entryNameLen 				= buf[index+65]<<8&0xFF00 | buf[index+64]&0xFF;
-			String directoryEntryName = new String(buf, index, entryNameLen, StandardCharsets.UTF_16LE);
+			int entryNameLen 				= Math.min(buf.getShort(index+64)&0xFFFF, 64);
+			ByteBuffer name = buf.duplicate();
+			name.position(index);
+			name.get(nameBuf, 0, entryNameLen);
+			String directoryEntryName = new String(nameBuf, 0, entryNameLen, StandardCharsets.UTF_16LE);
 
-			int objectType 			= buf[index+66]&0xFF;
-			int colorFlag 			= buf[index+67]&0xFF;
-			int leftSiblingID		= buf[index+71]<<24&0xFF000000 | buf[index+70]<<16&0xFF0000 | buf[index+69]<<8&0xFF00 | buf[index+68]&0xFF;
-			int rightSiblingID		= buf[index+75]<<24&0xFF000000 | buf[index+74]<<16&0xFF0000 | buf[index+73]<<8&0xFF00 | buf[index+72]&0xFF;
-			int childID				= buf[index+79]<<24&0xFF000000 | buf[index+78]<<16&0xFF0000 | buf[index+77]<<8&0xFF00 | buf[index+76]&0xFF;
+			int objectType 			= buf.get(index+66)&0xFF;
+			int colorFlag 			= buf.get(index+67)&0xFF;
+			int leftSiblingID		= buf.getInt(index+68);
+			int rightSiblingID		= buf.getInt(index+72);
+			int childID				= buf.getInt(index+76);
 
-			long clsID1				= buf[index+87]<<24&0xFF000000 | buf[index+86]<<16&0xFF0000 | buf[index+85]<<8&0xFF00 | buf[index+84]&0xFF;
-			clsID1  		   		= clsID1<<32 | buf[index+83]<<24&0xFF000000 | buf[index+82]<<16&0xFF0000 | buf[index+81]<<8&0xFF00 | buf[index+80]&0xFF;
-			long clsID2  			= buf[index+95]<<24&0xFF000000 | buf[index+94]<<16&0xFF0000 | buf[index+93]<<8&0xFF00 | buf[index+92]&0xFF;
-			clsID2  		   		= clsID2<<32 | buf[index+91]<<24&0xFF000000 | buf[index+90]<<16&0xFF0000 | buf[index+89]<<8&0xFF00 | buf[index+88]&0xFF;
-			
-			int stateBit			= buf[index+99]<<24&0xFF000000 | buf[index+98]<<16&0xFF0000 | buf[index+97]<<8&0xFF00 | buf[index+96]&0xFF;
-			long creationTime		= buf[index+107]<<24&0xFF000000 | buf[index+106]<<16&0xFF0000 | buf[index+105]<<8&0xFF00 | buf[index+104]&0xFF;
-			creationTime 			= creationTime<<32 | buf[index+103]<<24&0xFF000000 | buf[index+102]<<16&0xFF0000 | buf[index+101]<<8&0xFF00 | buf[index+100]&0xFF;
+			long clsID1				= buf.getLong(index+80);
+			long clsID2  			= buf.getLong(index+88);
 			
-			long modifiedTime		= buf[index+115]<<24&0xFF000000 | buf[index+114]<<16&0xFF0000 | buf[index+113]<<8&0xFF00 | buf[index+112]&0xFF;
-			modifiedTime 			= modifiedTime<<32 | buf[index+111]<<24&0xFF000000 | buf[index+110]<<16&0xFF0000 | buf[index+109]<<8&0xFF00 | buf[index+108]&0xFF;
-			int startingSectorID	= buf[index+119]<<24&0xFF000000 | buf[index+118]<<16&0xFF0000 | buf[index+117]<<8&0xFF00 | buf[index+116]&0xFF;
-			long streamSize			= buf[index+127]<<24&0xFF000000 | buf[index+126]<<16&0xFF0000 | buf[index+125]<<8&0xFF00 | buf[index+124]&0xFF;
-			streamSize 	   			= streamSize<<32 | buf[index+123]<<24&0xFF000000 | buf[index+122]<<16&0xFF0000 | buf[index+121]<<8&0xFF00 | buf[index+120]&0xFF;
+			int stateBit			= buf.getInt(index+96);
+			long creationTime		= buf.getLong(index+100);
+			long modifiedTime		= buf.getLong(index+108);
+			int startingSectorID	= buf.getInt(index+116);
+			long streamSize			= buf.getLong(index+120);
 
 			DirectoryEntry de = new DirectoryEntry(directoryEntryName, objectType, colorFlag, leftSiblingID, rightSiblingID, childID, clsID1, clsID2, 
 											stateBit, creationTime, modifiedTime, startingSectorID, streamSize);
@@ -467,17 +707,20 @@ public class CompoundFile {
 	}
 
 	private void read_SSAT_sector(int secID) throws IOException {
-		byte[] buf = new byte[sectorSize];
-		raf.seek((secID+1) * sectorSize);
-		if (raf.read(buf, 0, sectorSize) == sectorSize) {
+		ByteBuffer buf = getSector(secID);
+		if (buf.limit() == sectorSize) {
 			parse_SSAT_sector(buf);
 		}
 	}
 	
 	private void parse_SSAT_sector(byte[] buf) {
+		parse_SSAT_sector(ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN));
+	}
+	
+	private void parse_SSAT_sector(ByteBuffer buf) {
 		int offset = 0;
 		while(offset<sectorSize-4) {
-			int nextSectorID = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0xFF0000 | buf[offset+1]<<8&0xFF00 | buf[offset]&0xFF;
+			int nextSectorID = buf.getInt(offset);
 			offset += 4;
 			if (nextSectorID != 0xFFFFFFFF)
 				SStream_list.add(nextSectorID);
@@ -485,24 +728,23 @@ public class CompoundFile {
 	}
 	
 	private void read_MSAT_sector(int secID) throws IOException {
-		byte[] buf = new byte[sectorSize];
-		raf.seek((secID+1) * sectorSize);
-		if (raf.read(buf, 0, sectorSize) == sectorSize) {
+		ByteBuffer buf = getSector(secID);
+		if (buf.limit() == sectorSize) {
 			parse_MSAT_sector(buf);
 		}
 	}
 
-	private void parse_MSAT_sector(byte[] buf) throws IOException {
+	private void parse_MSAT_sector(ByteBuffer buf) throws IOException {
 		int offset = 0;
 		while(offset<sectorSize-4) {
-			int sector = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0xFF0000 | buf[offset+1]<<8&0xFF00 | buf[offset]&0xFF;
+			int sector = buf.getInt(offset);
 			offset += 4;
 			if (sector != 0xFFFFFFFF)
 				SAT_list.add(sector);
 		}
 		
 		// 다음번 MasterSector ID 읽기
-		int nextSecID_MSAT = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0xFF0000 | buf[offset+1]<<8&0xFF00 | buf[offset]&0xFF;
+		int nextSecID_MSAT = buf.getInt(offset);
 		if (nextSecID_MSAT != 0xFFFFFFFE && nextSecID_MSAT != 0xFFFFFFFF) {  // [20211103] 0xFFFFFFFF 조건 추가. (국방CBD방법론v1(1권) 읽지 못하는 이슈 수정)
 			read_MSAT_sector(nextSecID_MSAT);
 		}
@@ -583,12 +825,21 @@ public class CompoundFile {
 	
 	public byte[] read(int len) throws IOException {
 		byte[] buf = new byte[len];
-		raf.read(buf, 0, len);
+		if (raf != null) {
+			raf.read(buf, 0, len);
+		}
 		return buf;
 	}
 	
 	public void close() throws IOException {
-		raf.close();
+		buffer = null;
+		miniStream = null;
+		if (raf != null) {
+			raf.close();
+		}
+		if (channel != null) {
+			channel.close();
+		}
 	}
 
 }
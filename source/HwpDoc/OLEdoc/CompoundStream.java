@@ -0,0 +1,117 @@
+/* Copyright (C) 2023 ebandal
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>
+ */
+/* 본 제품은 한글과컴퓨터의 ᄒᆞᆫ글 문서 파일(.hwp) 공개 문서를 참고하여 개발하였습니다.
+ * 개방형 워드프로세서 마크업 언어(OWPML) 문서 구조 KS X 6101:2018 문서를 참고하였습니다.
+ * 작성자 : 반희수 ebandal@gmail.com  
+ * 작성일 : 2022.10
+ */
+package HwpDoc.OLEdoc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/*
+ * Compound file 내 stream 을 sector chain 을 따라 필요한 만큼만 읽는 channel.
+ * stream 전체를 byte[] 로 읽어 들이지 않는다.
+ */
+class CompoundStream implements SeekableByteChannel {
+	private CompoundFile compoundFile;
+	private DirectoryEntry entry;
+	private long position;
+	private boolean open = true;
+	
+	CompoundStream(CompoundFile compoundFile, DirectoryEntry entry) {
+		this.compoundFile = compoundFile;
+		this.entry = entry;
+	}
+
+	@Override
+	public int read(ByteBuffer dst) throws IOException {
+		ensureOpen();
+		if (position >= entry.streamSize) {
+			return -1;
+		}
+		
+		int readLen = 0;
+		if (dst.hasArray()) {
+			readLen = compoundFile.read(entry, position, dst.array(), dst.arrayOffset()+dst.position(), dst.remaining());
+			if (readLen > 0) {
+				dst.position(dst.position()+readLen);
+			}
+		} else {
+			byte[] buf = new byte[Math.min(dst.remaining(), 8192)];
+			readLen = compoundFile.read(entry, position, buf, 0, buf.length);
+			if (readLen > 0) {
+				dst.put(buf, 0, readLen);
+			}
+		}
+		if (readLen > 0) {
+			position += readLen;
+		}
+		return readLen;
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		throw new NonWritableChannelException();
+	}
+
+	@Override
+	public long position() throws IOException {
+		ensureOpen();
+		return position;
+	}
+
+	@Override
+	public SeekableByteChannel position(long newPosition) throws IOException {
+		ensureOpen();
+		if (newPosition < 0) {
+			throw new IllegalArgumentException();
+		}
+		position = newPosition;
+		return this;
+	}
+
+	@Override
+	public long size() throws IOException {
+		ensureOpen();
+		return entry.streamSize;
+	}
+
+	@Override
+	public SeekableByteChannel truncate(long size) throws IOException {
+		throw new NonWritableChannelException();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return open;
+	}
+
+	@Override
+	public void close() throws IOException {
+		open = false;
+	}
+	
+	private void ensureOpen() throws ClosedChannelException {
+		if (!open) {
+			throw new ClosedChannelException();
+		}
+	}
+}
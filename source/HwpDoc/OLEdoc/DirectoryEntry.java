@@ -20,7 +20,7 @@
  */
 package HwpDoc.OLEdoc;
 
-import java.util.List;
+import java.util.Map;
 
 public class DirectoryEntry {
 	String directoryEntryName;
@@ -36,7 +36,10 @@ public class DirectoryEntry {
 	long modifiedTime;
 	int startingSectorID;
 	long streamSize;
-	List<Integer> secNums;
+	volatile int[] secNums;					// CompoundFile.getSecNums() 에서 처음 읽을 때 구한다.
+	String entryPath;							// Root Entry 기준 경로. ex) "BinData/BIN0003.png"
+	DirectoryEntry[] children;					// storage 의 child 들. (in-order 순서)
+	Map<String, DirectoryEntry> childMap;		// storage 의 child 이름 -> entry
 	
 	public DirectoryEntry(String directoryEntryName, int objectType, int colorFlag, int leftSiblingID, int rightSiblingID, int childID, 
 							long clsID1, long clsID2, int stateBit, long creationTime, long modifiedTime, int startingSectorID, long streamSize) { 
@@ -62,4 +65,12 @@ public class DirectoryEntry {
 	public String getDirectoryEntryName() {
 		return directoryEntryName;
 	}
+	
+	public long getStreamSize() {
+		return streamSize;
+	}
+	
+	public String getEntryPath() {
+		return entryPath;
+	}
 }
@@ -0,0 +1,84 @@
+/* Copyright (C) 2023 ebandal
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>
+ */
+/* 본 제품은 한글과컴퓨터의 ᄒᆞᆫ글 문서 파일(.hwp) 공개 문서를 참고하여 개발하였습니다.
+ * 개방형 워드프로세서 마크업 언어(OWPML) 문서 구조 KS X 6101:2018 문서를 참고하였습니다.
+ * 작성자 : 반희수 ebandal@gmail.com  
+ * 작성일 : 2022.10
+ */
+package HwpDoc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/*
+ * 마지막 capacity 개의 record 만 기억하는 ParseTracer.
+ * record 마다 문자열을 만들지 않고 배열에 숫자만 넣어 두었다가, 문제가 생겼을 때 dump 한다.
+ */
+public class ParseTraceBuffer implements ParseTracer {
+    private final String[] streams;
+    private final int[] levels;
+    private final int[] tagNums;
+    private final int[] sizes;
+    private long count;
+    
+    public ParseTraceBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity=" + capacity);
+        }
+        streams = new String[capacity];
+        levels = new int[capacity];
+        tagNums = new int[capacity];
+        sizes = new int[capacity];
+    }
+    
+    @Override
+    public synchronized void record(String stream, int level, int tagNum, int size) {
+        int index = (int) (count++ % streams.length);
+        streams[index] = stream;
+        levels[index] = level;
+        tagNums[index] = tagNum;
+        sizes[index] = size;
+    }
+    
+    // 지금까지 불린 record 수 (버려진 것 포함)
+    public synchronized long getCount() {
+        return count;
+    }
+    
+    public synchronized List<String> getEntries() {
+        int n = (int) Math.min(count, streams.length);
+        List<String> entries = new ArrayList<String>(n);
+        for (long i = count-n; i < count; i++) {
+            int index = (int) (i % streams.length);
+            entries.add(streams[index] + " " + ParseTracer.format(levels[index], tagNums[index], sizes[index]));
+        }
+        return entries;
+    }
+    
+    public void dump(Logger log, Level level) {
+        if (log.isLoggable(level)) {
+            for (String entry: getEntries()) {
+                log.log(level, entry);
+            }
+        }
+    }
+    
+    public synchronized void clear() {
+        count = 0;
+    }
+}
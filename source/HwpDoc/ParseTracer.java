@@ -0,0 +1,59 @@
+/* Copyright (C) 2023 ebandal
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>
+ */
+/* 본 제품은 한글과컴퓨터의 ᄒᆞᆫ글 문서 파일(.hwp) 공개 문서를 참고하여 개발하였습니다.
+ * 개방형 워드프로세서 마크업 언어(OWPML) 문서 구조 KS X 6101:2018 문서를 참고하였습니다.
+ * 작성자 : 반희수 ebandal@gmail.com  
+ * 작성일 : 2022.10
+ */
+package HwpDoc;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import HwpDoc.HwpElement.HwpTag;
+
+/*
+ * DocInfo, BodyText/ViewText 의 record 를 하나 읽을 때마다 불린다.
+ * HwpFile 에 지정하지 않으면 parser 는 record 마다 null 비교만 하고, 문자열을 만들지 않는다.
+ * section 들을 동시에 읽으면 여러 thread 에서 불릴 수 있다.
+ */
+public interface ParseTracer {
+    
+    void record(String stream, int level, int tagNum, int size);
+    
+    /*
+     * 예전 log.fine 과 같은 모양으로 logger 에 남긴다.
+     */
+    static ParseTracer toLogger(Logger log, Level level) {
+        return (stream, recLevel, tagNum, size) -> {
+            if (log.isLoggable(level)) {
+                log.log(level, stream + " " + format(recLevel, tagNum, size));
+            }
+        };
+    }
+    
+    // 0123[TAG]=HWPTAG_PARA_TEXT (size)
+    static String format(int level, int tagNum, int size) {
+        StringBuilder sb = new StringBuilder();
+        for (int i=0; i<=level; i++) {
+            sb.append(i);
+        }
+        HwpTag tag = HwpTag.from(tagNum);
+        sb.append("[TAG]=").append(tag==null ? String.valueOf(tagNum) : tag.toString());
+        sb.append(" (").append(size).append(")");
+        return sb.toString();
+    }
+}
@@ -22,12 +22,13 @@ package HwpDoc.paragraph;
 
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import HwpDoc.Exception.HwpParseException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class CharShape {
     private static final Logger log = Logger.getLogger(CharShape.class.getName());
@@ -42,15 +43,17 @@ public class CharShape {
         
         while (size-(offset-off) >= 8) {
             CharShape   shape = new CharShape();
-            shape.start         = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            shape.start         = RecordCursor.getInt(buf, offset);
             offset += 4;
-            shape.charShapeID   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            shape.charShapeID   = RecordCursor.getInt(buf, offset);
             offset += 4;
     
-            log.fine("                                                  "
-                    +"String시작위치="+shape.start
-                    +",문자모양ID="+shape.charShapeID
-            );
+            if (log.isLoggable(Level.FINE)) {
+                log.fine("                                                  "
+                        +"String시작위치="+shape.start
+                        +",문자모양ID="+shape.charShapeID
+                );
+            }
             charShapeList.add(shape);
         }
         
@@ -61,7 +64,7 @@ public class CharShape {
         return charShapeList;
     }
 
-    public static int fillCharShape(int tagNum, int level, int size, byte[] buf, int off, int version, LinkedList<Ctrl> paras) throws HwpParseException {
+    public static int fillCharShape(int tagNum, int level, int size, byte[] buf, int off, int version, List<Ctrl> paras) throws HwpParseException {
         
         List<CharShape> charShapeList = parse(tagNum, level, size, buf, off, version);
 
@@ -83,7 +86,7 @@ public class CharShape {
                     Optional<ParaText> paraTextOp = 
                             paras.stream().filter(p -> (p instanceof ParaText))
                                           .map(p -> (ParaText)p)
-                                          .filter(t -> t.startIdx <= shape.start && shape.start < t.startIdx+t.text.length())
+                                          .filter(t -> t.startIdx <= shape.start && shape.start < t.startIdx+t.length())
                                           .reduce((a, b) -> b);
                     if (paraTextOp.isPresent()) {
                         ParaText t = paraTextOp.get();
@@ -92,11 +95,7 @@ public class CharShape {
                         } else {    // paraText.startIdx < shape.start
                             // split
                             int lenToSplit = shape.start - t.startIdx;
-                            String splitLeftText = t.text.substring(0, lenToSplit);
-                            String splitRightText = t.text.substring(lenToSplit);
-                            t.text = splitLeftText;
-                            
-                            ParaText newParaText = new ParaText("____", splitRightText, shape.start, shape.charShapeID);
+                            ParaText newParaText = t.split(lenToSplit, shape.charShapeID);
                             int index = paras.indexOf(t);
                             paras.add(index+1, newParaText);
                         }
@@ -30,14 +30,20 @@ import HwpDoc.Exception.NotImplementedException;
 public abstract class Ctrl {
     private static final Logger log = Logger.getLogger(Ctrl.class.getName());
 
-    public String ctrlId;
+    public String ctrlId;          // 보여주기 위한 문자열. 비교는 ctrlIdNum 으로 한다.
+    public int ctrlIdNum;          // CtrlId 의 값
     public boolean fullfilled;     // 파싱이 완료되었는지를 나타냄
 
     public Ctrl() {
     }
 
     public Ctrl(String ctrlId) {
+        setCtrlId(ctrlId);
+    }
+    
+    public void setCtrlId(String ctrlId) {
         this.ctrlId = ctrlId;
+        this.ctrlIdNum = CtrlId.of(ctrlId);
     }
     
     public abstract int getSize();
@@ -0,0 +1,118 @@
+/* Copyright (C) 2023 ebandal
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>
+ */
+/* 본 제품은 한글과컴퓨터의 ᄒᆞᆫ글 문서 파일(.hwp) 공개 문서를 참고하여 개발하였습니다.
+ * 개방형 워드프로세서 마크업 언어(OWPML) 문서 구조 KS X 6101:2018 문서를 참고하였습니다.
+ * 작성자 : 반희수 ebandal@gmail.com  
+ * 작성일 : 2022.10
+ */
+package HwpDoc.paragraph;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * control ID 4 글자를 int 하나로 묶은 값. 파일에 저장된 4 bytes 를 little endian int 로 읽은 값과 같고,
+ * 한글 문서의 MAKE_4CHID('t','b','l',' ') 와도 같다. Ctrl.ctrlId 문자열은 파일 순서(" lbt")로 보여주기 위해서만 남긴다.
+ */
+public final class CtrlId {
+    public static final int TEXT                        = ('_'<<24)|('_'<<16)|('_'<<8)|'_';    // "____" ParaText (파일에는 없음)
+    public static final int CHAR                        = ('_'<<24)|(' '<<16)|(' '<<8)|' ';    // "   _" Ctrl_Character (파일에는 없음)
+    public static final int SECTION_DEF                 = ('s'<<24)|('e'<<16)|('c'<<8)|'d';    // "dces" 구역 정의
+    public static final int COLUMN_DEF                  = ('c'<<24)|('o'<<16)|('l'<<8)|'d';    // "dloc" 단 정의
+    public static final int HEADER                      = ('h'<<24)|('e'<<16)|('a'<<8)|'d';    // "daeh" 머리말
+    public static final int FOOTER                      = ('f'<<24)|('o'<<16)|('o'<<8)|'t';    // "toof" 꼬리말
+    public static final int FOOTNOTE                    = ('f'<<24)|('n'<<16)|(' '<<8)|' ';    // "  nf" 각주
+    public static final int ENDNOTE                     = ('e'<<24)|('n'<<16)|(' '<<8)|' ';    // "  ne" 미주
+    public static final int TABLE                       = ('t'<<24)|('b'<<16)|('l'<<8)|' ';    // " lbt" 표
+    public static final int AUTO_NUMBER                 = ('a'<<24)|('t'<<16)|('n'<<8)|'o';    // "onta" 자동 번호
+    public static final int NEW_NUMBER                  = ('n'<<24)|('w'<<16)|('n'<<8)|'o';    // "onwn" 새 번호 지정
+    public static final int PAGE_HIDE                   = ('p'<<24)|('g'<<16)|('h'<<8)|'d';    // "dhgp" 감추기
+    public static final int PAGE_NUM_POS                = ('p'<<24)|('g'<<16)|('n'<<8)|'p';    // "pngp" 쪽 번호 위치
+    public static final int PAGE_NUM_CTRL               = ('p'<<24)|('g'<<16)|('c'<<8)|'t';    // "tcgp" 홀/짝수 조정
+    public static final int INDEX_MARK                  = ('i'<<24)|('d'<<16)|('x'<<8)|'m';    // "mxdi" 찾아보기 표식
+    public static final int BOOKMARK                    = ('b'<<24)|('o'<<16)|('k'<<8)|'m';    // "mkob" 책갈피
+    public static final int OVERLAP_CHAR                = ('t'<<24)|('c'<<16)|('p'<<8)|'s';    // "spct" 글자 겹침
+    public static final int DUTMAL                      = ('t'<<24)|('d'<<16)|('u'<<8)|'t';    // "tudt" 덧말
+    public static final int HIDDEN_COMMENT              = ('t'<<24)|('c'<<16)|('m'<<8)|'t';    // "tmct" 숨은 설명
+    public static final int GEN_SHAPE                   = ('g'<<24)|('s'<<16)|('o'<<8)|' ';    // " osg" 그리기 개체
+    public static final int EQEDIT                      = ('e'<<24)|('q'<<16)|('e'<<8)|'d';    // "deqe" 한글97 수식
+    public static final int FORM                        = ('f'<<24)|('o'<<16)|('r'<<8)|'m';    // "mrof" 양식 개체
+    public static final int SHAPE_LINE                  = ('$'<<24)|('l'<<16)|('i'<<8)|'n';    // "nil$" 선
+    public static final int SHAPE_CONNECT_LINE          = ('$'<<24)|('c'<<16)|('o'<<8)|'l';    // "loc$" 개체 연결선
+    public static final int SHAPE_RECT                  = ('$'<<24)|('r'<<16)|('e'<<8)|'c';    // "cer$" 사각형
+    public static final int SHAPE_ELLIPSE               = ('$'<<24)|('e'<<16)|('l'<<8)|'l';    // "lle$" 타원
+    public static final int SHAPE_ARC                   = ('$'<<24)|('a'<<16)|('r'<<8)|'c';    // "cra$" 호
+    public static final int SHAPE_POLYGON               = ('$'<<24)|('p'<<16)|('o'<<8)|'l';    // "lop$" 다각형
+    public static final int SHAPE_CURVE                 = ('$'<<24)|('c'<<16)|('u'<<8)|'r';    // "ruc$" 곡선
+    public static final int SHAPE_PICTURE               = ('$'<<24)|('p'<<16)|('i'<<8)|'c';    // "cip$" 그림
+    public static final int SHAPE_OLE                   = ('$'<<24)|('o'<<16)|('l'<<8)|'e';    // "elo$" OLE
+    public static final int SHAPE_CONTAINER             = ('$'<<24)|('c'<<16)|('o'<<8)|'n';    // "noc$" 묶음 개체
+    public static final int SHAPE_VIDEO                 = ('$'<<24)|('v'<<16)|('i'<<8)|'d';    // "div$" 비디오
+    public static final int SHAPE_TEXTART               = ('$'<<24)|('t'<<16)|('a'<<8)|'t';    // "tat$" 글맵시
+    public static final int FIELD_UNKNOWN               = ('%'<<24)|('u'<<16)|('n'<<8)|'k';    // "knu%"
+    public static final int FIELD_DATE                  = ('%'<<24)|('d'<<16)|('t'<<8)|'e';    // "etd%"
+    public static final int FIELD_DOCDATE               = ('%'<<24)|('d'<<16)|('d'<<8)|'t';    // "tdd%"
+    public static final int FIELD_PATH                  = ('%'<<24)|('p'<<16)|('a'<<8)|'t';    // "tap%"
+    public static final int FIELD_BOOKMARK              = ('%'<<24)|('b'<<16)|('m'<<8)|'k';    // "kmb%"
+    public static final int FIELD_MAILMERGE             = ('%'<<24)|('m'<<16)|('m'<<8)|'g';    // "gmm%"
+    public static final int FIELD_CROSSREF              = ('%'<<24)|('x'<<16)|('r'<<8)|'f';    // "frx%"
+    public static final int FIELD_FORMULA               = ('%'<<24)|('f'<<16)|('m'<<8)|'u';    // "umf%"
+    public static final int FIELD_CLICKHERE             = ('%'<<24)|('c'<<16)|('l'<<8)|'k';    // "klc%"
+    public static final int FIELD_SUMMARY               = ('%'<<24)|('s'<<16)|('m'<<8)|'r';    // "rms%"
+    public static final int FIELD_USERINFO              = ('%'<<24)|('u'<<16)|('s'<<8)|'r';    // "rsu%"
+    public static final int FIELD_HYPERLINK             = ('%'<<24)|('h'<<16)|('l'<<8)|'k';    // "klh%"
+    public static final int FIELD_REVISION_SIGN         = ('%'<<24)|('s'<<16)|('i'<<8)|'g';    // "gis%"
+    public static final int FIELD_REVISION_DELETE       = ('%'<<24)|('%'<<16)|('*'<<8)|'d';    // "d*%%"
+    public static final int FIELD_REVISION_ATTACH       = ('%'<<24)|('%'<<16)|('*'<<8)|'a';    // "a*%%"
+    public static final int FIELD_REVISION_CLIPPING     = ('%'<<24)|('%'<<16)|('*'<<8)|'C';    // "C*%%"
+    public static final int FIELD_REVISION_SAWTOOTH     = ('%'<<24)|('%'<<16)|('*'<<8)|'S';    // "S*%%"
+    public static final int FIELD_REVISION_THINKING     = ('%'<<24)|('%'<<16)|('*'<<8)|'T';    // "T*%%"
+    public static final int FIELD_REVISION_PRAISE       = ('%'<<24)|('%'<<16)|('*'<<8)|'P';    // "P*%%"
+    public static final int FIELD_REVISION_LINE         = ('%'<<24)|('%'<<16)|('*'<<8)|'L';    // "L*%%"
+    public static final int FIELD_REVISION_SIMPLECHANGE = ('%'<<24)|('%'<<16)|('*'<<8)|'c';    // "c*%%"
+    public static final int FIELD_REVISION_HYPERLINK    = ('%'<<24)|('%'<<16)|('*'<<8)|'h';    // "h*%%"
+    public static final int FIELD_REVISION_LINEATTACH   = ('%'<<24)|('%'<<16)|('*'<<8)|'A';    // "A*%%"
+    public static final int FIELD_REVISION_LINELINK     = ('%'<<24)|('%'<<16)|('*'<<8)|'i';    // "i*%%"
+    public static final int FIELD_REVISION_LINETRANSFER = ('%'<<24)|('%'<<16)|('*'<<8)|'t';    // "t*%%"
+    public static final int FIELD_REVISION_RIGHTMOVE    = ('%'<<24)|('%'<<16)|('*'<<8)|'r';    // "r*%%"
+    public static final int FIELD_REVISION_LEFTMOVE     = ('%'<<24)|('%'<<16)|('*'<<8)|'l';    // "l*%%"
+    public static final int FIELD_REVISION_TRANSFER     = ('%'<<24)|('%'<<16)|('*'<<8)|'n';    // "n*%%"
+    public static final int FIELD_REVISION_SIMPLEINSERT = ('%'<<24)|('%'<<16)|('*'<<8)|'e';    // "e*%%"
+    public static final int FIELD_REVISION_SPLIT        = ('%'<<24)|('s'<<16)|('p'<<8)|'l';    // "lps%"
+    public static final int FIELD_REVISION_CHANGE       = ('%'<<24)|('%'<<16)|('m'<<8)|'r';    // "rm%%"
+    public static final int FIELD_MEMO                  = ('%'<<24)|('%'<<16)|('m'<<8)|'e';    // "em%%"
+    public static final int FIELD_PRIVATE_INFO_SECURITY = ('%'<<24)|('c'<<16)|('p'<<8)|'r';    // "rpc%"
+    public static final int FIELD_TABLEOFCONTENT        = ('%'<<24)|('t'<<16)|('o'<<8)|'c';    // "cot%"
+    
+    private CtrlId() {
+    }
+    
+    // 파일 순서의 문자열(" lbt") 을 묶는다. null 이면 0.
+    public static int of(String ctrlId) {
+        if (ctrlId == null) {
+            return 0;
+        }
+        int id = 0;
+        for (int i=Math.min(ctrlId.length(), 4)-1; i>=0; i--) {
+            id = (id<<8) | (ctrlId.charAt(i)&0xFF);
+        }
+        return id;
+    }
+    
+    public static String toString(int id) {
+        byte[] b = { (byte)id, (byte)(id>>>8), (byte)(id>>>16), (byte)(id>>>24) };
+        return new String(b, StandardCharsets.US_ASCII);
+    }
+}
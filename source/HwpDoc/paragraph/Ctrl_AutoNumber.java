@@ -28,7 +28,9 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.HwpRecordTypes;
 import HwpDoc.HwpElement.HwpRecordTypes.NumberShape2;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_AutoNumber extends Ctrl {
 	private static final Logger log = Logger.getLogger(Ctrl_AutoNumber.class.getName());
@@ -47,13 +49,15 @@ public class Ctrl_AutoNumber extends Ctrl {
 
 		int offset = off;
 
-		int attr 	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		int attr 	= RecordCursor.getInt(buf, offset);
 		offset += 4;
 		numType 	= NumType.from(attr&0xF);
 		numShape	= NumberShape2.from(attr>>4&0xFF);
 		superscript = (attr>>12&0x1)==0x1?true:false;
 		
-		log.fine("                                                  " + toString());
+		if (log.isLoggable(Level.FINE)) {
+			log.fine("                                                  " + toString());
+		}
 		this.size = offset-off;
 		this.fullfilled = true;
 	}
@@ -175,12 +179,9 @@ public class Ctrl_AutoNumber extends Ctrl {
 	    private NumType(int num) { 
 	    	this.num = num;
 	    }
+	    private static final HwpRecordTypes.Lookup<NumType> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
 	    public static NumType from(int num) {
-	    	for (NumType type: values()) {
-	    		if (type.num == num)
-	    			return type;
-	    	}
-	    	return null;
+	    	return table.get(num, null);
 	    }
 	}
 }
@@ -21,8 +21,11 @@
 package HwpDoc.paragraph;
 
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import HwpDoc.HwpElement.RecordCursor;
+
 public class Ctrl_Click extends Ctrl {
 	private static final Logger log = Logger.getLogger(Ctrl_Click.class.getName());
 	private int size;
@@ -34,7 +37,7 @@ public class Ctrl_Click extends Ctrl {
 		
 		offset += 4;
 		offset += 1;
-		short len 	= (short) ((buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2);
+		short len 	= (short) (RecordCursor.getUShort(buf, offset)*2);
 		offset += 2;
 		
 		if (len > 0) {
@@ -47,7 +50,9 @@ public class Ctrl_Click extends Ctrl {
 		
 		this.size = offset-off;
 
-		log.fine("                                                  " + toString());
+		if (log.isLoggable(Level.FINE)) {
+			log.fine("                                                  " + toString());
+		}
 	}
 	
 	public String toString() {
@@ -29,6 +29,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.NotImplementedException;
 import HwpDoc.HwpElement.HwpRecordTypes.LineStyle2;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_ColumnDef extends Ctrl {
 	private static final Logger log = Logger.getLogger(Ctrl_ColumnDef.class.getName());
@@ -54,10 +55,10 @@ public class Ctrl_ColumnDef extends Ctrl {
 		
 		int offset = off;
 		// 속성의 bit 0-15(표 139참조)
-		short attrLowBits	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		short attrLowBits	= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		// 단 사이 간격
-		sameGap				= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		sameGap				= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		
 		colCount          	= (short) (attrLowBits>>2 & 0xFF);
@@ -67,27 +68,29 @@ public class Ctrl_ColumnDef extends Ctrl {
 		    colSzWidths = new short[colCount];
 		    colSzGaps = new short[colCount-1];
 			for(int i=0;i<colCount;i++) {
-			    colSzWidths[i]		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+			    colSzWidths[i]		= RecordCursor.getShort(buf, offset);
 				offset += 2;
 				if (i<colCount-1) {
-				    colSzGaps[i]   = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+				    colSzGaps[i]   = RecordCursor.getShort(buf, offset);
 	                offset += 2;
 				}
 			}
 		}
 		// 속성의 bit 16-32(표 139 참조)
-		short attrHighBits	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		short attrHighBits	= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		// 단 구분선 종류(테두리/배경이 테두리 선 종류 참조)
 		colLineStyle		= LineStyle2.from(buf[offset++]);
 		// 단 구분선 굵기(테두리/배경이 테두리 선 굵기 참조)
 		colLineWidth		= buf[offset++];
 		// 단 구분선 굵기(테두리/배경이 테두리 선 굵기 참조)
-        colLineColor        = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        colLineColor        = RecordCursor.getColor(buf, offset);
 		offset += 4;
 		attr 				= attrHighBits<<16 | attrLowBits;
 		
-		log.fine("                                                  " + toString());
+		if (log.isLoggable(Level.FINE)) {
+			log.fine("                                                  " + toString());
+		}
 
 		this.size = offset-off;
 		this.fullfilled = true;
@@ -32,6 +32,8 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.HwpRecordTypes;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_Common extends Ctrl {
     private static final Logger log = Logger.getLogger(Ctrl_Common.class.getName());
@@ -86,7 +88,7 @@ public class Ctrl_Common extends Ctrl {
         offset = off;
         this.ctrlId = ctrlId;
         
-        objAttr	        = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        objAttr	        = RecordCursor.getInt(buf, offset);
         offset += 4;
         treatAsChar     = (objAttr&0x01)==0x01?true:false;
         affectLSpacing  = (objAttr&0x04)==0x04?true:false;
@@ -102,27 +104,27 @@ public class Ctrl_Common extends Ctrl {
         textFlow        = (byte) (objAttr>>24&0x03);
         numberingType   = (byte) (objAttr>>26&0x07);
         
-        vertOffset      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        vertOffset      = RecordCursor.getInt(buf, offset);
         offset += 4;
-        horzOffset      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        horzOffset      = RecordCursor.getInt(buf, offset);
         offset += 4;
-        width           = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        width           = RecordCursor.getInt(buf, offset);
         offset += 4;
-        height          = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        height          = RecordCursor.getInt(buf, offset);
         offset += 4;
-        zOrder          = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        zOrder          = RecordCursor.getInt(buf, offset);
         offset += 4;
         outMargin = new short[4];
         for (int i=0;i<4;i++) {
-            outMargin[i]    = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            outMargin[i]    = RecordCursor.getShort(buf, offset);
             offset += 2;
         }
-        objInstanceID   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        objInstanceID   = RecordCursor.getInt(buf, offset);
         offset += 4;
-        blockPageBreak  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        blockPageBreak  = RecordCursor.getInt(buf, offset);
         offset += 4;
         if (offset-off < size) {
-            int descLen = (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2;
+            int descLen = RecordCursor.getUShort(buf, offset)*2;
             offset += 2;
             if (descLen > 0) {
                 objDesc = new String(buf, offset, descLen, StandardCharsets.UTF_16LE);
@@ -130,7 +132,9 @@ public class Ctrl_Common extends Ctrl {
             }
         }
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
         
         this.size = offset-off;
     }
@@ -434,8 +438,8 @@ public class Ctrl_Common extends Ctrl {
                 }
                 break;
             default:
-                log.fine(child.getNodeName() + " : " + child.getNodeValue());
                 if (log.isLoggable(Level.FINE)) {
+                    log.fine(child.getNodeName() + " : " + child.getNodeValue());
                     throw new NotImplementedException("setCaption");
                 }
                 break;
@@ -447,22 +451,24 @@ public class Ctrl_Common extends Ctrl {
         int offset = off;
         boolean  unknownCtrlID = false;
         
-        String ctrlId = new String(buf, offset, 4, StandardCharsets.US_ASCII);
-        switch(ctrlId) {
-        case "nil$":    // 선
-        case "loc$":    // 연결선
-        case "cer$":    // 사각형
-        case "lle$":    // 타원
-        case "cra$":    // 호
-        case "lop$":    // 다각형
-        case "ruc$":    // 곡선
-        case "deqe":    // 한글97 수식
-        case "cip$":    // 그림
-        case "elo$":    // OLE
-        case "noc$":    // 묶음 개체
-        case "div$":    // 비디오
-        case "tat$":    // 글맵시
-            log.finer("[개체 공통 속성]을 더 읽지 않습니다. [개체 공통 속성] 영역에서  CtrlID="+ctrlId+" 가 나왔습니다.");
+        int ctrlIdNum = RecordCursor.getInt(buf, offset);
+        switch(ctrlIdNum) {
+        case CtrlId.SHAPE_LINE:    // 선
+        case CtrlId.SHAPE_CONNECT_LINE:    // 연결선
+        case CtrlId.SHAPE_RECT:    // 사각형
+        case CtrlId.SHAPE_ELLIPSE:    // 타원
+        case CtrlId.SHAPE_ARC:    // 호
+        case CtrlId.SHAPE_POLYGON:    // 다각형
+        case CtrlId.SHAPE_CURVE:    // 곡선
+        case CtrlId.EQEDIT:    // 한글97 수식
+        case CtrlId.SHAPE_PICTURE:    // 그림
+        case CtrlId.SHAPE_OLE:    // OLE
+        case CtrlId.SHAPE_CONTAINER:    // 묶음 개체
+        case CtrlId.SHAPE_VIDEO:    // 비디오
+        case CtrlId.SHAPE_TEXTART:    // 글맵시
+            if (log.isLoggable(Level.FINER)) {
+                log.finer("[개체 공통 속성]을 더 읽지 않습니다. [개체 공통 속성] 영역에서  CtrlID="+CtrlId.toString(ctrlIdNum)+" 가 나왔습니다.");
+            }
             return 4;
         default:
             unknownCtrlID = true;
@@ -475,28 +481,28 @@ public class Ctrl_Common extends Ctrl {
         }
         
         offset += 4;
-        obj.objAttr     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.objAttr     = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.vertOffset  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.vertOffset  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.horzOffset  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.horzOffset  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.width       = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.width       = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.height      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.height      = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.zOrder      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.zOrder      = RecordCursor.getInt(buf, offset);
         offset += 4;
         obj.outMargin = new short[4];
         for (int i=0;i<4;i++) {
-            obj.outMargin[i]    = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            obj.outMargin[i]    = RecordCursor.getShort(buf, offset);
             offset += 2;
         }
-        obj.objInstanceID   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.objInstanceID   = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.blockPageBreak  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.blockPageBreak  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        int descLen     = (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2;
+        int descLen     = RecordCursor.getUShort(buf, offset)*2;
         offset += 2;
         if (descLen > 0) {
             obj.objDesc = new String(buf, offset, descLen, StandardCharsets.UTF_16LE);
@@ -504,13 +510,13 @@ public class Ctrl_Common extends Ctrl {
         }
         
         if (offset-off < size) {
-            obj.captionAttr     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionAttr     = RecordCursor.getInt(buf, offset);
             offset += 4;
-            obj.captionWidth    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionWidth    = RecordCursor.getInt(buf, offset);
             offset += 4;
-            obj.captionSpacing  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionSpacing  = RecordCursor.getInt(buf, offset);
             offset += 4;
-            obj.captionMaxW     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionMaxW     = RecordCursor.getInt(buf, offset);
             offset += 4;
         }
         
@@ -520,13 +526,13 @@ public class Ctrl_Common extends Ctrl {
     public static int parseCaption(Ctrl_Common obj, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
 
-        obj.captionAttr     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.captionAttr     = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.captionWidth    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.captionWidth    = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.captionSpacing  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.captionSpacing  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.captionMaxW     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.captionMaxW     = RecordCursor.getInt(buf, offset);
         offset += 4;
         
         return offset-off;
@@ -563,12 +569,9 @@ public class Ctrl_Common extends Ctrl {
         private VRelTo(int num) { 
             this.num = num;
         }
+        private static final HwpRecordTypes.Lookup<VRelTo> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
         public static VRelTo from(int num) {
-            for (VRelTo type: values()) {
-                if (type.num == num)
-                    return type;
-            }
-            return null;
+            return table.get(num, null);
         }
     }
     
@@ -582,12 +585,9 @@ public class Ctrl_Common extends Ctrl {
         private HRelTo(int num) { 
             this.num = num;
         }
+        private static final HwpRecordTypes.Lookup<HRelTo> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
         public static HRelTo from(int num) {
-            for (HRelTo type: values()) {
-                if (type.num == num)
-                    return type;
-            }
-            return null;
+            return table.get(num, null);
         }
     }
     
@@ -602,12 +602,9 @@ public class Ctrl_Common extends Ctrl {
         private WidthRelTo(int num) { 
             this.num = num;
         }
+        private static final HwpRecordTypes.Lookup<WidthRelTo> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
         public static WidthRelTo from(int num) {
-            for (WidthRelTo type: values()) {
-                if (type.num == num)
-                    return type;
-            }
-            return null;
+            return table.get(num, null);
         }
     }
     
@@ -620,12 +617,9 @@ public class Ctrl_Common extends Ctrl {
        private HeightRelTo(int num) { 
            this.num = num;
        }
+       private static final HwpRecordTypes.Lookup<HeightRelTo> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
        public static HeightRelTo from(int num) {
-           for (HeightRelTo type: values()) {
-               if (type.num == num)
-                   return type;
-           }
-           return null;
+           return table.get(num, null);
        }
     }
     
@@ -640,12 +634,9 @@ public class Ctrl_Common extends Ctrl {
        private VertAlign(int num) { 
            this.num = num;
        }
+       private static final HwpRecordTypes.Lookup<VertAlign> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
        public static VertAlign from(int num) {
-           for (VertAlign type: values()) {
-               if (type.num == num)
-                   return type;
-           }
-           return TOP;
+           return table.get(num, TOP);
        }
     }
     
@@ -660,12 +651,9 @@ public class Ctrl_Common extends Ctrl {
         private HorzAlign(int num) { 
             this.num = num;
         }
+        private static final HwpRecordTypes.Lookup<HorzAlign> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
         public static HorzAlign from(int num) {
-            for (HorzAlign type: values()) {
-                if (type.num == num)
-                    return type;
-            }
-            return LEFT;
+            return table.get(num, LEFT);
         }
     }
     
@@ -679,12 +667,9 @@ public class Ctrl_Common extends Ctrl {
        private TextWrap(int num) { 
            this.num = num;
        }
+       private static final HwpRecordTypes.Lookup<TextWrap> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
        public static TextWrap from(int num) {
-           for (TextWrap type: values()) {
-               if (type.num == num)
-                   return type;
-           }
-           return SQUARE;
+           return table.get(num, SQUARE);
        }
     }
 }
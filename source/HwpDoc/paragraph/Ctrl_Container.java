@@ -31,6 +31,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_Container extends Ctrl_GeneralShape {
     private static final Logger log = Logger.getLogger(Ctrl_Container.class.getName());
@@ -120,7 +121,7 @@ public class Ctrl_Container extends Ctrl_GeneralShape {
     public static int parseElement(Ctrl_Container obj, int size, byte[] buf, int off, int version) throws HwpParseException, NotImplementedException {
         int offset = off;
         
-        obj.nElement        = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.nElement        = RecordCursor.getShort(buf, offset);
         offset += 2;
         if (obj.nElement>0) {
             if (obj.ctrlIdList==null) 
@@ -136,64 +137,65 @@ public class Ctrl_Container extends Ctrl_GeneralShape {
         for (int i=0;i<obj.nElement;i++) {
             
             String ctrlId = new String(buf, offset, 4, StandardCharsets.US_ASCII);
+            int ctrlIdNum = RecordCursor.getInt(buf, offset);
             offset += 4;
             Ctrl_GeneralShape chldObj = null;
             
-            // ctrlId를 거꾸로 읽어 비교한다.
-            switch(ctrlId) {
-            case "cip$":    // 그림
+            // ctrlId를 int 로 묶어 비교한다.
+            switch(ctrlIdNum) {
+            case CtrlId.SHAPE_PICTURE:    // 그림
                 chldObj = new Ctrl_ShapePic(ctrlId, size-(offset-off), buf, offset, version);
                 offset += chldObj.getSize();
                 offset += Ctrl_ShapePic.parseCtrl((Ctrl_ShapePic)chldObj, size, buf, offset, version);
-                chldObj.ctrlId = ctrlId;
+                chldObj.setCtrlId(ctrlId);
                 break;
-            case "cer$":    // 사각형
+            case CtrlId.SHAPE_RECT:    // 사각형
                 chldObj = new Ctrl_ShapeRect(ctrlId, size-(offset-off), buf, offset, version);
                 offset += chldObj.getSize();
                 offset += Ctrl_ShapeRect.parseCtrl((Ctrl_ShapeRect)chldObj, size, buf, offset, version);
-                chldObj.ctrlId = ctrlId;
+                chldObj.setCtrlId(ctrlId);
                 break;
-            case "nil$":    // 선
+            case CtrlId.SHAPE_LINE:    // 선
                 chldObj = new Ctrl_ShapeLine(ctrlId, size-(offset-off), buf, offset, version);
                 offset += chldObj.getSize();
                 offset += Ctrl_ShapeLine.parseCtrl((Ctrl_ShapeLine)chldObj, size, buf, offset, version);
-                chldObj.ctrlId = ctrlId;
+                chldObj.setCtrlId(ctrlId);
                 break;
-            case "noc$":    // 묶음 개체
+            case CtrlId.SHAPE_CONTAINER:    // 묶음 개체
                 chldObj = new Ctrl_Container(ctrlId, size-(offset-off), buf, offset, version);
                 offset += chldObj.getSize();
                 offset += Ctrl_Container.parseCtrl((Ctrl_Container)chldObj, size, buf, offset, version);
-                chldObj.ctrlId = ctrlId;
+                chldObj.setCtrlId(ctrlId);
                 break;
-            case "lle$":    // 타원
+            case CtrlId.SHAPE_ELLIPSE:    // 타원
                 chldObj = new Ctrl_ShapeEllipse(ctrlId, size-(offset-off), buf, offset, version);
                 offset += chldObj.getSize();
                 offset += Ctrl_ShapeEllipse.parseCtrl((Ctrl_ShapeEllipse)chldObj, size, buf, offset, version);
-                chldObj.ctrlId = ctrlId;
+                chldObj.setCtrlId(ctrlId);
                 break;
-            case "lop$":    // 다각형
+            case CtrlId.SHAPE_POLYGON:    // 다각형
                 chldObj = new Ctrl_ShapePolygon(ctrlId, size-(offset-off), buf, offset, version);
                 offset += chldObj.getSize();
                 offset += Ctrl_ShapePolygon.parseCtrl((Ctrl_ShapePolygon)chldObj,  size, buf, offset, version);
-                chldObj.ctrlId = ctrlId;
+                chldObj.setCtrlId(ctrlId);
                 break;
-            case "cra$":    // 호
+            case CtrlId.SHAPE_ARC:    // 호
                 chldObj = new Ctrl_ShapeArc(ctrlId, size-(offset-off), buf, offset, version);
                 offset += chldObj.getSize();
                 offset += Ctrl_ShapeArc.parseCtrl((Ctrl_ShapeArc)chldObj, size, buf, offset, version);
-                chldObj.ctrlId = ctrlId;
+                chldObj.setCtrlId(ctrlId);
                 break;
-            case "ruc$":    // 곡선
+            case CtrlId.SHAPE_CURVE:    // 곡선
                 chldObj = new Ctrl_ShapeCurve(ctrlId, size-(offset-off), buf, offset, version);
                 offset += chldObj.getSize();
                 offset += Ctrl_ShapeCurve.parseCtrl((Ctrl_ShapeCurve)chldObj, size, buf, offset, version);
-                chldObj.ctrlId = ctrlId;
+                chldObj.setCtrlId(ctrlId);
                 break;
-            case "elo$":    // OLE
+            case CtrlId.SHAPE_OLE:    // OLE
                 chldObj = new Ctrl_ShapeOle(ctrlId, size-(offset-off), buf, offset, version);
                 offset += chldObj.getSize();
                 offset += Ctrl_ShapeOle.parseCtrl((Ctrl_ShapeOle)chldObj, size, buf, offset, version);
-                chldObj.ctrlId = ctrlId;
+                chldObj.setCtrlId(ctrlId);
                 break;
             default:
                 log.severe("Neither known ctrlID=" + ctrlId+" nor implemented.");
@@ -214,7 +216,7 @@ public class Ctrl_Container extends Ctrl_GeneralShape {
         // 문서에는 나와있지 않으나, 개체요소속성 (표 83)이 포함된다.
         offset += Ctrl_ObjElement.parseCtrl((Ctrl_ObjElement)obj, size, buf, offset, version);;
         
-        obj.nElement        = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.nElement        = RecordCursor.getShort(buf, offset);
         offset += 2;
         if (obj.nElement>0) {
             if (obj.ctrlIdList==null) 
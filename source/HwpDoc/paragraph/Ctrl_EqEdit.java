@@ -30,6 +30,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_EqEdit extends Ctrl_GeneralShape {
     private static final Logger log = Logger.getLogger(Ctrl_EqEdit.class.getName());
@@ -52,7 +53,9 @@ public class Ctrl_EqEdit extends Ctrl_GeneralShape {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_EqEdit(Ctrl_GeneralShape shape) {
@@ -118,20 +121,20 @@ public class Ctrl_EqEdit extends Ctrl_GeneralShape {
     public static int parseElement(Ctrl_EqEdit obj, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         
-        obj.attr        = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.attr        = RecordCursor.getInt(buf, offset);
         offset += 4;
-        short len       = (short) ((buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2);
+        short len       = (short) (RecordCursor.getUShort(buf, offset)*2);
         offset += 2;
         obj.eqn         = new String(buf, offset, len, StandardCharsets.UTF_16LE);
         offset += len;
-        obj.charSize    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.charSize    = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.color       = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        obj.color       = RecordCursor.getColor(buf, offset);
         offset += 4;
-        obj.baseline    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.baseline    = RecordCursor.getInt(buf, offset);
         offset += 4;
         if (size-(offset-off) > 0) {
-            len             = (short) ((buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2);
+            len             = (short) (RecordCursor.getUShort(buf, offset)*2);
             offset += 2;
         }
         if (size-(offset-off) > 0) {
@@ -139,7 +142,7 @@ public class Ctrl_EqEdit extends Ctrl_GeneralShape {
             offset += len;
         }
         if (offset-off+2 <= size) { // 5.0.33 버전에서는 이 부분 없음
-            len             = (short) ((buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2);
+            len             = (short) (RecordCursor.getUShort(buf, offset)*2);
             offset += 2;
             if (offset-off+len <= size) {
                 obj.font        = new String(buf, offset, len, StandardCharsets.UTF_16LE);
@@ -169,13 +172,13 @@ public class Ctrl_EqEdit extends Ctrl_GeneralShape {
         int offset = off;
         if (size==24) {
             offset += 2;
-            obj.captionAttr     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionAttr     = RecordCursor.getInt(buf, offset);
             offset += 4;
-            obj.captionWidth    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionWidth    = RecordCursor.getInt(buf, offset);
             offset += 4;
-            obj.captionSpacing  = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            obj.captionSpacing  = RecordCursor.getShort(buf, offset);
             offset += 2;
-            obj.captionMaxW     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionMaxW     = RecordCursor.getInt(buf, offset);
             offset += 4;
             offset += 8;
         }
@@ -22,7 +22,6 @@ package HwpDoc.paragraph;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -37,6 +36,7 @@ import HwpDoc.HwpElement.HwpRecordTypes.LineArrowStyle;
 import HwpDoc.HwpElement.HwpRecordTypes.LineStyle2;
 import HwpDoc.HwpElement.HwpRecord_BorderFill;
 import HwpDoc.HwpElement.HwpRecord_BorderFill.Fill;
+import HwpDoc.HwpElement.RecordCursor;
 import HwpDoc.paragraph.Ctrl_Character.CtrlCharType;
 
 public class Ctrl_GeneralShape extends Ctrl_ObjElement {
@@ -78,7 +78,9 @@ public class Ctrl_GeneralShape extends Ctrl_ObjElement {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_GeneralShape(Ctrl_GeneralShape shape) {
@@ -399,7 +401,7 @@ public class Ctrl_GeneralShape extends Ctrl_ObjElement {
             case "hp:p":
                 HwpParagraph p = new HwpParagraph(child, version);
                 paras.add(p);
-                latestCtrl = (p.p==null ? null : p.p.getLast());
+                latestCtrl = (p.p==null ? null : p.p.get(p.p.size()-1));
                 break;
             }
         
@@ -409,7 +411,7 @@ public class Ctrl_GeneralShape extends Ctrl_ObjElement {
                 if (breakP.p != null) {
                     breakP.p.clear();
                 } else {
-                    breakP.p = new LinkedList<Ctrl>();
+                    breakP.p = new ArrayList<Ctrl>();
                 }
                 breakP.p.add(new Ctrl_Character("   _", CtrlCharType.PARAGRAPH_BREAK));
                 paras.add(breakP);
@@ -422,71 +424,74 @@ public class Ctrl_GeneralShape extends Ctrl_ObjElement {
         
         // hwp포맷에는  역순으로 ctrlId를 구성한다. 여기서는 순방향으로 구성한다.
         String ctrlId = new String(buf, offset, 4, StandardCharsets.US_ASCII);
+        int ctrlIdNum = RecordCursor.getInt(buf, offset);
         offset += 4;
         Ctrl_GeneralShape shape = null;
         
-        log.fine("                                                  ctrlID="+ctrlId);
-        // ctrlId를 거꾸로 읽어 비교한다.
-        switch(ctrlId) {
-        case "cip$":    // 그림       ShapePic obj = new ShapePic(shape);
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  ctrlID="+ctrlId);
+        }
+        // ctrlId를 int 로 묶어 비교한다.
+        switch(ctrlIdNum) {
+        case CtrlId.SHAPE_PICTURE:    // 그림       ShapePic obj = new ShapePic(shape);
             shape = new Ctrl_ShapePic(obj);
             offset += Ctrl_ShapePic.parseCtrl((Ctrl_ShapePic)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
+            shape.setCtrlId(ctrlId);
             break;
-        case "cer$":    // 사각형
+        case CtrlId.SHAPE_RECT:    // 사각형
             shape = new Ctrl_ShapeRect(obj);
             offset += Ctrl_ShapeRect.parseCtrl((Ctrl_ShapeRect)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
+            shape.setCtrlId(ctrlId);
             break;
-        case "nil$":    // 선
-        case "loc$":    // 개체연결선
+        case CtrlId.SHAPE_LINE:    // 선
+        case CtrlId.SHAPE_CONNECT_LINE:    // 개체연결선
             shape = new Ctrl_ShapeLine(obj);
             offset += Ctrl_ShapeLine.parseCtrl((Ctrl_ShapeLine)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
+            shape.setCtrlId(ctrlId);
             break;
-        case "noc$":    // 묶음 개체
+        case CtrlId.SHAPE_CONTAINER:    // 묶음 개체
             shape = new Ctrl_Container(obj);
             offset += Ctrl_Container.parseCtrl((Ctrl_Container)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
+            shape.setCtrlId(ctrlId);
             break;
-        case "lle$":    // 타원
+        case CtrlId.SHAPE_ELLIPSE:    // 타원
             shape = new Ctrl_ShapeEllipse(obj);
             offset += Ctrl_ShapeEllipse.parseCtrl((Ctrl_ShapeEllipse)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
+            shape.setCtrlId(ctrlId);
             break;
-        case "lop$":    // 다각형
+        case CtrlId.SHAPE_POLYGON:    // 다각형
             shape = new Ctrl_ShapePolygon(obj);
             offset += Ctrl_ShapePolygon.parseCtrl((Ctrl_ShapePolygon)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
+            shape.setCtrlId(ctrlId);
             break;
-        case "cra$":    // 호
+        case CtrlId.SHAPE_ARC:    // 호
             shape = new Ctrl_ShapeArc(obj);
             offset += Ctrl_ShapeArc.parseCtrl((Ctrl_ShapeArc)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
+            shape.setCtrlId(ctrlId);
             break;
-        case "ruc$":    // 곡선
+        case CtrlId.SHAPE_CURVE:    // 곡선
             shape = new Ctrl_ShapeCurve(obj);
             offset += Ctrl_ShapeCurve.parseCtrl((Ctrl_ShapeCurve)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
+            shape.setCtrlId(ctrlId);
             break;
-        case "deqe":    // 한글97 수식
+        case CtrlId.EQEDIT:    // 한글97 수식
             shape = new Ctrl_EqEdit(obj);
             offset += Ctrl_EqEdit.parseCtrl((Ctrl_EqEdit)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
-        case "elo$":    // OLE
+            shape.setCtrlId(ctrlId);
+        case CtrlId.SHAPE_OLE:    // OLE
             shape = new Ctrl_ShapeOle(obj);
             offset += Ctrl_ShapeOle.parseCtrl((Ctrl_ShapeOle)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
+            shape.setCtrlId(ctrlId);
             break;
-        case "div$":    // Video
+        case CtrlId.SHAPE_VIDEO:    // Video
             shape = new Ctrl_ShapeVideo(obj);
             offset += Ctrl_ShapeVideo.parseCtrl((Ctrl_ShapeVideo)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
+            shape.setCtrlId(ctrlId);
             break;
-        case "tat$":    // TextArt(글맵시)
+        case CtrlId.SHAPE_TEXTART:    // TextArt(글맵시)
             shape = new Ctrl_ShapeTextArt(obj);
             offset += Ctrl_ShapeTextArt.parseCtrl((Ctrl_ShapeTextArt)shape, size-(offset-off), buf, offset, version);
-            shape.ctrlId = ctrlId;
+            shape.setCtrlId(ctrlId);
             break;
         default:
             log.severe("Neither known ctrlID=" + ctrlId+" nor implemented.");
@@ -500,17 +505,46 @@ public class Ctrl_GeneralShape extends Ctrl_ObjElement {
         return shape;
     }
 
+    /*
+     * parse() 와 같은 종류의 개체를 만들지만 개체 요소 속성(크기, 회전, 행렬)은 읽지 않는다. ParseMode.TEXT_ONLY 에서 쓴다.
+     */
+    public static Ctrl_GeneralShape shapeOf(Ctrl_GeneralShape obj, byte[] buf, int off) {
+        String ctrlId = new String(buf, off, 4, StandardCharsets.US_ASCII);
+        Ctrl_GeneralShape shape = null;
+        
+        switch(RecordCursor.getInt(buf, off)) {
+        case CtrlId.SHAPE_PICTURE:          shape = new Ctrl_ShapePic(obj);         break;
+        case CtrlId.SHAPE_RECT:             shape = new Ctrl_ShapeRect(obj);        break;
+        case CtrlId.SHAPE_LINE:
+        case CtrlId.SHAPE_CONNECT_LINE:     shape = new Ctrl_ShapeLine(obj);        break;
+        case CtrlId.SHAPE_CONTAINER:        shape = new Ctrl_Container(obj);        break;
+        case CtrlId.SHAPE_ELLIPSE:          shape = new Ctrl_ShapeEllipse(obj);     break;
+        case CtrlId.SHAPE_POLYGON:          shape = new Ctrl_ShapePolygon(obj);     break;
+        case CtrlId.SHAPE_ARC:              shape = new Ctrl_ShapeArc(obj);         break;
+        case CtrlId.SHAPE_CURVE:            shape = new Ctrl_ShapeCurve(obj);       break;
+        case CtrlId.EQEDIT:                 shape = new Ctrl_EqEdit(obj);           break;
+        case CtrlId.SHAPE_OLE:              shape = new Ctrl_ShapeOle(obj);         break;
+        case CtrlId.SHAPE_VIDEO:            shape = new Ctrl_ShapeVideo(obj);       break;
+        case CtrlId.SHAPE_TEXTART:          shape = new Ctrl_ShapeTextArt(obj);     break;
+        default:
+            log.severe("Neither known ctrlID=" + ctrlId+" nor implemented.");
+            return null;
+        }
+        shape.setCtrlId(ctrlId);
+        return shape;
+    }
+
     public static int parseListHeaderAppend(Ctrl_GeneralShape obj, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         if (size>=16) {
             offset += 2;
-            obj.captionAttr     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionAttr     = RecordCursor.getInt(buf, offset);
             offset += 4;
-            obj.captionWidth    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionWidth    = RecordCursor.getInt(buf, offset);
             offset += 4;
-            obj.captionSpacing  = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            obj.captionSpacing  = RecordCursor.getShort(buf, offset);
             offset += 2;
-            obj.captionMaxW     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionMaxW     = RecordCursor.getInt(buf, offset);
             offset += 4;
         }
         if (size-(offset-off)==8) {
@@ -537,15 +571,15 @@ public class Ctrl_GeneralShape extends Ctrl_ObjElement {
         int len = Ctrl_ObjElement.parseCtrl((Ctrl_ObjElement)obj, size, buf, offset, version);
         offset += len;
         
-        obj.lineColor   = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        obj.lineColor   = RecordCursor.getColor(buf, offset);
         offset += 4;
-        obj.lineThick   = (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.lineThick   = RecordCursor.getUShort(buf, offset);
         offset += 2;
         
         // 문서와 다르게  선 굵기에서 4byte 후에 선 속성이 온다.
         offset += 2;
         
-        int lineAttr    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        int lineAttr    = RecordCursor.getInt(buf, offset);
         offset += 4;
         obj.lineStyle   = LineStyle2.from(lineAttr&0x3F);
         obj.lineHead	= LineArrowStyle.from((lineAttr>>10)&0x3F, ((lineAttr>>30)&0x1)==1);
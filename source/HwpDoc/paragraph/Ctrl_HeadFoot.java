@@ -31,6 +31,8 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.HwpRecordTypes;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_HeadFoot extends Ctrl {
     private static final Logger log = Logger.getLogger(Ctrl_HeadFoot.class.getName());
@@ -59,17 +61,19 @@ public class Ctrl_HeadFoot extends Ctrl {
         this.isHeader = isHeader;
         
         // 속성(표 141참조) (머리말이 적용 0:양쪽, 1:짝수쪽만, 2:홀수쪽만)
-        attr            = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        attr            = RecordCursor.getInt(buf, offset);
         offset += 4;
         whichPage       = PageRange.from(attr & 0x03);
         if (whichPage == null) {
         	whichPage = PageRange.BOTH;
         }
         
-        serialInSec     =  buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        serialInSec     =  RecordCursor.getInt(buf, offset);
         offset += 4;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
         
         this.size = offset-off;
     }
@@ -79,10 +83,10 @@ public class Ctrl_HeadFoot extends Ctrl {
         offset += 2;
         
         // 텍스트 영역의 폭  (1/7200inch로 계산하는가?)
-        obj.textWidth       = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.textWidth       = RecordCursor.getInt(buf, offset);
         offset += 4;
         // 텍스트 영역의 높이  (1/7200inch로 계산하는가?)
-        obj.textHeight      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.textHeight      = RecordCursor.getInt(buf, offset);
         offset += 4;
         // 각 비트가 해당 레벨의 텍스트에 대한 참조를 했는지 여부
         obj.refLevelText    = buf[offset++];
@@ -101,7 +105,7 @@ public class Ctrl_HeadFoot extends Ctrl {
     public Ctrl_HeadFoot(String ctrlId, Node node, int version) throws NotImplementedException {
         super(ctrlId);
         
-        if (ctrlId.equals("daeh")) {
+        if (ctrlIdNum==CtrlId.HEADER) {
             isHeader = true;
         } else {
             isHeader = false;
@@ -226,12 +230,9 @@ public class Ctrl_HeadFoot extends Ctrl {
             this.range = range;
         }
         
+        private static final HwpRecordTypes.Lookup<PageRange> table = new HwpRecordTypes.Lookup<>(values(), typeNum -> typeNum.range);
         public static PageRange from(int range) {
-            for (PageRange typeNum: values()) {
-                if (typeNum.range == range)
-                    return typeNum;
-            }
-            return null;
+            return table.get(range, null);
         }
     }
 }
@@ -29,6 +29,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.NotImplementedException;
 import HwpDoc.HwpElement.HwpRecordTypes.NumberShape2;
+import HwpDoc.HwpElement.RecordCursor;
 import HwpDoc.paragraph.Ctrl_AutoNumber.NumType;
 
 public class Ctrl_NewNumber extends Ctrl {
@@ -48,12 +49,14 @@ public class Ctrl_NewNumber extends Ctrl {
 		
 		int offset = off;
 
-		int attr 	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		int attr 	= RecordCursor.getInt(buf, offset);
 		numType 	= NumType.from(attr&0xF);
 		numShape	= NumberShape2.from(attr>>4&0xF);
-		num			= (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+		num			= RecordCursor.getShort(buf, offset);
 		
-		log.fine("                                                  " + toString());
+		if (log.isLoggable(Level.FINE)) {
+			log.fine("                                                  " + toString());
+		}
 		this.size = offset-off;
 		this.fullfilled = true;
 	}
@@ -49,7 +49,9 @@ public class Ctrl_Note extends Ctrl {
 		// 도데체 무슨 말인지??? 8byte를 포함한다는 말인가?
 		offset += 8;
 		
-		log.fine("                                                  " + toString());
+		if (log.isLoggable(Level.FINE)) {
+			log.fine("                                                  " + toString());
+		}
 
 		this.size = offset-off;
 		this.fullfilled = true;
@@ -31,6 +31,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_ObjElement extends Ctrl_Common {
     private static final Logger log = Logger.getLogger(Ctrl_ObjElement.class.getName());
@@ -65,7 +66,9 @@ public class Ctrl_ObjElement extends Ctrl_Common {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_ObjElement(Ctrl_ObjElement element) {
@@ -275,7 +278,9 @@ public class Ctrl_ObjElement extends Ctrl_Common {
             case "#text":
                 break;
             default:
-                log.fine(child.getNodeName() + "=" + child.getNodeValue());
+                if (log.isLoggable(Level.FINE)) {
+                    log.fine(child.getNodeName() + "=" + child.getNodeValue());
+                }
                 break;
             }
         }
@@ -303,32 +308,32 @@ public class Ctrl_ObjElement extends Ctrl_Common {
         int len = Ctrl_Common.parseCtrl(obj, size, buf, offset, version);
         offset += len;
         
-        obj.xGrpOffset      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.xGrpOffset      = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.yGrpOffset      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.yGrpOffset      = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.nGrp            = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.nGrp            = RecordCursor.getShort(buf, offset);
         offset += 2;
-        obj.ver             = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.ver             = RecordCursor.getShort(buf, offset);
         offset += 2;
-        obj.iniWidth        = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.iniWidth        = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.iniHeight       = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.iniHeight       = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.curWidth        = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.curWidth        = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.curHeight       = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.curHeight       = RecordCursor.getInt(buf, offset);
         offset += 4;
         obj.horzFlip        = (buf[offset]&0x01)==0x01?true:false;
         obj.verFlip         = (buf[offset]&0x02)==0x02?true:false;
         offset += 4;
-        obj.rotat           = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.rotat           = RecordCursor.getShort(buf, offset);
         offset += 2;
-        obj.xCenter         = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.xCenter         = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.yCenter         = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.yCenter         = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.matCnt          = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.matCnt          = RecordCursor.getShort(buf, offset);
         offset += 2;
         
         obj.matrix = new double[6];
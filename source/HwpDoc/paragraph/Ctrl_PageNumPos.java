@@ -21,12 +21,15 @@
 package HwpDoc.paragraph;
 
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
+import HwpDoc.HwpElement.HwpRecordTypes;
 import HwpDoc.HwpElement.HwpRecordTypes.NumberShape2;
+import HwpDoc.HwpElement.RecordCursor;
 
 
 public class Ctrl_PageNumPos extends Ctrl {
@@ -48,7 +51,7 @@ public class Ctrl_PageNumPos extends Ctrl {
 		super(ctrlId);
 		int offset 		= off;
 
-		int attr 		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		int attr 		= RecordCursor.getInt(buf, offset);
 		numShape		= NumberShape2.from(attr&0xFF);
 		pos 			= NumPos.from((attr>>8)&0xF);
 		
@@ -62,7 +65,9 @@ public class Ctrl_PageNumPos extends Ctrl {
 		constantDash 	= new String(buf, offset, 2, StandardCharsets.UTF_16LE);
 		offset += 2;
 		
-		log.fine("                                                  " + toString());
+		if (log.isLoggable(Level.FINE)) {
+			log.fine("                                                  " + toString());
+		}
 		this.size = offset-off;
 	}
 	
@@ -105,12 +110,9 @@ public class Ctrl_PageNumPos extends Ctrl {
 	    private NumPos(int num) { 
 	    	this.num = num;
 	    }
+	    private static final HwpRecordTypes.Lookup<NumPos> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
 	    public static NumPos from(int num) {
-	    	for (NumPos type: values()) {
-	    		if (type.num == num)
-	    			return type;
-	    	}
-	    	return null;
+	    	return table.get(num, null);
 	    }
 	}
 
@@ -36,6 +36,7 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
+import HwpDoc.HwpElement.RecordCursor;
 import HwpDoc.HwpxFile;
 import HwpDoc.Exception.NotImplementedException;
 import HwpDoc.section.NoteShape;
@@ -88,7 +89,7 @@ public class Ctrl_SectionDef extends Ctrl {
 		
 		int offset = off;
 		// 속성 (표 130참조)
-		int attr		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		int attr		= RecordCursor.getInt(buf, offset);
 		offset += 4;
 		
 		hideHeader		= (attr&0x01)==0x01?true:false;
@@ -104,33 +105,33 @@ public class Ctrl_SectionDef extends Ctrl {
 		pageStartOn		= (byte) (attr>>20&0x03);
 		
 		// 동일한 페이지에서 서로 다른 단 사이의 간격.  기본값:1134. 기본설정 11.3pt=4mm=0.158inch
-		spaceColumns	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		spaceColumns	= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		// 세로로 줄맞춤을 할지 여부 (0=off, 1-n=간격을 HWPUNIT 단위로 지정)
-		lineGrid		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		lineGrid		= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		// 가로로 줄맞춤을 할지 여부 (0=off, 1-n=간격을 HWPUNIT 단위로 지정)
-		charGrid		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		charGrid		= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		// 기본 탭 간격 (hwpunit 또는 relative characters) 기본값:8000. 기본설정 40.0pt=14.11mm=0.5556inch
-		tabStop 		= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		tabStop 		= RecordCursor.getInt(buf, offset);
 		offset += 4;
 		// 번호 문단 모양 ID
-		outlineNumberingID	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		outlineNumberingID	= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		// 쪽 번호 (0=앞 구역에 이어, n=임의의 번호로 시작)
-		pageNum			= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		pageNum			= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		// 그림,표,수식 번호 (0=앞 구역에 이어, n = 임의의 번호로 시작)
-		figure			= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		figure			= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		table			= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		table			= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		equation		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		equation		= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		if (version>=5015) {
 		// 대표 language(language값이 없으면(==0), Application에 지정된 language) 5.0.1.5 이상
-			lang		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+			lang		= RecordCursor.getShort(buf, offset);
 			offset += 2;
 		}
 
@@ -29,6 +29,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 import HwpDoc.paragraph.Ctrl_ShapeEllipse.ArcType;
 
 public class Ctrl_ShapeArc extends Ctrl_GeneralShape {
@@ -48,7 +49,9 @@ public class Ctrl_ShapeArc extends Ctrl_GeneralShape {
 		super(ctrlId, size, buf, off, version);
 		this.size = offset-off;
 
-		log.fine("                                                  " + toString());
+		if (log.isLoggable(Level.FINE)) {
+			log.fine("                                                  " + toString());
+		}
 	}
 
 	public Ctrl_ShapeArc(Ctrl_GeneralShape shape) {
@@ -103,17 +106,17 @@ public class Ctrl_ShapeArc extends Ctrl_GeneralShape {
         int offset = off;
         
         obj.type    = ArcType.from(buf[offset++]);
-        obj.centerX = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.centerX = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.centerY = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.centerY = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.axixX1  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.axixX1  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.axixY1  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.axixY1  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.axixX2  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.axixX2  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.axixY2  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.axixY2  = RecordCursor.getInt(buf, offset);
         offset += 4;
     
         log.fine("                                                  "
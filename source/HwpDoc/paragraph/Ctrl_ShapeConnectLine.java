@@ -28,6 +28,7 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.HwpRecordTypes;
 
 public class Ctrl_ShapeConnectLine extends Ctrl_GeneralShape {
 	private static final Logger log = Logger.getLogger(Ctrl_ShapeConnectLine.class.getName());
@@ -41,7 +42,9 @@ public class Ctrl_ShapeConnectLine extends Ctrl_GeneralShape {
 		super(ctrlId, size, buf, off, version);
 		this.size = offset-off;
 
-		log.fine("                                                  " + toString());
+		if (log.isLoggable(Level.FINE)) {
+			log.fine("                                                  " + toString());
+		}
 	}
 	
 	public Ctrl_ShapeConnectLine(Ctrl_GeneralShape shape) {
@@ -136,12 +139,9 @@ public class Ctrl_ShapeConnectLine extends Ctrl_GeneralShape {
             this.num = num;
         }
 
+        private static final HwpRecordTypes.Lookup<ConnectLineType> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
         public static ConnectLineType from(int num) {
-            for (ConnectLineType type: values()) {
-                if (type.num == num)
-                    return type;
-            }
-            return null;
+            return table.get(num, null);
         }
 	    
 
@@ -29,6 +29,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_ShapeCurve extends Ctrl_GeneralShape {
     private static final Logger log = Logger.getLogger(Ctrl_ShapeCurve.class.getName());
@@ -43,7 +44,9 @@ public class Ctrl_ShapeCurve extends Ctrl_GeneralShape {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_ShapeCurve(Ctrl_GeneralShape shape) {
@@ -97,16 +100,16 @@ public class Ctrl_ShapeCurve extends Ctrl_GeneralShape {
 	public static int parseElement(Ctrl_ShapeCurve obj, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         
-        obj.nPoints             = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.nPoints             = RecordCursor.getInt(buf, offset);
         offset += 4;
         
         if (obj.nPoints > 0) {
             obj.points = new Point[obj.nPoints];
             for (int i=0;i<obj.nPoints;i++) {
                 obj.points[i] = new Point();
-                obj.points[i].x = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+                obj.points[i].x = RecordCursor.getInt(buf, offset);
                 offset += 4;
-                obj.points[i].y = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+                obj.points[i].y = RecordCursor.getInt(buf, offset);
                 offset += 4;
             }
         }
@@ -30,6 +30,8 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.HwpRecordTypes;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_ShapeEllipse extends Ctrl_GeneralShape {
     private static final Logger log = Logger.getLogger(Ctrl_ShapeEllipse.class.getName());
@@ -58,7 +60,9 @@ public class Ctrl_ShapeEllipse extends Ctrl_GeneralShape {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_ShapeEllipse(Ctrl_GeneralShape shape) {
@@ -155,38 +159,38 @@ public class Ctrl_ShapeEllipse extends Ctrl_GeneralShape {
 	public static int parseElement(Ctrl_ShapeEllipse obj, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         
-        int attr    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        int attr    = RecordCursor.getInt(buf, offset);
         obj.intervalDirty     = (attr&0x01) == 0x01;
         obj.hasArcProperty    = (attr&0x02) == 0x02;
         obj.arcType = ArcType.from(attr<<2&0xFF);
         offset += 4;
-        obj.centerX = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.centerX = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.centerY = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.centerY = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.axixX1  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.axixX1  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.axixY1  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.axixY1  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.axixX2  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.axixX2  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.axixY2  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.axixY2  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.startX1 = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.startX1 = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.startY1 = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.startY1 = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.endX1   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.endX1   = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.endY1   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.endY1   = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.startX2 = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.startX2 = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.startY2 = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.startY2 = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.endX2   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.endX2   = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.endY2   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.endY2   = RecordCursor.getInt(buf, offset);
         offset += 4;
 
         if (offset-off-size!=0) {
@@ -209,16 +213,16 @@ public class Ctrl_ShapeEllipse extends Ctrl_GeneralShape {
         offset += 2;
         
         // 글상자 속성
-        obj.leftSpace   = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.leftSpace   = RecordCursor.getShort(buf, offset);
         offset += 2;
-        obj.rightSpace  = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.rightSpace  = RecordCursor.getShort(buf, offset);
         offset += 2;
-        obj.upSpace     = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.upSpace     = RecordCursor.getShort(buf, offset);
         offset += 2;
-        obj.downSpace   = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.downSpace   = RecordCursor.getShort(buf, offset);
         offset += 2;
         // maxTxtWidth가  curWidth와 같으면 가로쓰기, maxTxtWidth가 curHeight와 같으면 세로쓰기.
-        obj.maxTxtWidth = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.maxTxtWidth = RecordCursor.getInt(buf, offset);
         offset += 4;
         
         // 알 수 없는 23byte
@@ -227,7 +231,7 @@ public class Ctrl_ShapeEllipse extends Ctrl_GeneralShape {
         if (size-(offset-off)>0) {
             offset += 10;
             // 필드이름 정보 (앞의 23byte 때문에  시작위치가 여기부터인지도 확실하지 않음)
-            int strLen      = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            int strLen      = RecordCursor.getShort(buf, offset);
             offset += 2;
             String fieldName= new String(buf, offset, strLen*2, StandardCharsets.UTF_16LE);
             offset += (strLen*2);
@@ -260,12 +264,9 @@ public class Ctrl_ShapeEllipse extends Ctrl_GeneralShape {
         private ArcType(int num) { 
             this.num = num;
         }
+        private static final HwpRecordTypes.Lookup<ArcType> table = new HwpRecordTypes.Lookup<>(values(), type -> type.num);
         public static ArcType from(int num) {
-            for (ArcType type: values()) {
-                if (type.num == num)
-                    return type;
-            }
-            return null;
+            return table.get(num, null);
         }
     }
 }
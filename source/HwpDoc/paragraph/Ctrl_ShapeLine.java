@@ -20,6 +20,7 @@
  */
 package HwpDoc.paragraph;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.w3c.dom.NamedNodeMap;
@@ -28,6 +29,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_ShapeLine extends Ctrl_GeneralShape {
     private static final Logger log = Logger.getLogger(Ctrl_ShapeLine.class.getName());
@@ -44,7 +46,9 @@ public class Ctrl_ShapeLine extends Ctrl_GeneralShape {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_ShapeLine(Ctrl_GeneralShape shape) {
@@ -100,22 +104,22 @@ public class Ctrl_ShapeLine extends Ctrl_GeneralShape {
    public static int parseElement(Ctrl_ShapeLine obj, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         
-        if (obj.ctrlId!=null && obj.ctrlId.equals("loc$")) {
+        if (obj.ctrlIdNum==CtrlId.SHAPE_CONNECT_LINE) {
             offset += 4;
         }
         
-        obj.startX  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.startX  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.startY  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.startY  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.endX    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.endX    = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.endY    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.endY    = RecordCursor.getInt(buf, offset);
         offset += 4;
         if (offset-off == size) {
             return size;
         } else {
-            obj.attr    = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            obj.attr    = RecordCursor.getShort(buf, offset);
             offset += 2;
             // 18byte가 아닌 20byte가 온다. 따라서 2byte를 임의로 더해준다.
             offset += 2;
@@ -29,6 +29,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_ShapeOle extends Ctrl_GeneralShape {
     private static final Logger log = Logger.getLogger(Ctrl_ShapeOle.class.getName());
@@ -46,7 +47,9 @@ public class Ctrl_ShapeOle extends Ctrl_GeneralShape {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_ShapeOle(Ctrl_GeneralShape shape) {
@@ -106,19 +109,19 @@ public class Ctrl_ShapeOle extends Ctrl_GeneralShape {
 	public static int parseElement(Ctrl_ShapeOle obj, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         
-        obj.attr        = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.attr        = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.extentX     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.extentX     = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.extentY     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.extentY     = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.binDataID	= String.valueOf((short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF));   
+        obj.binDataID	= String.valueOf(RecordCursor.getShort(buf, offset));   
         offset += 2;
-        obj.borderColor = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        obj.borderColor = RecordCursor.getColor(buf, offset);
         offset += 4;
-        obj.borderThick = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.borderThick = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.borderAttr  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.borderAttr  = RecordCursor.getInt(buf, offset);
         offset += 4;
         // 8 bytes가 남지만,  OLE 미지원으로 할 것으므로 무시한다. 
         if (offset-off-size!=0) {
@@ -31,6 +31,8 @@ import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
+import HwpDoc.HwpElement.HwpRecordTypes;
+import HwpDoc.HwpElement.RecordCursor;
 import HwpDoc.HwpFile;
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
@@ -68,7 +70,9 @@ public class Ctrl_ShapePic extends Ctrl_GeneralShape {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_ShapePic(Ctrl_GeneralShape shape) {
@@ -296,31 +300,31 @@ public class Ctrl_ShapePic extends Ctrl_GeneralShape {
 	public static int parseElement(Ctrl_ShapePic obj, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         
-        obj.borderColor     = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        obj.borderColor     = RecordCursor.getColor(buf, offset);
         offset += 4;
-        obj.borderThick     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.borderThick     = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.borderAttr      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.borderAttr      = RecordCursor.getInt(buf, offset);
         offset += 4;
         obj.borderPoints = new Point[4];
         for (int i=0;i<4;i++) {
             obj.borderPoints[i] = new Point();
-            obj.borderPoints[i].x = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.borderPoints[i].x = RecordCursor.getInt(buf, offset);
             offset += 4;
-            obj.borderPoints[i].y = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.borderPoints[i].y = RecordCursor.getInt(buf, offset);
             offset += 4;
         }
-        obj.cropLeft        = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.cropLeft        = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.cropTop         = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.cropTop         = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.cropRight       = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.cropRight       = RecordCursor.getInt(buf, offset);
         offset += 4;
-        obj.cropBottom      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.cropBottom      = RecordCursor.getInt(buf, offset);
         offset += 4;
         obj.innerSpaces = new short[4];
         for (int i=0;i<4;i++) {
-            obj.innerSpaces[i]= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            obj.innerSpaces[i]= RecordCursor.getShort(buf, offset);
             offset += 2;
         }
         
@@ -328,18 +332,18 @@ public class Ctrl_ShapePic extends Ctrl_GeneralShape {
         obj.contrast        = buf[offset++];
         obj.effect          = buf[offset++];
 
-        short binItemID       = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        short binItemID       = RecordCursor.getShort(buf, offset);
         offset += 2;
         
         obj.binDataID = String.valueOf(binItemID-1);
         obj.borderAlpha	    = buf[offset++];
         
         if (offset-off < size) {
-            obj.instanceID      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.instanceID      = RecordCursor.getInt(buf, offset);
             offset += 4;
         }
         if (offset-off < size) {
-            obj.picEffectInfo   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.picEffectInfo   = RecordCursor.getInt(buf, offset);
             offset += 4;
 
             if (obj.picEffectInfo>0 && offset-off<size) {
@@ -369,10 +373,10 @@ public class Ctrl_ShapePic extends Ctrl_GeneralShape {
 
         if (offset-off < size) {
             // 추가이미지 속성 (그림 최조 생성시 기준 이미지 크기)
-            obj.iniPicWidth     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.iniPicWidth     = RecordCursor.getInt(buf, offset);
             offset += 4;
             // 추가이미지 속성 (그림 최조 생성시 기준 이미지 크기)
-            obj.iniPicHeight    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.iniPicHeight    = RecordCursor.getInt(buf, offset);
             offset += 4;
             if (size-(offset-off)>=1) {
                 // 추가이미지 속성 (이미지 투명도)
@@ -450,15 +454,15 @@ public class Ctrl_ShapePic extends Ctrl_GeneralShape {
             super(typeNum);
             
             int offset = off;
-            style           = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            style           = RecordCursor.getInt(buf, offset);
             offset += 4;
-            transparency    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            transparency    = RecordCursor.getInt(buf, offset);
             offset += 4;
-            blur            = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            blur            = RecordCursor.getInt(buf, offset);
             offset += 4;
-            direction       = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            direction       = RecordCursor.getInt(buf, offset);
             offset += 4;
-            distance        = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            distance        = RecordCursor.getInt(buf, offset);
             offset += 4;
             angleX          = ByteBuffer.wrap(buf, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getFloat();
             offset += 4;
@@ -468,7 +472,7 @@ public class Ctrl_ShapePic extends Ctrl_GeneralShape {
             offset += 4;
             mganifyY        = ByteBuffer.wrap(buf, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getFloat();
             offset += 4;
-            rotation        = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            rotation        = RecordCursor.getInt(buf, offset);
             offset += 4;
             color           = new PicColor(buf, offset, size-(offset-off)); 
             offset += color.getSize();
@@ -608,7 +612,7 @@ public class Ctrl_ShapePic extends Ctrl_GeneralShape {
             super(typeNum);
             
             int offset = off;
-            style           = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            style           = RecordCursor.getInt(buf, offset);
             offset += 4;
             radius          = ByteBuffer.wrap(buf, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getFloat();
             offset += 4;
@@ -624,7 +628,7 @@ public class Ctrl_ShapePic extends Ctrl_GeneralShape {
             offset += 4;
             magnifyY        = ByteBuffer.wrap(buf, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getFloat();
             offset += 4;
-            rotateStyle     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            rotateStyle     = RecordCursor.getInt(buf, offset);
             offset += 4;
             startTrans      = ByteBuffer.wrap(buf, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getFloat();
             offset += 4;
@@ -731,36 +735,36 @@ public class Ctrl_ShapePic extends Ctrl_GeneralShape {
         
         public PicColor(byte[] buf, int off, int size) {
             int offset = off;
-            type        = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            type        = RecordCursor.getInt(buf, offset);
             offset += 4;
-            rgb         = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            rgb         = RecordCursor.getInt(buf, offset);
             offset += 4;
-            // cmyk         = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            // cmyk         = RecordCursor.getInt(buf, offset);
             // offset += 4;
-            // schemaType   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            // schemaType   = RecordCursor.getInt(buf, offset);
             // offset += 4;
-            // systemType   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            // systemType   = RecordCursor.getInt(buf, offset);
             // offset += 4;
-            // presetType   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            // presetType   = RecordCursor.getInt(buf, offset);
             // offset += 4;
-            // scr      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            // scr      = RecordCursor.getInt(buf, offset);
             // offset += 4;
-            // scg      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            // scg      = RecordCursor.getInt(buf, offset);
             // offset += 4;
-            // h            = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            // h            = RecordCursor.getInt(buf, offset);
             // offset += 4;
-            // s            = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            // s            = RecordCursor.getInt(buf, offset);
             // offset += 4;
-            // l            = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            // l            = RecordCursor.getInt(buf, offset);
             // offset += 4;
-            // nEffect  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            // nEffect  = RecordCursor.getInt(buf, offset);
             // offset += 4;
             // if (nEffect>0) {
             //  effectType = new int[nEffect];
             //  effectValue = new float[nEffect];
             //  
             //  for (int i=0;i<nEffect;i++) {
-            //      effectType[i] = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            //      effectType[i] = RecordCursor.getInt(buf, offset);
             //      offset += 4;
             //      effectValue[i] = ByteBuffer.wrap(buf, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getFloat();
             //      offset += 4;
@@ -813,12 +817,9 @@ public class Ctrl_ShapePic extends Ctrl_GeneralShape {
             this.effect = effect;
         }
         
+        private static final HwpRecordTypes.Lookup<PicEffectType> table = new HwpRecordTypes.Lookup<>(values(), typeNum -> typeNum.effect);
         public static PicEffectType from(int effect) {
-            for (PicEffectType typeNum: values()) {
-                if (typeNum.effect == effect)
-                    return typeNum;
-            }
-            return null;
+            return table.get(effect, null);
         }
     }
     
@@ -833,12 +834,9 @@ public class Ctrl_ShapePic extends Ctrl_GeneralShape {
             this.type = type;
         }
         
+        private static final HwpRecordTypes.Lookup<ImagePathType> table = new HwpRecordTypes.Lookup<>(values(), typeNum -> typeNum.type);
         public static ImagePathType from(int type) {
-            for (ImagePathType typeNum: values()) {
-                if (typeNum.type == type)
-                    return typeNum;
-            }
-            return null;
+            return table.get(type, null);
         }
     }
     
@@ -32,6 +32,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_ShapeRect extends Ctrl_GeneralShape {
     private static final Logger log = Logger.getLogger(Ctrl_ShapeRect.class.getName());
@@ -45,7 +46,9 @@ public class Ctrl_ShapeRect extends Ctrl_GeneralShape {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_ShapeRect(Ctrl_GeneralShape shape) {
@@ -151,9 +154,9 @@ public class Ctrl_ShapeRect extends Ctrl_GeneralShape {
         obj.points = new Point[4];
         for (int i=0;i<4;i++) {
             obj.points[i]   = new Point();
-            obj.points[i].x = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.points[i].x = RecordCursor.getInt(buf, offset);
             offset += 4;
-            obj.points[i].y = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.points[i].y = RecordCursor.getInt(buf, offset);
             offset += 4;
         }
         
@@ -176,15 +179,15 @@ public class Ctrl_ShapeRect extends Ctrl_GeneralShape {
         offset += 2;
         
         // 글상자 속성
-        obj.leftSpace   = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.leftSpace   = RecordCursor.getShort(buf, offset);
         offset += 2;
-        obj.rightSpace  = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.rightSpace  = RecordCursor.getShort(buf, offset);
         offset += 2;
-        obj.upSpace     = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.upSpace     = RecordCursor.getShort(buf, offset);
         offset += 2;
-        obj.downSpace   = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        obj.downSpace   = RecordCursor.getShort(buf, offset);
         offset += 2;
-        obj.maxTxtWidth = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.maxTxtWidth = RecordCursor.getInt(buf, offset);
         offset += 4;
         
         if (size-12 <= 13) {
@@ -198,7 +201,7 @@ public class Ctrl_ShapeRect extends Ctrl_GeneralShape {
         if (size-(offset-off)>0) {
             offset += 10;
             // 필드이름 정보 (앞의 23byte 때문에  시작위치가 여기부터인지도 확실하지 않음)
-            int strLen      = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            int strLen      = RecordCursor.getShort(buf, offset);
             offset += 2;
             String fieldName= new String(buf, offset, strLen*2, StandardCharsets.UTF_16LE);
             offset += (strLen*2);
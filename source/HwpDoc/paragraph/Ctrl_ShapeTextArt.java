@@ -54,7 +54,9 @@ public class Ctrl_ShapeTextArt extends Ctrl_GeneralShape {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_ShapeTextArt(Ctrl_GeneralShape shape) {
@@ -29,6 +29,7 @@ import org.w3c.dom.Node;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_ShapeVideo extends Ctrl_GeneralShape {
     private static final Logger log = Logger.getLogger(Ctrl_ShapeVideo.class.getName());
@@ -43,7 +44,9 @@ public class Ctrl_ShapeVideo extends Ctrl_GeneralShape {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_ShapeVideo(Ctrl_GeneralShape shape) {
@@ -83,18 +86,18 @@ public class Ctrl_ShapeVideo extends Ctrl_GeneralShape {
 	public static int parseElement(Ctrl_ShapeVideo obj, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         
-        obj.videoType   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        obj.videoType   = RecordCursor.getInt(buf, offset);
         offset += 4;
         if (obj.videoType==0) {
-            obj.vidoeBinID  = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            obj.vidoeBinID  = RecordCursor.getShort(buf, offset);
             offset += 2;
         } else if (obj.videoType==1) {
-            int urlLen      = (short) ((buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF)*2);
+            int urlLen      = (short) (RecordCursor.getUShort(buf, offset)*2);
             offset += 2;
             obj.objDesc = new String(buf, offset, urlLen, StandardCharsets.UTF_16LE);
             offset += urlLen;
         }
-        short binID 		= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        short binID 		= RecordCursor.getShort(buf, offset);
         offset += 2;
         obj.thumnailBinID 	= String.valueOf(binID-1);
         
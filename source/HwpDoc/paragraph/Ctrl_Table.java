@@ -33,6 +33,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Ctrl_Table extends Ctrl_Common {
     private static final Logger log = Logger.getLogger(Ctrl_Table.class.getName());
@@ -61,7 +62,9 @@ public class Ctrl_Table extends Ctrl_Common {
         super(ctrlId, size, buf, off, version);
         this.size = offset-off;
         
-        log.fine("                                                  " + toString());
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  " + toString());
+        }
     }
     
     public Ctrl_Table(String ctrlId, Node node, int version) throws NotImplementedException {
@@ -190,45 +193,45 @@ public class Ctrl_Table extends Ctrl_Common {
    public static int parseCtrl(Ctrl_Table table, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         
-        table.attr          = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        table.attr          = RecordCursor.getInt(buf, offset);
         offset += 4;
-        table.nRows         = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        table.nRows         = RecordCursor.getShort(buf, offset);
         offset += 2;
-        table.nCols         = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        table.nCols         = RecordCursor.getShort(buf, offset);
         offset += 2;
-        table.cellSpacing   = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        table.cellSpacing   = RecordCursor.getShort(buf, offset);
         offset += 2;
-        table.inLSpace      = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        table.inLSpace      = RecordCursor.getShort(buf, offset);
         offset += 2;
-        table.inRSpace      = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        table.inRSpace      = RecordCursor.getShort(buf, offset);
         offset += 2;
-        table.inUSpace      = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        table.inUSpace      = RecordCursor.getShort(buf, offset);
         offset += 2;
-        table.inDSpace      = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        table.inDSpace      = RecordCursor.getShort(buf, offset);
         offset += 2;
         table.rowSize = new short[table.nRows];
         for (int i=0;i<table.nRows;i++) {
-            table.rowSize[i]    = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            table.rowSize[i]    = RecordCursor.getShort(buf, offset);
             offset += 2;
         }
-        table.borderFillID  = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        table.borderFillID  = RecordCursor.getShort(buf, offset);
         offset += 2;
         if (version>=5010 && (offset-off < size)) {
-            table.validZoneSize = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            table.validZoneSize = RecordCursor.getShort(buf, offset);
             offset += 2;
             if (table.validZoneSize>0 && offset-off < size) {
                 table.cellzoneList = new ArrayList<CellZone>();
                 for (int i=0;i<table.validZoneSize;i++) {    // 영역속성 (표 78 참조) (5.0.1.0 이상)
                     CellZone cellzone = new CellZone();
-                    cellzone.startRowAddr = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+                    cellzone.startRowAddr = RecordCursor.getShort(buf, offset);
                     offset += 2;
-                    cellzone.startColAddr = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+                    cellzone.startColAddr = RecordCursor.getShort(buf, offset);
                     offset += 2;
-                    cellzone.endRowAddr = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+                    cellzone.endRowAddr = RecordCursor.getShort(buf, offset);
                     offset += 2;
-                    cellzone.endColAddr = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+                    cellzone.endColAddr = RecordCursor.getShort(buf, offset);
                     offset += 2;
-                    cellzone.borderFillIDRef = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+                    cellzone.borderFillIDRef = RecordCursor.getShort(buf, offset);
                     offset += 2;
                     table.cellzoneList.add(cellzone);
                 }
@@ -255,13 +258,13 @@ public class Ctrl_Table extends Ctrl_Common {
         int offset = off;
         if (size==24) {
             offset += 2;
-            obj.captionAttr     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionAttr     = RecordCursor.getInt(buf, offset);
             offset += 4;
-            obj.captionWidth    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionWidth    = RecordCursor.getInt(buf, offset);
             offset += 4;
-            obj.captionSpacing  = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            obj.captionSpacing  = RecordCursor.getShort(buf, offset);
             offset += 2;
-            obj.captionMaxW     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+            obj.captionMaxW     = RecordCursor.getInt(buf, offset);
             offset += 4;
             offset += 8;
         }
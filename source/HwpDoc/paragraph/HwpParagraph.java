@@ -20,7 +20,7 @@
  */
 package HwpDoc.paragraph;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -31,6 +31,8 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
+import HwpDoc.ParseMode;
 import HwpDoc.paragraph.Ctrl_Character.CtrlCharType;
 
 public class HwpParagraph {
@@ -43,11 +45,15 @@ public class HwpParagraph {
     public LineSeg          lineSegs;       // HWPTAG_PARA_LINE_SEG
     public List<RangeTag>   rangeTags;      // HWPTAG_PARA_RANGE_TAG
     
-    public LinkedList<Ctrl> p;              // HWPTAG_PARA_TEXT + List<Ctrl>  V2
+    public List<Ctrl>       p;              // HWPTAG_PARA_TEXT + List<Ctrl>  V2. index 로 읽으므로 ArrayList 를 쓴다.
     
     public HwpParagraph() { }
     
     public HwpParagraph(Node node, int version) throws NotImplementedException {
+        this(node, version, ParseMode.FULL);
+    }
+    
+    public HwpParagraph(Node node, int version, ParseMode mode) throws NotImplementedException {
         
         NamedNodeMap attributes = node.getAttributes();
         
@@ -111,7 +117,7 @@ public class HwpParagraph {
                 }
                 break;
             case "hp:linesegarray":
-                {
+                if (mode == ParseMode.FULL) {
                     NodeList childNodeList = child.getChildNodes();
                     for (int j=0; j<childNodeList.getLength(); j++) {
                         Node grandChild = childNodeList.item(j);
@@ -135,11 +141,11 @@ public class HwpParagraph {
 
         // hp:t 없이 paragraph 끝난다면 
         if (p==null) {
-            p = new LinkedList<Ctrl>();
+            p = new ArrayList<Ctrl>();
             p.add(new Ctrl_Character("   _", CtrlCharType.PARAGRAPH_BREAK, charShapeID));
         }
         // 마지막에 PARA_BREAK로 끝나지 않았다면 PARA_BREAK를 삽입
-        if (p.size()==0 || !(p.getLast() instanceof Ctrl_Character)) {
+        if (p.size()==0 || !(p.get(p.size()-1) instanceof Ctrl_Character)) {
             p.add(new Ctrl_Character("   _", CtrlCharType.PARAGRAPH_BREAK, charShapeID));
         }
     }
@@ -147,7 +153,7 @@ public class HwpParagraph {
     private void parseHwpParagraph(Node node, int charShapeId, int version) throws NotImplementedException {
 
         if (p == null) {
-            p = new LinkedList<Ctrl>();
+            p = new ArrayList<Ctrl>();
         }
 
         String numStr;
@@ -311,41 +317,43 @@ public class HwpParagraph {
         
         HwpParagraph para = new HwpParagraph();
         
-        int nchars          = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        int nchars          = RecordCursor.getInt(buf, offset);
         offset += 4;
         if ((nchars&0x80000000)!=0) {
             nchars &= 0x7fffffff;
         }
-        int controlMask     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        int controlMask     = RecordCursor.getInt(buf, offset);
         offset += 4;
-        para.paraShapeID    = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        para.paraShapeID    = RecordCursor.getShort(buf, offset);
         offset += 2;
         para.paraStyleID    = (short) (buf[offset++]&0x00FF);
         para.breakType      = buf[offset++];
-        short nCharShapeInfo= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        short nCharShapeInfo= RecordCursor.getShort(buf, offset);
         offset += 2;
-        short nRangeTags    = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        short nRangeTags    = RecordCursor.getShort(buf, offset);
         offset += 2;
-        short nLineSeg      = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        short nLineSeg      = RecordCursor.getShort(buf, offset);
         offset += 2;
-        int paraInstanceID  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        int paraInstanceID  = RecordCursor.getInt(buf, offset);
         offset += 4;
         if (version>=5032 && offset-off<size) {
-            short changeTrackingMerge= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            short changeTrackingMerge= RecordCursor.getShort(buf, offset);
             offset += 2;
         }
-        log.fine("                                                  "
-                +"instance="+String.format("0x%X", paraInstanceID)
-                +",문단모양ID="+para.paraShapeID
-                +",스타일ID="+para.paraStyleID
-                +",단나누기종류="+para.breakType
-                +",nchars="+nchars
-                +",nLineSeg="+nLineSeg
-                +",controlMask="+controlMask
-                +",nCharShapeInfo="+nCharShapeInfo
-                +",nRangeTags="+nRangeTags
-                +",paraInstanceID="+paraInstanceID
-                );
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  "
+                    +"instance="+String.format("0x%X", paraInstanceID)
+                    +",문단모양ID="+para.paraShapeID
+                    +",스타일ID="+para.paraStyleID
+                    +",단나누기종류="+para.breakType
+                    +",nchars="+nchars
+                    +",nLineSeg="+nLineSeg
+                    +",controlMask="+controlMask
+                    +",nCharShapeInfo="+nCharShapeInfo
+                    +",nRangeTags="+nRangeTags
+                    +",paraInstanceID="+paraInstanceID
+                    );
+        }
         
         if (offset-off-size != 0 && offset-off!=24) {
             log.severe("[TAG]=" + tagNum + ", size=" + size + ", but currentSize=" + (offset-off));
@@ -358,41 +366,43 @@ public class HwpParagraph {
     public static int parse(HwpParagraph para, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         
-        int nchars          = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        int nchars          = RecordCursor.getInt(buf, offset);
         offset += 4;
         if ((nchars&0x80000000)!=0) {
             nchars &= 0x7fffffff;
         }
-        int controlMask     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        int controlMask     = RecordCursor.getInt(buf, offset);
         offset += 4;
-        para.paraShapeID    = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        para.paraShapeID    = RecordCursor.getShort(buf, offset);
         offset += 2;
         para.paraStyleID    = (short) (buf[offset++]&0x00FF);
         para.breakType      = buf[offset++];
-        short nCharShapeInfo= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        short nCharShapeInfo= RecordCursor.getShort(buf, offset);
         offset += 2;
-        short nRangeTags    = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        short nRangeTags    = RecordCursor.getShort(buf, offset);
         offset += 2;
-        short nLineSegs     = (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+        short nLineSegs     = RecordCursor.getShort(buf, offset);
         offset += 2;
-        int paraInstanceID  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        int paraInstanceID  = RecordCursor.getInt(buf, offset);
         offset += 4;
         if (version>=5032 && offset-off<size) {
-            short changeTrackingMerge= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+            short changeTrackingMerge= RecordCursor.getShort(buf, offset);
             offset += 2;
         }
-        log.fine("                                                  "
-                +"instance="+String.format("0x%X", paraInstanceID)
-                +",문단모양ID="+para.paraShapeID
-                +",스타일ID="+para.paraStyleID
-                +",단나누기종류="+para.breakType
-                +",nchars="+nchars
-                +",nLineSeg="+nLineSegs
-                +",controlMask="+controlMask
-                +",nCharShapeInfo="+nCharShapeInfo
-                +",nRangeTags="+nRangeTags
-                +",paraInstanceID="+paraInstanceID
-                );
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("                                                  "
+                    +"instance="+String.format("0x%X", paraInstanceID)
+                    +",문단모양ID="+para.paraShapeID
+                    +",스타일ID="+para.paraStyleID
+                    +",단나누기종류="+para.breakType
+                    +",nchars="+nchars
+                    +",nLineSeg="+nLineSegs
+                    +",controlMask="+controlMask
+                    +",nCharShapeInfo="+nCharShapeInfo
+                    +",nRangeTags="+nRangeTags
+                    +",paraInstanceID="+paraInstanceID
+                    );
+        }
         
         if (offset-off-size != 0 && offset-off!=24) {
             log.severe("[PARA] size=" + size + ", but currentSize=" + (offset-off));
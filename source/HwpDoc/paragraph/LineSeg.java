@@ -26,6 +26,7 @@ import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
 import HwpDoc.Exception.HwpParseException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class LineSeg {
     private static final Logger log = Logger.getLogger(LineSeg.class.getName());
@@ -44,23 +45,23 @@ public class LineSeg {
     public LineSeg (int tagNum, int level, int size, byte[] buf, int off, int version) throws HwpParseException {
         int offset = off;
         
-        this.startPos        = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        this.startPos        = RecordCursor.getInt(buf, offset);
         offset += 4;
-        this.lineVerticalPos = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        this.lineVerticalPos = RecordCursor.getInt(buf, offset);
         offset += 4;
-        this.lineHeight      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        this.lineHeight      = RecordCursor.getInt(buf, offset);
         offset += 4;
-        this.textHeight      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        this.textHeight      = RecordCursor.getInt(buf, offset);
         offset += 4;
-        this.lineDistanceToBase  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        this.lineDistanceToBase  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        this.lineSpacing     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        this.lineSpacing     = RecordCursor.getInt(buf, offset);
         offset += 4;
-        this.columnStartPos  = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        this.columnStartPos  = RecordCursor.getInt(buf, offset);
         offset += 4;
-        this.segmentWidth    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        this.segmentWidth    = RecordCursor.getInt(buf, offset);
         offset += 4;
-        this.lineTag         = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        this.lineTag         = RecordCursor.getInt(buf, offset);
         offset += 4;
         this.isHeadingApplied= (this.lineTag>>21&0x01)==0x01?true:false;
         
@@ -21,26 +21,53 @@
 package HwpDoc.paragraph;
 
 public class ParaText extends Ctrl {
-    public String  text;
+    private TextBuffer buffer;      // 구역이 같이 쓰는 글자 buffer
+    private int     offset;         // buffer 안에서 이 글자들이 시작하는 위치
+    private int     length;
     public int     startIdx;
     public int     charShapeId;
 
     public ParaText(String ctrlId, String text, int startIdx) {
-        super(ctrlId);
-        this.text = text;
-        this.startIdx = startIdx;
+        this(ctrlId, TextBuffer.of(text), 0, text.length(), startIdx);
     }
 
     public ParaText(String ctrlId, String text, int startIdx, int charShapeId) {
+        this(ctrlId, text, startIdx);
+        this.charShapeId = charShapeId;
+    }
+
+    public ParaText(String ctrlId, TextBuffer buffer, int offset, int length, int startIdx) {
         super(ctrlId);
-        this.text = text;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
         this.startIdx = startIdx;
-        this.charShapeId = charShapeId;
+    }
+
+    /*
+     * 글자를 String 으로 만들어 돌려준다. 들고 있지 않으므로 부를 때마다 새로 만든다.
+     */
+    public String getText() {
+        return buffer.toString(offset, length);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /*
+     * at 글자 앞까지만 남기고, 나머지를 가리키는 ParaText 를 돌려준다. 글자는 복사하지 않는다.
+     */
+    public ParaText split(int at, int charShapeId) {
+        ParaText right = new ParaText(ctrlId, buffer, offset+at, length-at, startIdx+at);
+        right.charShapeId = charShapeId;
+        length = at;
+        return right;
     }
 
     @Override
     public int getSize() {
-        return text==null?0:text.length();
+        return length;
     }
 
 }
@@ -21,7 +21,6 @@
 package HwpDoc.paragraph;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -31,6 +30,7 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 import HwpDoc.paragraph.Ctrl_Character.CtrlCharType;
 import HwpDoc.paragraph.Ctrl_Common.VertAlign;
 
@@ -58,28 +58,30 @@ public class TblCell {
 		// 앞 2byte는 무시한다.  해석불가.
 		offset += 2;
 		
-		colAddr	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		colAddr	= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		rowAddr	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		rowAddr	= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		colSpan	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		colSpan	= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		rowSpan	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		rowSpan	= RecordCursor.getShort(buf, offset);
 		offset += 2;
-		width	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		width	= RecordCursor.getInt(buf, offset);
 		offset += 4;
-		height	= buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+		height	= RecordCursor.getInt(buf, offset);
 		offset += 4;
 		
 		margin = new int[4];
 		for (int i=0;i<4;i++) {
-			margin[i]	= (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+			margin[i]	= RecordCursor.getUShort(buf, offset);
 			offset += 2;
 		}
-		borderFill	= (short) (buf[offset+1]<<8&0xFF00 | buf[offset]&0x00FF);
+		borderFill	= RecordCursor.getShort(buf, offset);
 		offset += 2;
 		
-		log.fine("                                                  " + "[CELL]" + toString());
+		if (log.isLoggable(Level.FINE)) {
+			log.fine("                                                  " + "[CELL]" + toString());
+		}
 		
 		// 41byte중 28byte만 해석 가능.  내용을 모르므로 41byte 모두 읽은것 처럼 size 조작한다.
 		this.size = size;
@@ -168,7 +170,7 @@ public class TblCell {
                             // HwpRecord.dumpNode(grandChild, 1);
                             CellParagraph cellP = new CellParagraph(grandChild, version);
                             paras.add(cellP);
-                            lastCtrl = (cellP.p==null||cellP.p.size()==0 ? null : cellP.p.getLast());
+                            lastCtrl = (cellP.p==null||cellP.p.size()==0 ? null : cellP.p.get(cellP.p.size()-1));
                             break;
                         default:
                             if (log.isLoggable(Level.FINE)) {
@@ -182,7 +184,7 @@ public class TblCell {
                             if (breakP.p!=null) {
                                 breakP.p.clear();
                             } else {
-                                breakP.p = new LinkedList<Ctrl>();
+                                breakP.p = new ArrayList<Ctrl>();
                             }
                             breakP.p.add(new Ctrl_Character("   _", CtrlCharType.PARAGRAPH_BREAK));
                             paras.add(breakP);
@@ -0,0 +1,96 @@
+/* Copyright (C) 2023 ebandal
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>
+ */
+/* 본 제품은 한글과컴퓨터의 ᄒᆞᆫ글 문서 파일(.hwp) 공개 문서를 참고하여 개발하였습니다.
+ * 개방형 워드프로세서 마크업 언어(OWPML) 문서 구조 KS X 6101:2018 문서를 참고하였습니다.
+ * 작성자 : 반희수 ebandal@gmail.com  
+ * 작성일 : 2022.10
+ */
+package HwpDoc.paragraph;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+ * 구역의 글자들을 이어 붙여 두는 buffer. ParaText 는 글자를 따로 들고 있지 않고, 이 buffer 의 (offset, length) 를 가리킨다.
+ * 구역 하나에 buffer 하나를 두므로, 문단이 많아도 작은 String 을 문단 수만큼 만들지 않는다.
+ */
+public final class TextBuffer {
+    private char[] chars;
+    private int length;
+    private CharsetDecoder decoder;
+    
+    public TextBuffer() {
+        this(1024);
+    }
+    
+    public TextBuffer(int capacity) {
+        chars = new char[Math.max(capacity, 16)];
+    }
+    
+    /*
+     * 문자열을 그대로 담은 buffer. HWPX 처럼 글자가 이미 String 으로 오는 경우에 쓴다.
+     */
+    public static TextBuffer of(String text) {
+        return new TextBuffer(text.toCharArray());
+    }
+    
+    private TextBuffer(char[] chars) {
+        this.chars = chars;
+        this.length = chars.length;
+    }
+    
+    /*
+     * buf 의 off 부터 byteLen 만큼의 UTF-16LE 를 뒤에 붙이고, 붙인 위치를 돌려준다.
+     * new String(.., UTF_16LE) 와 같이 짝이 맞지 않는 surrogate 나 홀수 byte 는 U+FFFD 로 바꾼다.
+     */
+    public int append(byte[] buf, int off, int byteLen) {
+        int start = length;
+        ensure(length + (byteLen+1)/2);
+        if (decoder == null) {
+            decoder = StandardCharsets.UTF_16LE.newDecoder()
+                                               .onMalformedInput(CodingErrorAction.REPLACE)
+                                               .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        CharBuffer out = CharBuffer.wrap(chars, length, chars.length-length);
+        decoder.reset();
+        decoder.decode(ByteBuffer.wrap(buf, off, byteLen), out, true);
+        decoder.flush(out);
+        length = out.position();
+        return start;
+    }
+    
+    public int length() {
+        return length;
+    }
+    
+    public char charAt(int index) {
+        return chars[index];
+    }
+    
+    public String toString(int offset, int len) {
+        return new String(chars, offset, len);
+    }
+    
+    private void ensure(int capacity) {
+        if (capacity > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(capacity, chars.length*2));
+        }
+    }
+}
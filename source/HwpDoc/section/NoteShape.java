@@ -27,8 +27,10 @@ import java.util.logging.Logger;
 import org.w3c.dom.Node;
 
 import HwpDoc.Exception.HwpParseException;
+import HwpDoc.HwpElement.HwpRecordTypes;
 import HwpDoc.HwpElement.HwpRecordTypes.LineStyle1;
 import HwpDoc.HwpElement.HwpRecordTypes.NumberShape2;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class NoteShape {
     private static final Logger log = Logger.getLogger(NoteShape.class.getName());
@@ -75,19 +77,19 @@ public class NoteShape {
         offset += 2;
         noteShape.suffixChar            = ByteBuffer.wrap(buf, offset, 2).order(ByteOrder.LITTLE_ENDIAN).getChar();
         offset += 2;
-        noteShape.newNumber             = (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+        noteShape.newNumber             = RecordCursor.getShort(buf, offset);
         offset += 2;
-        noteShape.noteLineLength        = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        noteShape.noteLineLength        = RecordCursor.getInt(buf, offset);
         offset += 4;
-        noteShape.spacingAboveLine      = (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+        noteShape.spacingAboveLine      = RecordCursor.getShort(buf, offset);
         offset += 2;
-        noteShape.spacingBelowLine      = (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+        noteShape.spacingBelowLine      = RecordCursor.getShort(buf, offset);
         offset += 2;
-        noteShape.sapcingBetweenNotes   = (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+        noteShape.sapcingBetweenNotes   = RecordCursor.getShort(buf, offset);
         offset += 2;
         noteShape.noteLineType          = LineStyle1.from(buf[offset++]);
         noteShape.noteLineWidth         = buf[offset++];
-        noteShape.noteLineColor         = buf[offset+3]<<24&0xFF000000 | buf[offset]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset+2]&0x000000FF;
+        noteShape.noteLineColor         = RecordCursor.getColor(buf, offset);
         offset += 4;          
         
         log.fine("                                                  "
@@ -112,12 +114,9 @@ public class NoteShape {
         private NoteNumbering(int num) { 
             this.num = num;
         }
+        private static final HwpRecordTypes.Lookup<NoteNumbering> table = new HwpRecordTypes.Lookup<>(values(), shape -> shape.num);
         public static NoteNumbering from(int num) {
-            for (NoteNumbering shape: values()) {
-                if (shape.num == num)
-                    return shape;
-            }
-            return null;
+            return table.get(num, null);
         }
     }
 
@@ -133,12 +132,9 @@ public class NoteShape {
         private NotePlacement(int num) { 
             this.num = num;
         }
+        private static final HwpRecordTypes.Lookup<NotePlacement> table = new HwpRecordTypes.Lookup<>(values(), shape -> shape.num);
         public static NotePlacement from(int num) {
-            for (NotePlacement shape: values()) {
-                if (shape.num == num)
-                    return shape;
-            }
-            return null;
+            return table.get(num, null);
         }
     }
 
@@ -29,6 +29,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class Page {
     private static final Logger log = Logger.getLogger(Page.class.getName());
@@ -116,26 +117,26 @@ public class Page {
         Page page = new Page();
 
         // 디폴트 A4의 가로 길이는 210mm = 59529이다.  한글97과의 호환을 위해 59528을 사용한다.
-        page.width          = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        page.width          = RecordCursor.getInt(buf, offset);
         offset += 4;
         // 디폴트 A4의 세로 길이는 2297mm = 84188이다.
-        page.height         = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        page.height         = RecordCursor.getInt(buf, offset);
         offset += 4;          
-        page.marginLeft     = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        page.marginLeft     = RecordCursor.getInt(buf, offset);
         offset += 4;          
-        page.marginRight    = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        page.marginRight    = RecordCursor.getInt(buf, offset);
         offset += 4;          
-        page.marginTop      = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        page.marginTop      = RecordCursor.getInt(buf, offset);
         offset += 4;          
-        page.marginBottom   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        page.marginBottom   = RecordCursor.getInt(buf, offset);
         offset += 4;          
-        page.marginHeader   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        page.marginHeader   = RecordCursor.getInt(buf, offset);
         offset += 4;          
-        page.marginFooter   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        page.marginFooter   = RecordCursor.getInt(buf, offset);
         offset += 4;          
-        page.marginGutter   = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        page.marginGutter   = RecordCursor.getInt(buf, offset);
         offset += 4;          
-        int attr            = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        int attr            = RecordCursor.getInt(buf, offset);
         offset += 4;          
 
         page.landscape      = (attr&0x01)==0x01?true:false;
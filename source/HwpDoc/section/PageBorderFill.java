@@ -28,6 +28,7 @@ import org.w3c.dom.NodeList;
 
 import HwpDoc.Exception.HwpParseException;
 import HwpDoc.Exception.NotImplementedException;
+import HwpDoc.HwpElement.RecordCursor;
 
 public class PageBorderFill {
     private static final Logger log = Logger.getLogger(PageBorderFill.class.getName());
@@ -115,22 +116,22 @@ public class PageBorderFill {
 
         PageBorderFill borderFill = new PageBorderFill();
         
-        int attr                = buf[offset+3]<<24&0xFF000000 | buf[offset+2]<<16&0x00FF0000 | buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF;
+        int attr                = RecordCursor.getInt(buf, offset);
         offset += 4;
         borderFill.textBorder   = (attr&0x01)==0x01?true:false;
         borderFill.headerInside = (attr&0x02)==0x02?true:false;
         borderFill.footerInside = (attr&0x04)==0x04?true:false;
         borderFill.fillArea     = (byte) (attr>>3&0x03);
         
-        borderFill.offsetLeft   = (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+        borderFill.offsetLeft   = RecordCursor.getShort(buf, offset);
         offset += 2;
-        borderFill.offsetRight  = (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+        borderFill.offsetRight  = RecordCursor.getShort(buf, offset);
         offset += 2;
-        borderFill.offsetTop    = (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+        borderFill.offsetTop    = RecordCursor.getShort(buf, offset);
         offset += 2;
-        borderFill.offsetBottom = (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+        borderFill.offsetBottom = RecordCursor.getShort(buf, offset);
         offset += 2;
-        borderFill.borderFill   = (short) (buf[offset+1]<<8&0x0000FF00 | buf[offset]&0x000000FF);
+        borderFill.borderFill   = RecordCursor.getShort(buf, offset);
         offset += 2;
 
         log.fine("                                                  "
@@ -24,6 +24,7 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import HwpDoc.paragraph.Ctrl;
+import HwpDoc.paragraph.CtrlId;
 import HwpDoc.paragraph.Ctrl_Character;
 import HwpDoc.paragraph.Ctrl_GeneralShape;
 import HwpDoc.paragraph.Ctrl_Table;
@@ -43,11 +44,11 @@ public class CompRecurs {
             for (Ctrl ctrl : para.p) {
                 if (ctrl==null) continue;
                 
-                switch(ctrl.ctrlId) {
-                case "____":
-                    sb.append(((ParaText)ctrl).text);
+                switch(ctrl.ctrlIdNum) {
+                case CtrlId.TEXT:
+                    sb.append(((ParaText)ctrl).getText());
                     break;
-                case "   _":
+                case CtrlId.CHAR:
                     {
                         switch(((Ctrl_Character)ctrl).ctrlChar) {
                         case LINE_BREAK:
@@ -65,17 +66,17 @@ public class CompRecurs {
                         }
                     }
                     break;
-                case "dces":
+                case CtrlId.SECTION_DEF:
                     break;
-                case "dloc":
+                case CtrlId.COLUMN_DEF:
                     break;
-                case "daeh":    // 머리말
-                case "toof":    // 꼬리말
+                case CtrlId.HEADER:    // 머리말
+                case CtrlId.FOOTER:    // 꼬리말
                     break;
-                case "  nf":    // 각주
-                case "  ne":    // 미주
+                case CtrlId.FOOTNOTE:    // 각주
+                case CtrlId.ENDNOTE:    // 미주
                     break;
-                case " lbt":    // table
+                case CtrlId.TABLE:    // table
                     {
                         // 테이블 경우,  셀 내용을 수집
                         String tableContent = ((Ctrl_Table) ctrl).cells.stream()
@@ -84,27 +85,27 @@ public class CompRecurs {
                                                                 .flatMap(cp -> cp.p.stream())
                                                                 .filter(c -> (c!=null) && (c instanceof ParaText))
                                                                 .map(c -> (ParaText)c)
-                                                                .map(t -> t.text==null?"":t.text.replaceAll(PATTERN_STRING, ""))
+                                                                .map(t -> t.getText().replaceAll(PATTERN_STRING, ""))
                                                                 .collect(Collectors.joining("|"));
                         sb.append("["+tableContent+"]");
                     }
                     break;
-                case "onta":    // 자동 번호
+                case CtrlId.AUTO_NUMBER:    // 자동 번호
                     break;
-                case "onwn":    // 새 번호 지정
+                case CtrlId.NEW_NUMBER:    // 새 번호 지정
                     break;
-                case " osg":    // GeneralShapeObject
-                case "cip$":    // 그림       ShapePic obj = new ShapePic(shape);
-                case "cer$":    // 사각형
-                case "cra$":    // 호
-                case "elo$":    // OLE
-                case "nil$":    // 선
-                case "noc$":    // 묶음 개체
-                case "lle$":    // 타원
-                case "lop$":    // 다각형
-                case "ruc$":    // 곡선
-                case "div$":    // 비디오
-                case "tat$":    // 글맵시
+                case CtrlId.GEN_SHAPE:    // GeneralShapeObject
+                case CtrlId.SHAPE_PICTURE:    // 그림       ShapePic obj = new ShapePic(shape);
+                case CtrlId.SHAPE_RECT:    // 사각형
+                case CtrlId.SHAPE_ARC:    // 호
+                case CtrlId.SHAPE_OLE:    // OLE
+                case CtrlId.SHAPE_LINE:    // 선
+                case CtrlId.SHAPE_CONTAINER:    // 묶음 개체
+                case CtrlId.SHAPE_ELLIPSE:    // 타원
+                case CtrlId.SHAPE_POLYGON:    // 다각형
+                case CtrlId.SHAPE_CURVE:    // 곡선
+                case CtrlId.SHAPE_VIDEO:    // 비디오
+                case CtrlId.SHAPE_TEXTART:    // 글맵시
                     {
                         // 그림 개체의 경우  글상자, 캡션만 출력
                         if (((Ctrl_GeneralShape) ctrl).paras != null) {
@@ -113,7 +114,7 @@ public class CompRecurs {
                                                         .flatMap(p -> p.p.stream())
                                                         .filter(c -> c instanceof ParaText)
                                                         .map(c -> (ParaText)c)
-                                                        .map(t -> t.text.replaceAll(PATTERN_8BYTES, "").replaceAll("[\\u000a\\u000d]", "\\\\n"))
+                                                        .map(t -> t.getText().replaceAll(PATTERN_8BYTES, "").replaceAll("[\\u000a\\u000d]", "\\\\n"))
                                                         .collect(Collectors.joining(""));
                             sb.append("["+content+"]");
                         }
@@ -124,49 +125,49 @@ public class CompRecurs {
                                                         .flatMap(p -> p.p.stream())
                                                         .filter(c -> c instanceof ParaText)
                                                         .map(c -> (ParaText)c)
-                                                        .map(cap -> cap.text.replaceAll(PATTERN_STRING, ""))
+                                                        .map(cap -> cap.getText().replaceAll(PATTERN_STRING, ""))
                                                         .collect(Collectors.joining(""));
                             sb.append(caption);
                         }
                     }
                     break;
-                case "deqe":    // 한글97 수식
+                case CtrlId.EQEDIT:    // 한글97 수식
                     break;
-                case "cot%":    // FIELD_TABLEOFCONTENT
-                case "klc%":    // FIELD_CLICKHERE
-                case "dhgp":    // 감추기
-                case "pngp":    // 쪽 번호 위치
-                case "knu%":    // FIELD_UNKNOWN
-                case "etd%":    // FIELD_DATE
-                case "tdd%":    // FIELD_DOCDATE
-                case "tap%":    // FIELD_PATH
-                case "kmb%":    // FIELD_BOOKMARK
-                case "gmm%":    // FIELD_MAILMERGE
-                case "frx%":    // FIELD_CROSSREF
-                case "rms%":    // FIELD_SUMMARY
-                case "rsu%":    // FIELD_USERINFO
-                case "klh%":    // FIELD_HYPERLINK
-                case "gis%":    // FIELD_REVISION_SIGN
-                case "d*%%":    // FIELD_REVISION_DELETE
-                case "a*%%":    // FIELD_REVISION_ATTACH
-                case "C*%%":    // FIELD_REVISION_CLIPPING
-                case "S*%%":    // FIELD_REVISION_SAWTOOTH
-                case "T*%%":    // FIELD_REVISION_THINKING
-                case "P*%%":    // FIELD_REVISION_PRAISE
-                case "L*%%":    // FIELD_REVISION_LINE
-                case "c*%%":    // FIELD_REVISION_SIMPLECHANGE
-                case "h*%%":    // FIELD_REVISION_HYPERLINK
-                case "A*%%":    // FIELD_REVISION_LINEATTACH
-                case "i*%%":    // FIELD_REVISION_LINELINK
-                case "t*%%":    // FIELD_REVISION_LINETRANSFER
-                case "r*%%":    // FIELD_REVISION_RIGHTMOVE
-                case "l*%%":    // FIELD_REVISION_LEFTMOVE
-                case "n*%%":    // FIELD_REVISION_TRANSFER
-                case "e*%%":    // FIELD_REVISION_SIMPLEINSERT
-                case "lps%":    // FIELD_REVISION_SPLIT
-                case "rm%%":    // FIELD_REVISION_CHANGE
-                case "em%%":    // FIELD_MEMO
-                case "rpc%":    // FIELD_PRIVATE_INFO_SECURITY
+                case CtrlId.FIELD_TABLEOFCONTENT:    // FIELD_TABLEOFCONTENT
+                case CtrlId.FIELD_CLICKHERE:    // FIELD_CLICKHERE
+                case CtrlId.PAGE_HIDE:    // 감추기
+                case CtrlId.PAGE_NUM_POS:    // 쪽 번호 위치
+                case CtrlId.FIELD_UNKNOWN:    // FIELD_UNKNOWN
+                case CtrlId.FIELD_DATE:    // FIELD_DATE
+                case CtrlId.FIELD_DOCDATE:    // FIELD_DOCDATE
+                case CtrlId.FIELD_PATH:    // FIELD_PATH
+                case CtrlId.FIELD_BOOKMARK:    // FIELD_BOOKMARK
+                case CtrlId.FIELD_MAILMERGE:    // FIELD_MAILMERGE
+                case CtrlId.FIELD_CROSSREF:    // FIELD_CROSSREF
+                case CtrlId.FIELD_SUMMARY:    // FIELD_SUMMARY
+                case CtrlId.FIELD_USERINFO:    // FIELD_USERINFO
+                case CtrlId.FIELD_HYPERLINK:    // FIELD_HYPERLINK
+                case CtrlId.FIELD_REVISION_SIGN:    // FIELD_REVISION_SIGN
+                case CtrlId.FIELD_REVISION_DELETE:    // FIELD_REVISION_DELETE
+                case CtrlId.FIELD_REVISION_ATTACH:    // FIELD_REVISION_ATTACH
+                case CtrlId.FIELD_REVISION_CLIPPING:    // FIELD_REVISION_CLIPPING
+                case CtrlId.FIELD_REVISION_SAWTOOTH:    // FIELD_REVISION_SAWTOOTH
+                case CtrlId.FIELD_REVISION_THINKING:    // FIELD_REVISION_THINKING
+                case CtrlId.FIELD_REVISION_PRAISE:    // FIELD_REVISION_PRAISE
+                case CtrlId.FIELD_REVISION_LINE:    // FIELD_REVISION_LINE
+                case CtrlId.FIELD_REVISION_SIMPLECHANGE:    // FIELD_REVISION_SIMPLECHANGE
+                case CtrlId.FIELD_REVISION_HYPERLINK:    // FIELD_REVISION_HYPERLINK
+                case CtrlId.FIELD_REVISION_LINEATTACH:    // FIELD_REVISION_LINEATTACH
+                case CtrlId.FIELD_REVISION_LINELINK:    // FIELD_REVISION_LINELINK
+                case CtrlId.FIELD_REVISION_LINETRANSFER:    // FIELD_REVISION_LINETRANSFER
+                case CtrlId.FIELD_REVISION_RIGHTMOVE:    // FIELD_REVISION_RIGHTMOVE
+                case CtrlId.FIELD_REVISION_LEFTMOVE:    // FIELD_REVISION_LEFTMOVE
+                case CtrlId.FIELD_REVISION_TRANSFER:    // FIELD_REVISION_TRANSFER
+                case CtrlId.FIELD_REVISION_SIMPLEINSERT:    // FIELD_REVISION_SIMPLEINSERT
+                case CtrlId.FIELD_REVISION_SPLIT:    // FIELD_REVISION_SPLIT
+                case CtrlId.FIELD_REVISION_CHANGE:    // FIELD_REVISION_CHANGE
+                case CtrlId.FIELD_MEMO:    // FIELD_MEMO
+                case CtrlId.FIELD_PRIVATE_INFO_SECURITY:    // FIELD_PRIVATE_INFO_SECURITY
                 default:
                 }
             }
@@ -20,6 +20,7 @@ import HwpDoc.HwpDocInfo;
 import HwpDoc.HwpFile;
 import HwpDoc.HwpSection;
 import HwpDoc.HwpxFile;
+import HwpDoc.ParseMode;
 import HwpDoc.Exception.CompoundDetectException;
 import HwpDoc.Exception.CompoundParseException;
 import HwpDoc.Exception.HwpParseException;
@@ -53,12 +54,14 @@ public class HwpComparer {
         switch(detectingType) {
         case "HWP":
             hwp = new HwpFile(inputFile);
+            hwp.setParseMode(ParseMode.TEXT_ONLY);     // 글자만 비교하므로 그리기 개체 속성은 읽지 않는다.
             hwp.open();
             sections = hwp.getSections();
             docInfo = hwp.getDocInfo();
             break;
         case "HWPX":
             hwpx = new HwpxFile(inputFile);
+            hwpx.setParseMode(ParseMode.TEXT_ONLY);
             hwpx.open();
             sections = hwpx.getSections();
             docInfo = hwpx.getDocInfo();
@@ -76,7 +79,7 @@ public class HwpComparer {
         
         for (HwpSection section: sections) {
             // 커스톰 PageStyle 생성
-            Ctrl_SectionDef secd =  (Ctrl_SectionDef)section.paraList.stream()
+            Ctrl_SectionDef secd =  (Ctrl_SectionDef)section.paraStream()
                                                             .filter(p -> p.p!=null && p.p.size()>0)
                                                             .flatMap(p -> p.p.stream())
                                                             .filter(c -> (c instanceof Ctrl_SectionDef)).findAny().get();
@@ -92,7 +95,7 @@ public class HwpComparer {
             CompPage.setSectionIndex(secIndex++);
             String numberingPrefix = "";
             
-            for (HwpParagraph para: section.paraList) {
+            for (HwpParagraph para: section.paragraphs()) {
                 HwpRecord_ParaShape paraShape = (HwpRecord_ParaShape) docInfo.paraShapeList.get(para.paraShapeID);
                 
                 boolean showNumberingPrefix = false;
@@ -170,6 +173,7 @@ public class HwpComparer {
             HwpFile hwpTemp = null;
             try {
                 hwpTemp = new HwpFile(inputFile);
+                hwpTemp.getOleFile().setLazy(true);     // FileHeader 만 읽는다.
                 hwpTemp.detect();
                 detectingType = "HWP";
                 hwpTemp.close();
@@ -57,6 +57,8 @@ import com.sun.star.lib.uno.helper.Factory;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -64,6 +66,7 @@ import java.nio.file.attribute.FileTime;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -81,6 +84,7 @@ import org.xml.sax.SAXException;
 
 import com.sun.star.beans.PropertyValue;
 import com.sun.star.io.XInputStream;
+import com.sun.star.io.XSeekable;
 import com.sun.star.lang.EventObject;
 import com.sun.star.lang.IllegalArgumentException;
 import com.sun.star.lang.XComponent;
@@ -108,6 +112,9 @@ public final class H2OrestartImpl extends WeakBase implements ebandal.libreoffic
     private static String detectedFileExt;
     private static Logger rootLogger;
     private static String tmpFilePath;
+    private static ByteBuffer tmpBuffer;
+    // 이보다 큰 InputStream 은 메모리에 두지 않고 임시파일로 옮긴다.
+    private static final int MEMORY_LIMIT = 64*1024*1024;
 
     public H2OrestartImpl( XComponentContext context ) {
         writerContext = new WriterContext();
@@ -186,8 +193,22 @@ public final class H2OrestartImpl extends WeakBase implements ebandal.libreoffic
             String systemPath = ConvUtil.convertToSystemPath(writerContext, filePath);
             file = new File(systemPath);
         } else {
+            if (tmpBuffer==null && tmpFilePath==null) {
+                tmpBuffer = readToBuffer(inputStream);
+            }
+            // 메모리에 읽어 둔 HWP 문서는 임시파일을 만들지 않고 바로 읽는다.
+            if (tmpBuffer!=null && "HWP".equals(detectedFileExt)) {
+                ByteBuffer buffer = tmpBuffer;
+                tmpBuffer = null;           // 변환이 끝나면 바로 놓아준다. 문서가 열려 있는 동안 들고 있지 않는다.
+                return impl_import(buffer, filePath==null ? "" : filePath);
+            }
+            if (tmpFilePath==null && tmpBuffer!=null) {
+                tmpFilePath = copyToTmpFile(tmpBuffer);
+                tmpBuffer = null;
+            }
             if (tmpFilePath==null) {
-                tmpFilePath = copyToTmpFile(inputStream);
+                log.severe("Cannot read InputStream.");
+                return false;
             }
             file = new File(tmpFilePath);
         }
@@ -244,9 +265,23 @@ public final class H2OrestartImpl extends WeakBase implements ebandal.libreoffic
             String systemPath = ConvUtil.convertToSystemPath(writerContext, url);
             detectedFileExt = WriterContext.detectHancom(new File(systemPath));
         } else if (inputStream!=null) {
-            log.info("copying InputStream to temp File");
-            tmpFilePath = copyToTmpFile(inputStream);
-            detectedFileExt = WriterContext.detectHancom(new File(tmpFilePath));
+            log.info("reading InputStream into memory");
+            tmpBuffer = readToBuffer(inputStream);
+            if (tmpBuffer!=null) {
+                detectedFileExt = WriterContext.detectHancom(tmpBuffer);
+                if (detectedFileExt==null) {
+                    // HWPX 는 파일로 확인한다.
+                    log.info("copying InputStream to temp File");
+                    tmpFilePath = copyToTmpFile(tmpBuffer);
+                    tmpBuffer = null;
+                    if (tmpFilePath!=null) {
+                        detectedFileExt = WriterContext.detectHancom(new File(tmpFilePath));
+                    }
+                }
+            } else if (tmpFilePath!=null) {
+                // MEMORY_LIMIT 보다 커서 임시파일로 옮겨졌다.
+                detectedFileExt = WriterContext.detectHancom(new File(tmpFilePath));
+            }
         }
 
         if (detectedFileExt==null) {
@@ -276,6 +311,7 @@ public final class H2OrestartImpl extends WeakBase implements ebandal.libreoffic
             }
             tmpFilePath=null;
         }
+        tmpBuffer = null;
     }
 
     @Override
@@ -295,6 +331,20 @@ public final class H2OrestartImpl extends WeakBase implements ebandal.libreoffic
         } catch (OwpmlParseException | ParserConfigurationException | SAXException e) {
             e.printStackTrace();
         }
+        return impl_convert();
+    }
+
+    private boolean impl_import(ByteBuffer buffer, String filename) {
+        try {
+            writerContext.open(buffer, filename, detectedFileExt);
+        } catch (HwpDetectException | IOException | CompoundDetectException | NotImplementedException | CompoundParseException | DataFormatException | HwpParseException  e) {
+            log.severe(e.getMessage());
+            e.printStackTrace();
+        }
+        return impl_convert();
+    }
+
+    private boolean impl_convert() {
 
         // 화면 갱신 suspend
         // writerContext.mMyDocument.lockControllers();
@@ -304,6 +354,12 @@ public final class H2OrestartImpl extends WeakBase implements ebandal.libreoffic
             ConvPage.adjustFontIfNotExists(writerContext);    // 별 효과 없음.  차라리 미리 font 들을  OS에 설치하는 게 좋겠음.
             for (int i=0; i < writerContext.getDocInfo().charShapeList.size(); i++) {
                 // Bullet ID는 1부터 시작한다.
+                // 내용이 같은 글자 모양은 앞서 만든 style 을 같이 쓴다.
+                int canonicalId = writerContext.getDocInfo().getCharShapeCanonicalId(i);
+                if (canonicalId != i) {
+                    ConvPara.shareCustomCharacterStyle(i+1, canonicalId+1);
+                    continue;
+                }
                 ConvPara.makeCustomCharacterStyle(writerContext, i+1, (HwpRecord_CharShape)writerContext.getDocInfo().charShapeList.get(i));
             }
             for (int i=0; i < writerContext.getDocInfo().bulletList.size(); i++) {
@@ -317,7 +373,7 @@ public final class H2OrestartImpl extends WeakBase implements ebandal.libreoffic
 
             for (HwpSection section: sections) {
                 // 커스톰 PageStyle 생성
-                Ctrl_SectionDef secd = (Ctrl_SectionDef)section.paraList.stream()
+                Ctrl_SectionDef secd = (Ctrl_SectionDef)section.paraStream()
                                                                .filter(p -> p.p!=null && p.p.size()>0)
                                                                .flatMap(p -> p.p.stream())
                                                                .filter(c -> (c instanceof Ctrl_SectionDef)).findAny().get();
@@ -335,7 +391,7 @@ public final class H2OrestartImpl extends WeakBase implements ebandal.libreoffic
                 
             	HwpCallback callback = new HwpCallback();
 
-                for (HwpParagraph para: section.paraList) {
+                for (HwpParagraph para: section.paragraphs()) {
                     HwpRecurs.printParaRecurs(writerContext, writerContext, para, callback, 1);
                 }
                 // context.mMyDocument.unlockControllers();
@@ -442,30 +498,45 @@ public final class H2OrestartImpl extends WeakBase implements ebandal.libreoffic
         }
     }
     
-    private String copyToTmpFile(Object inputStream) {
-        String ret = null;
-        byte[] buf = new byte[4096];
+    /*
+     * InputStream 을 메모리로 읽는다. 길이를 알 수 있으면 그 크기로 한번만 할당한다.
+     * MEMORY_LIMIT 보다 크면 읽은 만큼과 나머지를 임시파일에 쓰고 null 을 돌려준다. 이때 tmpFilePath 가 정해진다.
+     */
+    private ByteBuffer readToBuffer(Object inputStream) {
+        ByteBuffer ret = null;
         XInputStream xinput = UnoRuntime.queryInterface(XInputStream.class, inputStream);
+        XSeekable seekable = UnoRuntime.queryInterface(XSeekable.class, inputStream);
         try {
-            Path baseDir = getAppCachePath();
-            Set<String> attrViews = baseDir.getFileSystem().supportedFileAttributeViews();
-            File tmpFile = null;
-            if (attrViews.contains("posix")) {
-                tmpFile = Files.createTempFile(baseDir, "H2O_TMP_", null,
-                                               PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
-                               .toFile();
-            } else {
-                tmpFile = Files.createTempFile(baseDir, "H2O_TMP_", null)
-                               .toFile();
+            long length = -1;
+            if (seekable != null) {
+                length = seekable.getLength() - seekable.getPosition();
             }
-            ret = tmpFile.toString();
-            try (FileOutputStream fos = new FileOutputStream(tmpFile);
-                 XInputStreamToInputStreamAdapter adapter = new XInputStreamToInputStreamAdapter(xinput)) {
-                while(true) {
-                    int readLen = adapter.read(buf, 0, buf.length);
-                    fos.write(buf, 0, readLen);
-                    if (readLen != buf.length) {
-                        break;
+            try (XInputStreamToInputStreamAdapter adapter = new XInputStreamToInputStreamAdapter(xinput)) {
+                if (length > MEMORY_LIMIT) {
+                    tmpFilePath = copyToTmpFile(adapter, null, 0);
+                } else {
+                    byte[] buf = new byte[length > 0 ? (int)length : 65536];
+                    int len = 0;
+                    while (true) {
+                        if (len == buf.length) {
+                            if (length > 0) {
+                                break;          // 길이만큼 다 읽었다.
+                            }
+                            if (buf.length >= MEMORY_LIMIT) {
+                                tmpFilePath = copyToTmpFile(adapter, buf, len);
+                                buf = null;
+                                break;
+                            }
+                            buf = Arrays.copyOf(buf, Math.min(buf.length*2, MEMORY_LIMIT));
+                        }
+                        int readLen = adapter.read(buf, len, buf.length-len);
+                        if (readLen <= 0) {
+                            break;
+                        }
+                        len += readLen;
+                    }
+                    if (buf != null) {
+                        ret = ByteBuffer.wrap(buf, 0, len).slice();
                     }
                 }
             }
@@ -477,6 +548,62 @@ public final class H2OrestartImpl extends WeakBase implements ebandal.libreoffic
         return ret;
     }
 
+    private String copyToTmpFile(ByteBuffer buffer) {
+        String ret = null;
+        try {
+            File tmpFile = createTmpFile();
+            ret = tmpFile.toString();
+            try (FileOutputStream fos = new FileOutputStream(tmpFile)) {
+                ByteBuffer src = buffer.duplicate();
+                while (src.hasRemaining()) {
+                    fos.getChannel().write(src);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return ret;
+    }
+
+    /*
+     * 이미 읽은 head[0..headLen) 을 쓰고, 나머지는 stream 에서 읽는 대로 임시파일에 쓴다.
+     */
+    private String copyToTmpFile(InputStream input, byte[] head, int headLen) {
+        String ret = null;
+        byte[] buf = new byte[65536];
+        try {
+            File tmpFile = createTmpFile();
+            ret = tmpFile.toString();
+            try (FileOutputStream fos = new FileOutputStream(tmpFile)) {
+                if (head != null) {
+                    fos.write(head, 0, headLen);
+                }
+                int readLen;
+                while ((readLen = input.read(buf, 0, buf.length)) > 0) {
+                    fos.write(buf, 0, readLen);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return ret;
+    }
+
+    private File createTmpFile() throws IOException {
+        Path baseDir = getAppCachePath();
+        Set<String> attrViews = baseDir.getFileSystem().supportedFileAttributeViews();
+        if (attrViews.contains("posix")) {
+            return Files.createTempFile(baseDir, "H2O_TMP_", null,
+                                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+                        .toFile();
+        } else {
+            return Files.createTempFile(baseDir, "H2O_TMP_", null)
+                        .toFile();
+        }
+    }
+
     private Path getAppCachePath() {
         String osName = System.getProperty("os.name").toLowerCase();
 
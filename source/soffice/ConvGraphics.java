@@ -89,6 +89,7 @@ import HwpDoc.HwpElement.HwpRecord_BorderFill.ImageFillType;
 import HwpDoc.HwpElement.HwpRecord_CharShape;
 import HwpDoc.HwpElement.HwpRecord_ParaShape;
 import HwpDoc.paragraph.Ctrl;
+import HwpDoc.paragraph.CtrlId;
 import HwpDoc.paragraph.Ctrl_AutoNumber;
 import HwpDoc.paragraph.Ctrl_Character;
 import HwpDoc.paragraph.Ctrl_Common;
@@ -122,41 +123,41 @@ public class ConvGraphics {
         XPropertySet paraProps = UnoRuntime.queryInterface(XPropertySet.class, paraCursor);
         ConvPara.setParagraphProperties(paraProps, paraShape, wContext.getDocInfo().compatibleDoc, ConvPara.PARA_SPACING);
 
-        switch (obj.ctrlId) {
-        case "cip$":
+        switch (obj.ctrlIdNum) {
+        case CtrlId.SHAPE_PICTURE:
             insertPICTURE(wContext, (Ctrl_ShapePic) obj, step, -1, -1);
             break;
-        case "div$":
+        case CtrlId.SHAPE_VIDEO:
             insertVIDEO(wContext, (Ctrl_ShapeVideo) obj, step, -1, -1);
             break;
-        case "cer$":
+        case CtrlId.SHAPE_RECT:
             if (obj.paras == null || obj.paras.size() < 1) {
                 insertRECTANGLE(wContext, (Ctrl_ShapeRect) obj, step, -1, -1);
             } else {
                 insertTextFrame(wContext, (Ctrl_ShapeRect) obj, step, -1, -1);
             }
             break;
-        case "nil$": // 선
-        case "loc$":
+        case CtrlId.SHAPE_LINE: // 선
+        case CtrlId.SHAPE_CONNECT_LINE:
             insertLINE(wContext, (Ctrl_ShapeLine) obj, step, -1, -1);
             break;
-        case "lle$": // 타원
+        case CtrlId.SHAPE_ELLIPSE: // 타원
             insertELLIPSE(wContext, (Ctrl_ShapeEllipse) obj, step, -1, -1);
             break;
-        case "lop$": // 다각형
+        case CtrlId.SHAPE_POLYGON: // 다각형
             insertPOLYGON(wContext, (Ctrl_ShapePolygon) obj, step, -1, -1);
             break;
-        case "ruc$": // 곡선
+        case CtrlId.SHAPE_CURVE: // 곡선
             insertCURVE(wContext, (Ctrl_ShapeCurve) obj, step);
             break;
-        case "cra$":
+        case CtrlId.SHAPE_ARC:
             insertARC(wContext, (Ctrl_ShapeArc) obj, step, -1, -1);
             break;
-        case "noc$": // 묶음 개체
+        case CtrlId.SHAPE_CONTAINER: // 묶음 개체
             insertMulti(wContext, (Ctrl_Container) obj, step);
             break;
-        case "elo$": // OLE
-        case "tat$": // 글맵시
+        case CtrlId.SHAPE_OLE: // OLE
+        case CtrlId.SHAPE_TEXTART: // 글맵시
             insertDummyTextFrame(wContext, (Ctrl_GeneralShape) obj, step);
             break;
         default:
@@ -549,12 +550,12 @@ public class ConvGraphics {
                     shape.rotat = (short) Math.toDegrees(radian);
                 }
 
-                switch (shape.getClass().getSimpleName()) {
-                case "Ctrl_ShapeArc":
-                case "Ctrl_ShapeEllipse":
-                case "Ctrl_ShapeRect":
-                case "Ctrl_ShapePolygon":
-                case "Ctrl_ShapePic":
+                switch (shape.ctrlIdNum) {
+                case CtrlId.SHAPE_ARC:
+                case CtrlId.SHAPE_ELLIPSE:
+                case CtrlId.SHAPE_RECT:
+                case CtrlId.SHAPE_POLYGON:
+                case CtrlId.SHAPE_PICTURE:
                     sizeWidth = shape.curWidth;
                     sizeHeight = shape.curHeight;
                     // 2레벨 container(nGrp>=2) 에서는 무조건 scale 연산을 하도록.
@@ -563,13 +564,14 @@ public class ConvGraphics {
                         sizeHeight = (int) (shape.iniHeight * yScale /* /container.matrixSeq[4] */);
                     }
                     break;
-                case "Ctrl_ShapeLine":
+                case CtrlId.SHAPE_LINE:
+                case CtrlId.SHAPE_CONNECT_LINE:
                     sizeWidth = (((Ctrl_ShapeLine) shape).endX - ((Ctrl_ShapeLine) shape).startX);
                     sizeHeight = (((Ctrl_ShapeLine) shape).endY - ((Ctrl_ShapeLine) shape).startY);
                     sizeWidth = (int) (shape.iniWidth * xScale /* /container.matrixSeq[0] */);
                     sizeHeight = (int) (shape.iniHeight * yScale /* /container.matrixSeq[4] */);
                     break;
-                case "Ctrl_Container":
+                case CtrlId.SHAPE_CONTAINER:
                 default:
                 }
 
@@ -957,7 +959,7 @@ public class ConvGraphics {
                             if (c instanceof ParaText) {
                                 paraText = (ParaText) c;
                                 charShapeId = ((ParaText)c).charShapeId;
-                                HwpRecurs.insertDrawingString(innerContext, paraText.text, para.paraStyleID, para.paraShapeID, (short)charShapeId, false, step);
+                                HwpRecurs.insertDrawingString(innerContext, paraText.getText(), para.paraStyleID, para.paraShapeID, (short)charShapeId, false, step);
                             } else if (c instanceof Ctrl_Character) {
                                 // last PARA_BREAK은 쓰지 않는다.
                                 if (i<shape.paras.size()-1 || j<para.p.size()-1) {
@@ -175,6 +175,9 @@ public class ConvPage {
         	}
         	
             for (int i = 0; i < wContext.getDocInfo().charShapeList.size(); i++) {
+                if (wContext.getDocInfo().getCharShapeCanonicalId(i) != i) {
+                    continue;   // 앞에서 이미 바꾼 같은 객체
+                }
                 HwpRecord_CharShape font = (HwpRecord_CharShape) wContext.getDocInfo().charShapeList.get(i);
 
                 if (font.fontName[0]!=null && WriterContext.fontNameSet.contains(font.fontName[0])==false) {
@@ -20,8 +20,7 @@
  */
 package soffice;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import com.sun.star.awt.FontRelief;
@@ -59,8 +58,9 @@ import HwpDoc.HwpElement.HwpRecord_TabDef.Tab;
 
 public class ConvPara {
     private static final Logger log = Logger.getLogger(ConvPara.class.getName());
-    private static Map<Integer, String> paragraphStyleNameMap = new HashMap<Integer, String>();
-    private static Map<Integer, String> characterStyleNameMap = new HashMap<Integer, String>();
+    // style ID 를 index 로 하는 style 이름. 만들지 않은 ID 는 null.
+    private static String[] paragraphStyleNames = new String[0];
+    private static String[] characterStyleNames = new String[0];
     private static final String PARAGRAPH_STYLE_PREFIX = "HWP ";
 
     static final double PARA_SPACING = 0.85; // 0.75;
@@ -76,11 +76,14 @@ public class ConvPara {
                 XNameAccess xFamilies = (XNameAccess) UnoRuntime.queryInterface (XNameAccess.class, xSupplier.getStyleFamilies());
                 
                 XNameContainer xParagraphFamily = (XNameContainer) UnoRuntime.queryInterface(XNameContainer.class, xFamilies.getByName("ParagraphStyles"));
-                for (Integer custIndex: paragraphStyleNameMap.keySet()) {
-                    log.info("Deleting "+paragraphStyleNameMap.get(custIndex));
-                    if (xParagraphFamily.hasByName(paragraphStyleNameMap.get(custIndex))) {
+                for (String styleName: paragraphStyleNames) {
+                    if (styleName==null) {
+                        continue;
+                    }
+                    log.info("Deleting "+styleName);
+                    if (xParagraphFamily.hasByName(styleName)) {
                         try {
-                            xParagraphFamily.removeByName(paragraphStyleNameMap.get(custIndex));
+                            xParagraphFamily.removeByName(styleName);
                         } catch (com.sun.star.lang.DisposedException e) {
                             e.printStackTrace();
                         }
@@ -90,7 +93,19 @@ public class ConvPara {
                 e.printStackTrace();
             }
         }
-        paragraphStyleNameMap.clear();
+        Arrays.fill(paragraphStyleNames, null);
+    }
+    
+    private static String[] putStyleName(String[] names, int id, String name) {
+        if (id >= names.length) {
+            names = Arrays.copyOf(names, Math.max(id+1, names.length*2));
+        }
+        names[id] = name;
+        return names;
+    }
+    
+    private static String getStyleName(String[] names, int id) {
+        return id >= 0 && id < names.length ? names[id] : null;
     }
 
     public static void makeCustomParagraphStyle(WriterContext wContext, int id, HwpRecord_Style hwpStyle) {
@@ -108,7 +123,7 @@ public class ConvPara {
             if (xFamily.hasByName(hwpStyleName)==false) {
                 xFamily.insertByName (hwpStyleName, xListStyle);
             }
-            paragraphStyleNameMap.put(id, hwpStyleName);
+            paragraphStyleNames = putStyleName(paragraphStyleNames, id, hwpStyleName);
             
             XPropertySet xStyleProps = (XPropertySet) UnoRuntime.queryInterface(XPropertySet.class, xFamily.getByName(hwpStyleName));
             
@@ -140,7 +155,7 @@ public class ConvPara {
             if (xFamily.hasByName(hwpStyleName)==false) {
                 xFamily.insertByName (hwpStyleName, xListStyle);
             }
-            characterStyleNameMap.put(id, hwpStyleName);
+            characterStyleNames = putStyleName(characterStyleNames, id, hwpStyleName);
             
             XPropertySet xStyleProps = (XPropertySet) UnoRuntime.queryInterface(XPropertySet.class, xFamily.getByName(hwpStyleName));
             
@@ -158,6 +173,16 @@ public class ConvPara {
         }
     }
 
+    /*
+     * id 글자 모양을 내용이 같은 canonicalId 의 style 로 쓴다. style 을 새로 만들지 않는다.
+     */
+    public static void shareCustomCharacterStyle(int id, int canonicalId) {
+        String hwpStyleName = getStyleName(characterStyleNames, canonicalId);
+        if (hwpStyleName != null) {
+            characterStyleNames = putStyleName(characterStyleNames, id, hwpStyleName);
+        }
+    }
+    
     static void setNumberingProperties(XPropertySet xStyleProps, HwpRecord_ParaShape paraShape) {
         String numberingStyleName = "";
         try {
@@ -991,11 +1016,11 @@ public class ConvPara {
     }
 
     static String getStyleName(int styleID) {
-        return paragraphStyleNameMap.get(styleID);
+        return getStyleName(paragraphStyleNames, styleID);
     }
 
     static String getCharStyleName(int styleID) {
-        return characterStyleNameMap.get(styleID);
+        return getStyleName(characterStyleNames, styleID);
     }
 
     
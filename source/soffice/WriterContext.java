@@ -22,6 +22,7 @@ package soffice;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -73,6 +74,7 @@ public class WriterContext {
     private static HanType hType;
     public static HwpFile hwp = null;
     public static HwpxFile hwpx = null;
+    private static HwpDocInfo docInfo;     // open() 에서 정해진다. 모양 getter 들은 이 표에서 바로 찾는다.
     public static int version;
     public static Set<String> fontNameSet = new HashSet<String>();
 
@@ -115,20 +117,47 @@ public class WriterContext {
         } catch (IOException | HwpDetectException e1) {
             log.info("file detected not HWPX");
 
+            HwpFile hwpTemp = null;
             try {
-                HwpFile hwpTemp = new HwpFile(file);
+                hwpTemp = new HwpFile(file);
+                hwpTemp.getOleFile().setLazy(true);     // FileHeader 만 읽는다.
                 hwpTemp.detect();
                 detectingType = "HWP";
-                hwpTemp.close();
                 log.info("file detected as HWP");
             } catch (IOException | HwpDetectException e2) {
                 log.info("file detected neither HWPX nor HWP");
+            } finally {
+                if (hwpTemp != null) {
+                    try {
+                        hwpTemp.close();
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                }
             }
         }
 
         return detectingType;
     }
 
+    // 메모리에 있는 문서는 HWP 인지만 확인한다. HWPX 는 파일로만 읽을 수 있으므로 null 이면 파일로 다시 확인해야 한다.
+    public static String detectHancom(ByteBuffer buffer) {
+        String detectingType = null;
+
+        try {
+            HwpFile hwpTemp = new HwpFile(buffer, "");
+            hwpTemp.getOleFile().setLazy(true);     // FileHeader 만 읽는다.
+            hwpTemp.detect();
+            detectingType = "HWP";
+            hwpTemp.close();
+            log.info("buffer detected as HWP");
+        } catch (IOException | HwpDetectException e) {
+            log.info("buffer detected not HWP");
+        }
+
+        return detectingType;
+    }
+
     public void detect() throws HwpDetectException, CompoundDetectException, NotImplementedException, IOException,
                                 CompoundParseException, ParserConfigurationException, SAXException, DataFormatException {
         switch (hType) {
@@ -150,13 +179,16 @@ public class WriterContext {
         switch (hanTypeStr) {
         case "HWP":
             hType = HanType.HWP;
-            hwp = new HwpFile(inputFile);
+            hwp = new HwpFile(new File(inputFile), true);     // import 할 때만 mapping 해서 읽는다.
+            hwp.setParallel(true);     // section 들은 동시에 읽는다.
             hwp.open();
+            docInfo = hwp.getDocInfo();
             break;
         case "HWPX":
             hType = HanType.HWPX;
             hwpx = new HwpxFile(inputFile);
             hwpx.open();
+            docInfo = hwpx.getDocInfo();
             break;
         default:
             throw new HwpDetectException();
@@ -170,13 +202,32 @@ public class WriterContext {
         switch (hanTypeStr) {
         case "HWP":
             hType = HanType.HWP;
-            hwp = new HwpFile(inputFile);
+            hwp = new HwpFile(inputFile, true);     // import 할 때만 mapping 해서 읽는다.
+            hwp.setParallel(true);     // section 들은 동시에 읽는다.
             hwp.open();
+            docInfo = hwp.getDocInfo();
             break;
         case "HWPX":
             hType = HanType.HWPX;
             hwpx = new HwpxFile(inputFile);
             hwpx.open();
+            docInfo = hwpx.getDocInfo();
+            break;
+        default:
+            throw new HwpDetectException();
+        }
+    }
+
+    public void open(ByteBuffer buffer, String filename, String hanTypeStr) throws HwpDetectException, CompoundDetectException,
+                                                                                  IOException, DataFormatException, HwpParseException, 
+                                                                                  NotImplementedException, CompoundParseException {
+        switch (hanTypeStr) {
+        case "HWP":
+            hType = HanType.HWP;
+            hwp = new HwpFile(buffer, filename);
+            hwp.setParallel(true);     // section 들은 동시에 읽는다.
+            hwp.open();
+            docInfo = hwp.getDocInfo();
             break;
         default:
             throw new HwpDetectException();
@@ -200,121 +251,43 @@ public class WriterContext {
     }
 
     public HwpDocInfo getDocInfo() {
-        HwpDocInfo docInfo = null;
-        switch (hType) {
-        case HWP:
-            docInfo = hwp.getDocInfo();
-            break;
-        case HWPX:
-            docInfo = hwpx.getDocInfo();
-            break;
-        }
         return docInfo;
     }
 
     public static HwpRecord_BorderFill getBorderFill(short id) {
-        HwpDocInfo docInfo = null;
-        switch (hType) {
-        case HWP:
-            docInfo = hwp.getDocInfo();
-            break;
-        case HWPX:
-            docInfo = hwpx.getDocInfo();
-            break;
-        }
-
-        return (id > 0 ? (HwpRecord_BorderFill) docInfo.borderFillList.get(id - 1) : null);
+        return (id > 0 ? docInfo.getBorderFill(id - 1) : null);
     }
 
     public HwpRecord_ParaShape getParaShape(int id) {
-        HwpDocInfo docInfo = null;
-        switch (hType) {
-        case HWP:
-            docInfo = hwp.getDocInfo();
-            break;
-        case HWPX:
-            docInfo = hwpx.getDocInfo();
-            break;
-        }
-        if (id >= 0 && id < docInfo.paraShapeList.size()) {
-            return (HwpRecord_ParaShape) docInfo.paraShapeList.get(id);
-        } else {
-            return null;
-        }
+        return docInfo.getParaShape(id);
     }
 
     public HwpRecord_Style getParaStyle(short id) {
-        HwpDocInfo docInfo = null;
-        switch (hType) {
-        case HWP:
-            docInfo = hwp.getDocInfo();
-            break;
-        case HWPX:
-            docInfo = hwpx.getDocInfo();
-            break;
-        }
-
-        return (HwpRecord_Style) docInfo.styleList.get(id);
+        return docInfo.getStyle(id);
     }
 
     public HwpRecord_CharShape getCharShape(int id) {
-        HwpDocInfo docInfo = null;
-        switch (hType) {
-        case HWP:
-            docInfo = hwp.getDocInfo();
-            break;
-        case HWPX:
-            docInfo = hwpx.getDocInfo();
-            break;
-        }
-        if (id >= 0 && id < docInfo.charShapeList.size()) {
-            return (HwpRecord_CharShape) docInfo.charShapeList.get(id);
-        } else {
-            return null;
-        }
+        return docInfo.getCharShape(id);
     }
 
     public HwpRecord_Numbering getNumbering(short id) {
-        HwpDocInfo docInfo = null;
-        switch (hType) {
-        case HWP:
-            docInfo = hwp.getDocInfo();
-            break;
-        case HWPX:
-            docInfo = hwpx.getDocInfo();
-            break;
-        }
-
-        return (HwpRecord_Numbering) docInfo.numberingList.get(id);
+        return docInfo.getNumbering(id);
     }
 
     public HwpRecord_Bullet getBullet(short id) {
-        HwpDocInfo docInfo = null;
-        switch (hType) {
-        case HWP:
-            docInfo = hwp.getDocInfo();
-            break;
-        case HWPX:
-            docInfo = hwpx.getDocInfo();
-            break;
-        }
-
-        return (HwpRecord_Bullet) docInfo.bulletList.get(id - 1);
+        return docInfo.getBullet(id - 1);
     }
 
     public String getBinFilename(String id) {
         HwpRecord_BinData binData = null;
         String retString = "";
-        HwpDocInfo docInfo = null;
         switch (hType) {
         case HWP:
-            docInfo = hwp.getDocInfo();
             ArrayList<String> keyList = new ArrayList<String>(docInfo.binDataList.keySet());
             String key = keyList.get(Integer.parseInt(id));
             binData = (HwpRecord_BinData) docInfo.binDataList.get(key);
             break;
         case HWPX:
-            docInfo = hwpx.getDocInfo();
             binData = (HwpRecord_BinData) docInfo.binDataList.get(id);
             break;
         }
@@ -331,10 +304,8 @@ public class WriterContext {
 
     public byte[] getBinBytes(String id) {
         byte[] imageBytes = null;
-        HwpDocInfo docInfo = null;
         switch (hType) {
         case HWP: {
-            docInfo = hwp.getDocInfo();
             ArrayList<String> keyList = new ArrayList<String>(docInfo.binDataList.keySet());
             String key = keyList.get(Integer.parseInt(id));
             HwpRecord_BinData binData = (HwpRecord_BinData) docInfo.binDataList.get(key);
@@ -358,7 +329,6 @@ public class WriterContext {
         }
             break;
         case HWPX: {
-            docInfo = hwpx.getDocInfo();
             HwpRecord_BinData binData = (HwpRecord_BinData) docInfo.binDataList.get(id);
             if (binData != null) {
                 try {
@@ -377,17 +347,14 @@ public class WriterContext {
 
     public String getBinFormat(String id) {
         HwpRecord_BinData binData = null;
-        HwpDocInfo docInfo = null;
         switch (hType) {
         case HWP: {
-            docInfo = hwp.getDocInfo();
             ArrayList<String> keyList = new ArrayList<String>(docInfo.binDataList.keySet());
             String key = keyList.get(Integer.parseInt(id));
             binData = (HwpRecord_BinData) docInfo.binDataList.get(key);
         }
             break;
         case HWPX: {
-            docInfo = hwpx.getDocInfo();
             binData = (HwpRecord_BinData) docInfo.binDataList.get(id);
         }
             break;
@@ -397,41 +364,14 @@ public class WriterContext {
     }
 
     public static HwpRecord_TabDef getTabDef(short id) {
-        HwpDocInfo docInfo = null;
-        switch (hType) {
-        case HWP:
-            docInfo = hwp.getDocInfo();
-            break;
-        case HWPX:
-            docInfo = hwpx.getDocInfo();
-            break;
-        }
-        return (HwpRecord_TabDef) docInfo.tabDefList.get(id);
+        return docInfo.getTabDef(id);
     }
     
     public static List<HwpRecord_FaceName> getFontNames() {
-        HwpDocInfo docInfo = null;
-        switch (hType) {
-        case HWP:
-            docInfo = hwp.getDocInfo();
-            break;
-        case HWPX:
-            docInfo = hwpx.getDocInfo();
-            break;
-        }
         return docInfo.faceNameList.stream().map(r -> (HwpRecord_FaceName)r).collect(Collectors.toList());
     }
 
     public static void setFontNameLineSpaceAlpha(String faceName, double fontLineSpaceAlpha) {
-        HwpDocInfo docInfo = null;
-        switch (hType) {
-        case HWP:
-            docInfo = hwp.getDocInfo();
-            break;
-        case HWPX:
-            docInfo = hwpx.getDocInfo();
-            break;
-        }
         docInfo.setFontNameLineSpaceAlpha(faceName, fontLineSpaceAlpha);
     }
     